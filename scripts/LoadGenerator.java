@@ -0,0 +1,112 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator used by throughput-benchmark.sh. Each of CONCURRENCY virtual threads
+ * issues the read mix below back to back; results from the warm-up period are discarded.
+ *
+ * Usage: java LoadGenerator.java BASE_URL TOKEN USER_ID CONCURRENCY WARMUP_SECONDS DURATION_SECONDS
+ * Prints one line: requests=... errors=... rps=... p50_ms=... p99_ms=...
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String token = args[1];
+        long userId = Long.parseLong(args[2]);
+        int concurrency = Integer.parseInt(args[3]);
+        long warmupMs = Long.parseLong(args[4]) * 1000;
+        long durationMs = Long.parseLong(args[5]) * 1000;
+
+        LocalDate today = LocalDate.now();
+        List<URI> mix = List.of(
+            URI.create(baseUrl + "/expenses?userId=" + userId + "&size=20"),
+            URI.create(baseUrl + "/expenses/category/FOOD?userId=" + userId + "&size=20"),
+            URI.create(baseUrl + "/expenses/range?userId=" + userId
+                + "&startDate=" + today.minusDays(30) + "&endDate=" + today),
+            URI.create(baseUrl + "/analytics/category-summary"));
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                latencies.add(new long[0]);
+                int worker = i;
+                executor.submit(() -> {
+                    long[] samples = new long[4096];
+                    int count = 0;
+                    while (running.get()) {
+                        URI uri = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Authorization", "Bearer " + token)
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        if (measuring.get()) {
+                            if (!ok) {
+                                errors.incrementAndGet();
+                            }
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = elapsed;
+                        }
+                    }
+                    latencies.set(worker, Arrays.copyOf(samples, count));
+                    return null;
+                });
+            }
+            Thread.sleep(warmupMs);
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            Thread.sleep(durationMs);
+            measuring.set(false);
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(60, TimeUnit.SECONDS);
+
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            long requests = all.length;
+            System.out.printf("requests=%d errors=%d rps=%.1f p50_ms=%.2f p99_ms=%.2f%n",
+                requests, errors.get(), requests / seconds,
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6);
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,133 @@
+#!/usr/bin/env bash
+#
+# Reports time-to-first-request for each startup mode that has been built:
+#   jar      - plain executable jar
+#   aot      - executable jar with Spring AOT (requires mvn -Paot package)
+#   cds      - exploded jar with the AppCDS archive (requires mvn -Pcds package)
+#   aot+cds  - both (requires mvn -Paot,cds package)
+#   native   - GraalVM native image (requires mvn -Pnative native:compile)
+#
+# Time-to-first-request is measured from process launch until /actuator/health answers 200.
+#
+# Usage: RUNS=5 PROFILE=test PORT=18090 scripts/startup-benchmark.sh [mode...]
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-3}
+PROFILE=${PROFILE:-test}
+PORT=${PORT:-18090}
+JAVA=${JAVA:-java}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+HEALTH_URL="http://localhost:${PORT}/api/v1/actuator/health"
+
+VERSION=${VERSION:-$(sed -n 's:^    <version>\(.*\)</version>:\1:p' pom.xml | head -n 1)}
+JAR="target/expense-manager-api-${VERSION}.jar"
+CDS_DIR="target/cds"
+CDS_JAR="expense-manager-api-${VERSION}-cds.jar"
+NATIVE="target/expense-manager-api"
+
+export JWT_SECRET=${JWT_SECRET:-startup-benchmark-secret-key-long-enough-for-hs512-signatures-0123456789}
+
+now_ms() {
+    date +%s%3N
+}
+
+# Prints the launch command for a mode, or nothing if the mode has not been built.
+command_for() {
+    local common="--spring.profiles.active=${PROFILE} --server.port=${PORT}"
+    case "$1" in
+        jar)
+            [[ -f "$JAR" ]] && echo "$JAVA -jar $JAR $common"
+            ;;
+        aot)
+            [[ -d target/spring-aot ]] && [[ -f "$JAR" ]] \
+                && echo "$JAVA -Dspring.aot.enabled=true -jar $JAR $common"
+            ;;
+        cds)
+            [[ -f "$CDS_DIR/application.jsa" ]] \
+                && echo "$JAVA -XX:SharedArchiveFile=application.jsa -jar $CDS_JAR $common"
+            ;;
+        aot+cds)
+            [[ -f "$CDS_DIR/application.jsa" ]] && [[ -d target/spring-aot ]] \
+                && echo "$JAVA -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar $CDS_JAR $common"
+            ;;
+        native)
+            [[ -x "$NATIVE" ]] && echo "$(pwd)/$NATIVE $common"
+            ;;
+        *)
+            echo "Unknown mode: $1" >&2
+            exit 1
+            ;;
+    esac
+    return 0
+}
+
+workdir_for() {
+    case "$1" in
+        cds|aot+cds) echo "$CDS_DIR" ;;
+        *) echo "." ;;
+    esac
+}
+
+# Launches the command, waits for a healthy response and prints the elapsed milliseconds.
+measure() {
+    local cmd=$1 dir=$2
+    local start pid elapsed
+    start=$(now_ms)
+    (cd "$dir" && exec $cmd >"${LOG:-/dev/null}" 2>&1) &
+    pid=$!
+    while true; do
+        if curl -sf -o /dev/null "$HEALTH_URL"; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "process exited before becoming healthy" >&2
+            return 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+            kill "$pid" 2>/dev/null || true
+            echo "timed out after ${TIMEOUT_SECONDS}s" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed"
+}
+
+if [[ $# -gt 0 ]]; then
+    MODES=("$@")
+else
+    MODES=(jar aot cds aot+cds native)
+fi
+
+printf '%-10s %8s %8s %8s  %s\n' "mode" "min(ms)" "avg(ms)" "max(ms)" "runs"
+for mode in "${MODES[@]}"; do
+    cmd=$(command_for "$mode")
+    if [[ -z "$cmd" ]]; then
+        printf '%-10s %8s\n' "$mode" "not built"
+        continue
+    fi
+    dir=$(workdir_for "$mode")
+    results=()
+    for ((i = 1; i <= RUNS; i++)); do
+        if ms=$(measure "$cmd" "$dir"); then
+            results+=("$ms")
+        fi
+    done
+    if [[ ${#results[@]} -eq 0 ]]; then
+        printf '%-10s %8s\n' "$mode" "failed"
+        continue
+    fi
+    min=${results[0]}; max=${results[0]}; sum=0
+    for ms in "${results[@]}"; do
+        (( ms < min )) && min=$ms
+        (( ms > max )) && max=$ms
+        sum=$(( sum + ms ))
+    done
+    printf '%-10s %8d %8d %8d  %s\n' "$mode" "$min" "$(( sum / ${#results[@]} ))" "$max" "${results[*]}"
+done
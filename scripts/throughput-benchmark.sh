@@ -0,0 +1,134 @@
+#!/usr/bin/env bash
+#
+# Compares throughput per core of the servlet (Spring MVC + JPA) and reactive (WebFlux + R2DBC) modes
+# under the same closed-loop read mix (see LoadGenerator.java): paged expense list, category page, date
+# range and category summary.
+#
+# Each mode runs from the same jar, pinned to CORES CPUs with taskset and -XX:ActiveProcessorCount so
+# the JVM sizes its pools for that budget. Rate and concurrency limiting and the servlet warm-up are
+# disabled so neither mode is throttled; the load generator has its own warm-up period instead.
+#
+# PROFILE=test uses in-memory H2, which hides the I/O waits the reactive mode is meant to overlap; for
+# representative numbers point both modes at Postgres:
+#   PROFILE=dev DB_URL=jdbc:postgresql://host/db R2DBC_URL=r2dbc:postgresql://host/db \
+#   DB_USERNAME=... DB_PASSWORD=... scripts/throughput-benchmark.sh
+#
+# Usage: CORES=2 CONCURRENCY=64 DURATION=30 scripts/throughput-benchmark.sh [servlet|reactive ...]
+# Build first: mvn package -DskipTests
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CORES=${CORES:-2}
+CONCURRENCY=${CONCURRENCY:-64}
+WARMUP=${WARMUP:-15}
+DURATION=${DURATION:-30}
+SEED_EXPENSES=${SEED_EXPENSES:-500}
+PROFILE=${PROFILE:-test}
+PORT=${PORT:-18091}
+JAVA=${JAVA:-java}
+# CPUs for the load generator; keep them disjoint from the server's when the machine allows
+LOADGEN_CPUS=${LOADGEN_CPUS:-}
+
+VERSION=${VERSION:-$(sed -n 's:^    <version>\(.*\)</version>:\1:p' pom.xml | head -n 1)}
+JAR="target/expense-manager-api-${VERSION}.jar"
+BASE_URL="http://localhost:${PORT}/api/v1"
+
+export JWT_SECRET=${JWT_SECRET:-throughput-benchmark-secret-key-long-enough-for-hs512-signatures-0123456789}
+
+[[ -f "$JAR" ]] || { echo "Build the jar first: mvn package -DskipTests" >&2; exit 1; }
+
+SERVER_CPUS="0-$((CORES - 1))"
+PID=""
+
+cleanup() {
+    [[ -n "$PID" ]] && kill "$PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+json_field() {
+    sed -n "s/.*\"$1\":\"\{0,1\}\([^,\"}]*\).*/\1/p"
+}
+
+start_server() {
+    local mode=$1
+    taskset -c "$SERVER_CPUS" "$JAVA" -XX:ActiveProcessorCount="$CORES" -jar "$JAR" \
+        --app.mode="$mode" \
+        --spring.profiles.active="$PROFILE" \
+        --server.port="$PORT" \
+        --app.rate-limit.enabled=false \
+        --app.concurrency-limit.enabled=false \
+        --app.warmup.enabled=false \
+        --spring.jpa.show-sql=false \
+        --logging.level.root=WARN \
+        --logging.level.com.expensemanager=WARN \
+        --logging.level.org.hibernate.SQL=WARN \
+        --logging.level.org.springframework.security=WARN \
+        >"${LOG:-/dev/null}" 2>&1 &
+    PID=$!
+    for _ in $(seq 1 180); do
+        curl -sf -o /dev/null "$BASE_URL/actuator/health/readiness" && return 0
+        kill -0 "$PID" 2>/dev/null || { echo "$mode server exited during startup" >&2; return 1; }
+        sleep 1
+    done
+    echo "$mode server did not become ready" >&2
+    return 1
+}
+
+# Registers a fresh user, seeds expenses over the last 30 days and prints "<userId> <token>".
+seed() {
+    local username="bench$RANDOM$RANDOM" response user_id token body
+    curl -sf -o /dev/null -X POST "$BASE_URL/auth/register" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$username\",\"email\":\"$username@bench.invalid\",\"password\":\"benchmark-password\"}"
+    response=$(curl -sf -X POST "$BASE_URL/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$username\",\"email\":\"$username@bench.invalid\",\"password\":\"benchmark-password\"}")
+    user_id=$(echo "$response" | json_field userId)
+    token=$(echo "$response" | json_field accessToken)
+
+    local categories=(FOOD TRANSPORTATION UTILITIES ENTERTAINMENT SHOPPING)
+    body='{"expenses":['
+    for ((i = 0; i < SEED_EXPENSES; i++)); do
+        (( i > 0 )) && body+=','
+        body+="{\"amount\":$(( (i % 97) + 1 )).$(( i % 100 )),\"category\":\"${categories[i % 5]}\","
+        body+="\"description\":\"Seed expense $i\",\"expenseDate\":\"$(date -d "-$(( i % 30 )) days" +%F)\"}"
+    done
+    body+=']}'
+    curl -sf -o /dev/null -X POST "$BASE_URL/expenses/bulk?userId=$user_id" \
+        -H "Authorization: Bearer $token" -H 'Content-Type: application/json' -d "$body"
+    echo "$user_id $token"
+}
+
+run_load() {
+    local user_id=$1 token=$2
+    local cmd=("$JAVA" scripts/LoadGenerator.java "$BASE_URL" "$token" "$user_id" "$CONCURRENCY" "$WARMUP" "$DURATION")
+    if [[ -n "$LOADGEN_CPUS" ]]; then
+        taskset -c "$LOADGEN_CPUS" "${cmd[@]}"
+    else
+        "${cmd[@]}"
+    fi
+}
+
+if [[ $# -gt 0 ]]; then
+    MODES=("$@")
+else
+    MODES=(servlet reactive)
+fi
+
+echo "cores=$CORES concurrency=$CONCURRENCY warmup=${WARMUP}s duration=${DURATION}s profile=$PROFILE"
+printf '%-10s %10s %12s %10s %10s %8s\n' "mode" "rps" "rps/core" "p50(ms)" "p99(ms)" "errors"
+for mode in "${MODES[@]}"; do
+    start_server "$mode"
+    read -r user_id token < <(seed)
+    result=$(run_load "$user_id" "$token")
+    cleanup
+    wait "$PID" 2>/dev/null || true
+    PID=""
+
+    rps=$(echo "$result" | sed -n 's/.*rps=\([0-9.]*\).*/\1/p')
+    p50=$(echo "$result" | sed -n 's/.*p50_ms=\([0-9.]*\).*/\1/p')
+    p99=$(echo "$result" | sed -n 's/.*p99_ms=\([0-9.]*\).*/\1/p')
+    errors=$(echo "$result" | sed -n 's/.*errors=\([0-9]*\).*/\1/p')
+    printf '%-10s %10s %12s %10s %10s %8s\n' "$mode" "$rps" \
+        "$(awk -v r="$rps" -v c="$CORES" 'BEGIN { printf "%.1f", r / c }')" "$p50" "$p99" "$errors"
+done
@@ -1,16 +1,53 @@
 package com.expensemanager;
 
+import com.expensemanager.infrastructure.config.ApplicationRuntimeHints;
+import com.expensemanager.reactive.ReactiveExpenseManagerApplication;
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main entry point for the Secure Expense Manager API.
+ *
+ * <p>Equivalent to {@code @SpringBootApplication}, except that the reactive mode
+ * ({@code com.expensemanager.reactive}) and the R2DBC auto-configuration are left out; start with
+ * {@code --app.mode=reactive} to run that mode instead.
  */
-@SpringBootApplication
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+    R2dbcAutoConfiguration.class,
+    R2dbcDataAutoConfiguration.class,
+    R2dbcRepositoriesAutoConfiguration.class,
+    R2dbcTransactionManagerAutoConfiguration.class
+})
+@ComponentScan(excludeFilters = {
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.expensemanager\\.reactive\\..*")
+})
+@ImportRuntimeHints(ApplicationRuntimeHints.class)
 public class ExpenseManagerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ExpenseManagerApplication.class, args);
+        if (ReactiveExpenseManagerApplication.isSelected(args)) {
+            ReactiveExpenseManagerApplication.main(args);
+            return;
+        }
+        SpringApplication application = new SpringApplication(ExpenseManagerApplication.class);
+        // Spring Security 6.2.1 registers mvcHandlerMappingIntrospectorRequestTransformer both in the
+        // AOT-generated bean definitions and at runtime; only AOT-processed builds need the override
+        application.setAllowBeanDefinitionOverriding(AotDetector.useGeneratedArtifacts());
+        application.run(args);
     }
 
 }
@@ -0,0 +1,130 @@
+package com.expensemanager.api.controller;
+
+import com.expensemanager.application.service.UserService;
+import com.expensemanager.domain.enums.Role;
+import com.expensemanager.infrastructure.observability.JfrRecordingService;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Map;
+
+/**
+ * REST Controller for administrative diagnostics.
+ * Base path: /api/v1/admin
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Administrative diagnostics endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@Slf4j
+public class AdminController extends BaseController {
+
+    private final JfrRecordingService jfrRecordingService;
+    private final UserService userService;
+
+    /**
+     * Get the state of the on-demand flight recording.
+     *
+     * @param authentication Spring Security authentication object
+     * @return recording state
+     */
+    @GetMapping("/jfr")
+    @Operation(summary = "Get JFR recording state")
+    @ApiResponse(responseCode = "200", description = "Recording state")
+    public ResponseEntity<Map<String, String>> getJfrState(Authentication authentication) {
+        requireAdmin(authentication);
+        RecordingState state = jfrRecordingService.getState();
+        return ResponseEntity.ok(Map.of("state", state != null ? state.name() : "NONE"));
+    }
+
+    /**
+     * Start a flight recording with the preset profile.
+     *
+     * @param authentication Spring Security authentication object
+     * @return recording state
+     */
+    @PostMapping("/jfr/start")
+    @Operation(summary = "Start JFR recording",
+        description = "Start a Java Flight Recorder recording including the application's custom events")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Recording started"),
+        @ApiResponse(responseCode = "409", description = "A recording is already in progress"),
+        @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    public ResponseEntity<Map<String, String>> startJfr(Authentication authentication)
+            throws IOException, ParseException {
+        requireAdmin(authentication);
+        if (!jfrRecordingService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("state", RecordingState.RUNNING.name()));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("state", RecordingState.RUNNING.name()));
+    }
+
+    /**
+     * Stop the flight recording and download it.
+     *
+     * @param authentication Spring Security authentication object
+     * @return the .jfr file
+     */
+    @PostMapping("/jfr/stop")
+    @Operation(summary = "Stop JFR recording", description = "Stop the recording and download it as a .jfr file")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording file"),
+        @ApiResponse(responseCode = "404", description = "No recording was started"),
+        @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    public ResponseEntity<StreamingResponseBody> stopJfr(Authentication authentication) throws IOException {
+        Long userId = requireAdmin(authentication);
+        Path file = jfrRecordingService.stop();
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        log.info("JFR recording collected by user: {}", userId);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(Files.size(file))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+            .body(body);
+    }
+
+    private Long requireAdmin(Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        if (userService.getUserById(userId).getRole() != Role.ADMIN) {
+            throw new AccessDeniedException("Administrator role required");
+        }
+        return userId;
+    }
+
+}
@@ -1,21 +1,36 @@
 package com.expensemanager.api.controller;
 
 import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.ExpenseStatisticsDto;
+import com.expensemanager.application.dto.RangeTotalDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.dto.TopMerchantsDto;
 import com.expensemanager.application.service.AnalyticsService;
+import com.expensemanager.application.service.MerchantAnalyticsService;
+import com.expensemanager.application.service.StatisticsService;
+import com.expensemanager.domain.enums.ExpenseCategory;
 import com.expensemanager.infrastructure.security.JwtAuthDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 /**
  * REST Controller for Analytics operations.
  * Base path: /api/v1/analytics
@@ -28,24 +43,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalyticsController extends BaseController {
 
     private final AnalyticsService analyticsService;
+    private final StatisticsService statisticsService;
+    private final MerchantAnalyticsService merchantAnalyticsService;
 
     /**
      * Get category summary for authenticated user.
      *
      * @param authentication Spring Security authentication object
+     * @param startDate optional first day to include
+     * @param endDate optional last day to include
+     * @param tags optional tags that must all be present
+     * @param anyTags optional tags of which at least one must be present
+     * @param excludeTags optional tags that must be absent
      * @return category summary with totals
      */
     @GetMapping("/category-summary")
     @Operation(
         summary = "Get category summary",
-        description = "Retrieve expense totals grouped by category for the authenticated user"
+        description = "Retrieve expense totals grouped by category for the authenticated user, optionally within a date range "
+            + "and restricted by tags"
     )
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Category summary retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or unknown tag"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token")
     })
-    public ResponseEntity<CategorySummaryDto> getCategorySummary(Authentication authentication) {
+    public ResponseEntity<CategorySummaryDto> getCategorySummary(
+            Authentication authentication,
+            @Parameter(description = "Start Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Only expenses with all of these tags (comma-separated)") @RequestParam(required = false) Set<String> tags,
+            @Parameter(description = "Only expenses with at least one of these tags") @RequestParam(required = false) Set<String> anyTags,
+            @Parameter(description = "Only expenses with none of these tags") @RequestParam(required = false) Set<String> excludeTags) {
         log.debug("Fetching category summary for authenticated user");
         
         // Extract user ID from JWT token
@@ -54,8 +84,139 @@ public class AnalyticsController extends BaseController {
         
         log.debug("User ID extracted from JWT: {}", userId);
         
-        CategorySummaryDto summary = analyticsService.getCategorySummary(userId);
+        TagFilterDto tagFilter = TagFilterDto.builder()
+            .allOf(tags)
+            .anyOf(anyTags)
+            .noneOf(excludeTags)
+            .build();
+        CategorySummaryDto summary = analyticsService.getCategorySummary(userId, startDate, endDate, tagFilter);
         return ResponseEntity.ok(summary);
     }
 
+    /**
+     * Get the largest expenses of the authenticated user.
+     *
+     * @param authentication Spring Security authentication object
+     * @param limit number of expenses to return (1-100)
+     * @param startDate optional first day to include
+     * @param endDate optional last day to include
+     * @param category optional category to restrict to
+     * @return expenses ordered by amount, largest first
+     */
+    @GetMapping("/top-expenses")
+    @Operation(
+        summary = "Get top expenses",
+        description = "Retrieve the largest expenses of the authenticated user, optionally within a date range or category"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Top expenses retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or date range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token")
+    })
+    public ResponseEntity<List<ExpenseResponseDto>> getTopExpenses(
+            Authentication authentication,
+            @Parameter(description = "Number of expenses (1-100)") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Start Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Expense Category") @RequestParam(required = false) ExpenseCategory category) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        log.debug("Fetching top {} expenses for user: {}", limit, userId);
+
+        List<ExpenseResponseDto> expenses = analyticsService.getTopExpenses(userId, limit, startDate, endDate, category);
+        return ResponseEntity.ok(expenses);
+    }
+
+    /**
+     * Get the authenticated user's total spending between two dates.
+     *
+     * @param authentication Spring Security authentication object
+     * @param startDate first day to include
+     * @param endDate last day to include
+     * @return the total, overall and per category
+     */
+    @GetMapping("/range-total")
+    @Operation(
+        summary = "Get range total",
+        description = "Retrieve total spending between two dates, overall and per category, without transferring the expenses"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Range total retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token")
+    })
+    public ResponseEntity<RangeTotalDto> getRangeTotal(
+            Authentication authentication,
+            @Parameter(description = "Start Date (YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End Date (YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        log.debug("Fetching range total for user: {} between {} and {}", userId, startDate, endDate);
+
+        RangeTotalDto rangeTotal = analyticsService.getRangeTotal(userId, startDate, endDate);
+        return ResponseEntity.ok(rangeTotal);
+    }
+
+    /**
+     * Get the distribution of the authenticated user's expense amounts.
+     *
+     * @param authentication Spring Security authentication object
+     * @param bins maximum number of histogram ranges per category (1-50)
+     * @return median, 90th percentile and histogram per category and overall
+     */
+    @GetMapping("/statistics")
+    @Operation(
+        summary = "Get amount statistics",
+        description = "Retrieve the median, 90th percentile and histogram of expense amounts per category and overall. "
+            + "Percentiles are estimates within the returned relative error."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid number of bins"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token")
+    })
+    public ResponseEntity<ExpenseStatisticsDto> getStatistics(
+            Authentication authentication,
+            @Parameter(description = "Maximum histogram ranges per category (1-50)") @RequestParam(defaultValue = "10") int bins) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        log.debug("Fetching amount statistics for user: {}", userId);
+
+        ExpenseStatisticsDto statistics = statisticsService.getStatistics(userId, bins);
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * Get the top merchants for authenticated user.
+     *
+     * @param authentication Spring Security authentication object
+     * @param limit maximum merchants per ranking
+     * @param startDate optional first day to include, widened to the start of its month
+     * @param endDate optional last day to include, widened to the end of its month
+     * @return merchants ranked by number of expenses and by spend
+     */
+    @GetMapping("/top-merchants")
+    @Operation(
+        summary = "Get top merchants",
+        description = "Retrieve the merchants (normalized expense descriptions) with the most expenses and the most spend, "
+            + "optionally within whole months. Entries marked not exact are upper bounds."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Top merchants retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or date range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token")
+    })
+    public ResponseEntity<TopMerchantsDto> getTopMerchants(
+            Authentication authentication,
+            @Parameter(description = "Maximum merchants per ranking") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Start Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        log.debug("Fetching top merchants for user: {}", userId);
+
+        TopMerchantsDto merchants = merchantAnalyticsService.getTopMerchants(userId, limit, startDate, endDate);
+        return ResponseEntity.ok(merchants);
+    }
+
 }
@@ -1,9 +1,20 @@
 package com.expensemanager.api.controller;
 
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.DescriptionSuggestionDto;
+import com.expensemanager.application.dto.DuplicateExpenseGroupDto;
 import com.expensemanager.application.dto.ExpenseRequestDto;
 import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.ExpenseSearchCriteria;
+import com.expensemanager.application.dto.ExpenseSearchResultDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.dto.TextSearchHitDto;
 import com.expensemanager.application.service.ExpenseService;
 import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.idempotency.IdempotencyStore;
+import com.expensemanager.infrastructure.idempotency.IdempotentResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,13 +25,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST Controller for Expense operations.
@@ -33,7 +47,12 @@ import java.util.List;
 @Slf4j
 public class ExpenseController extends BaseController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final ExpenseService expenseService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Get all expenses for a user with pagination.
@@ -92,6 +111,138 @@ public class ExpenseController extends BaseController {
         return ResponseEntity.ok(expenses);
     }
 
+    /**
+     * Get expenses flagged as unusually high for their category.
+     *
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return paginated list of unusual expenses
+     */
+    @GetMapping("/unusual")
+    @Operation(summary = "Get unusual expenses",
+        description = "Retrieve expenses whose amount was far above the user's usual spending in the category")
+    @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully")
+    public ResponseEntity<Page<ExpenseResponseDto>> getUnusualExpenses(
+            @Parameter(description = "User ID") @RequestParam Long userId,
+            Pageable pageable) {
+        log.debug("Fetching unusual expenses for user: {}", userId);
+        Page<ExpenseResponseDto> expenses = expenseService.getUnusualExpenses(userId, pageable);
+        return ResponseEntity.ok(expenses);
+    }
+
+    /**
+     * Search expenses by any combination of filters, with keyset paging.
+     *
+     * @param userId the user ID
+     * @param categories optional categories to match (any of)
+     * @param startDate optional first day (inclusive)
+     * @param endDate optional last day (inclusive)
+     * @param minAmount optional minimum amount (inclusive)
+     * @param maxAmount optional maximum amount (inclusive)
+     * @param q optional case-insensitive description text
+     * @param tags optional tags that must all be present
+     * @param anyTags optional tags of which at least one must be present
+     * @param excludeTags optional tags that must be absent
+     * @param sort field to order by
+     * @param direction sort direction
+     * @param size page size (1-100)
+     * @param cursor nextCursor of the previous page
+     * @return one page of matching expenses and the cursor of the next
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search expenses",
+        description = "Filter expenses by categories, date range, amount range, description text and tags. "
+            + "Pass the returned nextCursor to get the next page; there is no page count.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid filters, unknown tag or invalid cursor")
+    })
+    public ResponseEntity<ExpenseSearchResultDto> searchExpenses(
+            @Parameter(description = "User ID") @RequestParam Long userId,
+            @Parameter(description = "Categories (comma-separated)") @RequestParam(required = false) Set<ExpenseCategory> categories,
+            @Parameter(description = "Start Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End Date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Minimum amount") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "Maximum amount") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "Description text") @RequestParam(required = false) String q,
+            @Parameter(description = "Tags that must all be present (comma-separated)") @RequestParam(required = false) Set<String> tags,
+            @Parameter(description = "Tags of which at least one must be present") @RequestParam(required = false) Set<String> anyTags,
+            @Parameter(description = "Tags that must be absent") @RequestParam(required = false) Set<String> excludeTags,
+            @Parameter(description = "Sort field") @RequestParam(defaultValue = "DATE") ExpenseSearchCriteria.SortField sort,
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        log.debug("Searching expenses for user: {}", userId);
+        ExpenseSearchCriteria criteria = ExpenseSearchCriteria.builder()
+            .categories(categories)
+            .startDate(startDate)
+            .endDate(endDate)
+            .minAmount(minAmount)
+            .maxAmount(maxAmount)
+            .text(q)
+            .tags(TagFilterDto.builder()
+                .allOf(tags)
+                .anyOf(anyTags)
+                .noneOf(excludeTags)
+                .build())
+            .sort(sort)
+            .descending(direction.isDescending())
+            .size(size)
+            .cursor(cursor)
+            .build();
+        ExpenseSearchResultDto result = expenseService.searchExpenses(userId, criteria);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Full-text search of expense descriptions.
+     *
+     * @param userId the user ID
+     * @param q the search text
+     * @param limit maximum number of results (1-100)
+     * @return matching expenses, best match first, with highlighted snippets
+     */
+    @GetMapping("/text-search")
+    @Operation(summary = "Full-text search expenses",
+        description = "Ranked search of descriptions. Every word must match the start of a word in the description; "
+            + "snippets are HTML-escaped with matches in <mark> tags.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing or too long query, or invalid limit")
+    })
+    public ResponseEntity<List<TextSearchHitDto>> searchDescriptions(
+            @Parameter(description = "User ID") @RequestParam Long userId,
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Maximum results (1-100)") @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Full-text searching expenses for user: {}", userId);
+        List<TextSearchHitDto> hits = expenseService.searchDescriptions(userId, q, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    /**
+     * Autocomplete a description from the user's past expenses.
+     *
+     * @param userId the user ID
+     * @param prefix the text typed so far
+     * @param limit maximum number of suggestions (1-10)
+     * @return matching descriptions, most frequently used first
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete descriptions",
+        description = "Suggest past descriptions starting with the prefix, ignoring case, accents and punctuation, "
+            + "most frequently used first. A blank prefix returns the most frequent descriptions.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Prefix too long or invalid limit")
+    })
+    public ResponseEntity<List<DescriptionSuggestionDto>> suggestDescriptions(
+            @Parameter(description = "User ID") @RequestParam Long userId,
+            @Parameter(description = "Text typed so far") @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "Maximum suggestions (1-10)") @RequestParam(defaultValue = "10") int limit) {
+        List<DescriptionSuggestionDto> suggestions = expenseService.suggestDescriptions(userId, prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * Get expenses within a date range.
      *
@@ -112,22 +263,84 @@ public class ExpenseController extends BaseController {
         return ResponseEntity.ok(expenses);
     }
 
+    /**
+     * Find groups of probable duplicate expenses.
+     *
+     * @param userId the user ID
+     * @return groups of expenses sharing the same fingerprint
+     */
+    @GetMapping("/duplicates")
+    @Operation(summary = "Find probable duplicates",
+        description = "Retrieve groups of expenses with the same date, amount and normalized description")
+    @ApiResponse(responseCode = "200", description = "Duplicate groups retrieved successfully")
+    public ResponseEntity<List<DuplicateExpenseGroupDto>> getProbableDuplicates(
+            @Parameter(description = "User ID") @RequestParam Long userId) {
+        log.debug("Finding probable duplicate expenses for user: {}", userId);
+        List<DuplicateExpenseGroupDto> duplicates = expenseService.findProbableDuplicates(userId);
+        return ResponseEntity.ok(duplicates);
+    }
+
     /**
      * Create a new expense.
      *
      * @param userId the user ID
+     * @param rejectDuplicate whether to refuse the expense if an identical one exists
+     * @param idempotencyKey optional client-generated key; retries with the same key replay the original response
      * @param expenseRequestDto expense details
      * @return created expense
      */
     @PostMapping
     @Operation(summary = "Create new expense", description = "Create a new expense record")
-    @ApiResponse(responseCode = "201", description = "Expense created successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Expense created successfully"),
+        @ApiResponse(responseCode = "409", description = "An identical expense already exists and rejectDuplicate "
+            + "was set, or a request with the same Idempotency-Key is still being processed")
+    })
     public ResponseEntity<ExpenseResponseDto> createExpense(
             @Parameter(description = "User ID") @RequestParam Long userId,
+            @Parameter(description = "Refuse with 409 if an identical expense exists")
+            @RequestParam(defaultValue = "false") boolean rejectDuplicate,
+            @Parameter(description = "Client-generated key that makes retries safe")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ExpenseRequestDto expenseRequestDto) {
         log.info("Creating new expense for user: {}", userId);
-        ExpenseResponseDto expense = expenseService.createExpense(userId, expenseRequestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(expense);
+
+        if (idempotencyKey == null) {
+            ExpenseResponseDto expense = expenseService.createExpense(userId, expenseRequestDto, rejectDuplicate);
+            return ResponseEntity.status(HttpStatus.CREATED).body(expense);
+        }
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        IdempotentResult<ExpenseResponseDto> result = idempotencyStore.execute(
+            "expenses:" + userId + ":" + idempotencyKey,
+            expenseRequestDto,
+            ExpenseResponseDto.class,
+            () -> expenseService.createExpense(userId, expenseRequestDto, rejectDuplicate));
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+            .body(result.value());
+    }
+
+    /**
+     * Import a batch of expenses, skipping duplicates.
+     *
+     * @param userId the user ID
+     * @param bulkExpenseRequestDto the expenses to import
+     * @return created expenses and skipped duplicate count
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Import expenses",
+        description = "Create a batch of expenses, skipping rows that duplicate existing expenses or earlier rows")
+    @ApiResponse(responseCode = "201", description = "Expenses imported successfully")
+    public ResponseEntity<BulkExpenseResultDto> importExpenses(
+            @Parameter(description = "User ID") @RequestParam Long userId,
+            @Valid @RequestBody BulkExpenseRequestDto bulkExpenseRequestDto) {
+        log.info("Importing {} expenses for user: {}", bulkExpenseRequestDto.getExpenses().size(), userId);
+        BulkExpenseResultDto result = expenseService.importExpenses(userId, bulkExpenseRequestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
     /**
@@ -0,0 +1,126 @@
+package com.expensemanager.api.controller;
+
+import com.expensemanager.application.dto.ReportJobDto;
+import com.expensemanager.application.dto.ReportRequestDto;
+import com.expensemanager.application.dto.ReportResultDto;
+import com.expensemanager.application.service.ReportJobService;
+import com.expensemanager.domain.enums.ReportJobStatus;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST Controller for asynchronous report jobs.
+ * Base path: /api/v1/analytics/reports
+ */
+@RestController
+@RequestMapping("/analytics/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Endpoints for asynchronous analytics reports")
+@SecurityRequirement(name = "Bearer Authentication")
+@Slf4j
+public class ReportController extends BaseController {
+
+    private final ReportJobService reportJobService;
+
+    /**
+     * Submit a report job.
+     *
+     * @param reportRequestDto the report specification
+     * @param authentication Spring Security authentication object
+     * @return the queued job, or a completed identical job whose result can be reused
+     */
+    @PostMapping
+    @Operation(summary = "Submit report",
+        description = "Queue a report for asynchronous generation; identical recent reports are reused")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Report queued"),
+        @ApiResponse(responseCode = "200", description = "Identical report already available"),
+        @ApiResponse(responseCode = "429", description = "Too many queued reports for this user"),
+        @ApiResponse(responseCode = "503", description = "Report queue is full")
+    })
+    public ResponseEntity<ReportJobDto> submitReport(
+            @Valid @RequestBody ReportRequestDto reportRequestDto,
+            Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        ReportJobDto job = reportJobService.submitReport(userId, reportRequestDto);
+        HttpStatus status = job.getStatus() == ReportJobStatus.SUCCEEDED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status)
+            .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.getId()).toUri())
+            .body(job);
+    }
+
+    /**
+     * Get a report job, optionally long-polling until it completes.
+     *
+     * @param id the job ID
+     * @param waitMs how long to wait for completion
+     * @param authentication Spring Security authentication object
+     * @return the job status
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get report status",
+        description = "Get a report job; with waitMs the response is held until the job completes or the wait elapses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report job found"),
+        @ApiResponse(responseCode = "404", description = "Report job not found")
+    })
+    public CompletableFuture<ReportJobDto> getReport(
+            @PathVariable Long id,
+            @Parameter(description = "Maximum time to wait for completion, in milliseconds")
+            @RequestParam(defaultValue = "0") long waitMs,
+            Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        return reportJobService.awaitReport(userId, id, waitMs);
+    }
+
+    /**
+     * Download the result of a completed report job.
+     *
+     * @param id the job ID
+     * @param authentication Spring Security authentication object
+     * @return the report content
+     */
+    @GetMapping("/{id}/result")
+    @Operation(summary = "Download report", description = "Download the content of a completed report")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report content"),
+        @ApiResponse(responseCode = "400", description = "Report has not completed successfully"),
+        @ApiResponse(responseCode = "404", description = "Report job not found")
+    })
+    public ResponseEntity<StreamingResponseBody> getReportResult(@PathVariable Long id, Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        ReportResultDto result = reportJobService.getReportResult(userId, id);
+        StreamingResponseBody body = out -> reportJobService.writeReportResult(id, result, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(result.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(result.getFileName()).build().toString())
+            .body(body);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.expensemanager.api.controller;
+
+import com.expensemanager.application.dto.TagDto;
+import com.expensemanager.application.dto.TagRequestDto;
+import com.expensemanager.application.service.TagService;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the authenticated user's expense tags.
+ * Base path: /api/v1/tags
+ */
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tags", description = "Endpoints for user-defined expense tags")
+@SecurityRequirement(name = "Bearer Authentication")
+@Slf4j
+public class TagController extends BaseController {
+
+    private final TagService tagService;
+
+    /**
+     * Get the authenticated user's tags.
+     *
+     * @param authentication Spring Security authentication object
+     * @return the tags
+     */
+    @GetMapping
+    @Operation(summary = "Get tags", description = "Retrieve the tags the authenticated user can attach to expenses")
+    @ApiResponse(responseCode = "200", description = "Tags retrieved successfully")
+    public ResponseEntity<List<TagDto>> getTags(Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        return ResponseEntity.ok(tagService.getTags(userId));
+    }
+
+    /**
+     * Create a tag.
+     *
+     * @param tagRequestDto the tag name
+     * @param authentication Spring Security authentication object
+     * @return the created tag
+     */
+    @PostMapping
+    @Operation(summary = "Create tag", description = "Add a tag to the authenticated user's tags (at most 64)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Tag created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid name or tag limit reached"),
+        @ApiResponse(responseCode = "409", description = "A tag with this name already exists")
+    })
+    public ResponseEntity<TagDto> createTag(
+            @Valid @RequestBody TagRequestDto tagRequestDto,
+            Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        TagDto tag = tagService.createTag(userId, tagRequestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(tag);
+    }
+
+    /**
+     * Delete a tag and remove it from all expenses.
+     *
+     * @param id the tag ID
+     * @param authentication Spring Security authentication object
+     * @return no content
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete tag", description = "Delete a tag and remove it from all of the user's expenses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tag deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "Tag not found")
+    })
+    public ResponseEntity<Void> deleteTag(
+            @Parameter(description = "Tag ID") @PathVariable Long id,
+            Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        tagService.deleteTag(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+}
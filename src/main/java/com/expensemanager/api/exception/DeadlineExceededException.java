@@ -0,0 +1,16 @@
+package com.expensemanager.api.exception;
+
+/**
+ * Exception thrown when a request runs past its deadline.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
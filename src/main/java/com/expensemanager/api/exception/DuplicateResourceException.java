@@ -0,0 +1,16 @@
+package com.expensemanager.api.exception;
+
+/**
+ * Exception thrown when a request would create a duplicate of an existing resource.
+ */
+public class DuplicateResourceException extends RuntimeException {
+
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+
+    public DuplicateResourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
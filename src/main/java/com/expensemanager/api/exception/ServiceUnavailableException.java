@@ -0,0 +1,16 @@
+package com.expensemanager.api.exception;
+
+/**
+ * Exception thrown when a request cannot be served because a resource is saturated.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.expensemanager.api.exception;
+
+/**
+ * Exception thrown when a client exceeds its share of a limited resource.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+}
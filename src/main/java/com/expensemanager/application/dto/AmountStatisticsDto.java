@@ -0,0 +1,52 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for the distribution of expense amounts in one category, or across all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmountStatisticsDto {
+
+    /**
+     * Category name, or {@code ALL} for every category combined.
+     */
+    private String category;
+
+    private long count;
+
+    /**
+     * Exact total of the amounts.
+     */
+    private BigDecimal total;
+
+    /**
+     * Exact mean amount.
+     */
+    private BigDecimal mean;
+
+    /**
+     * Estimated median amount.
+     */
+    private BigDecimal median;
+
+    /**
+     * Estimated 90th percentile amount.
+     */
+    private BigDecimal p90;
+
+    /**
+     * Counts of amounts in ranges of equal logarithmic width, smallest first.
+     */
+    private List<HistogramBinDto> histogram;
+
+}
@@ -0,0 +1,27 @@
+package com.expensemanager.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk expense import request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkExpenseRequestDto {
+
+    @NotEmpty(message = "At least one expense is required")
+    @Size(max = 1000, message = "At most 1000 expenses can be imported at once")
+    @Valid
+    private List<ExpenseRequestDto> expenses;
+
+}
@@ -0,0 +1,29 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk expense import result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkExpenseResultDto {
+
+    /**
+     * Expenses that were created.
+     */
+    private List<ExpenseResponseDto> created;
+
+    /**
+     * Number of rows skipped because they matched an existing or earlier row in the batch.
+     */
+    private int skippedDuplicates;
+
+}
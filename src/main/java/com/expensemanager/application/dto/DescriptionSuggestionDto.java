@@ -0,0 +1,27 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one autocomplete suggestion: a description the user has written before.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DescriptionSuggestionDto {
+
+    /**
+     * The description as most recently written.
+     */
+    private String description;
+
+    /**
+     * Number of expenses using this description, ignoring case, accents and punctuation.
+     */
+    private long count;
+
+}
@@ -0,0 +1,22 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a group of expenses sharing the same fingerprint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateExpenseGroupDto {
+
+    private String fingerprint;
+    private List<ExpenseResponseDto> expenses;
+
+}
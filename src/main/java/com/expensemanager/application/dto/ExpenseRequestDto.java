@@ -5,6 +5,7 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * DTO for Expense request (creation/update).
@@ -36,4 +38,11 @@ public class ExpenseRequestDto {
     @PastOrPresent(message = "Expense date cannot be in the future")
     private LocalDate expenseDate;
 
+    /**
+     * Names of the user's tags to attach. On update, null keeps the current tags and an empty set
+     * removes them.
+     */
+    @Size(max = 64, message = "At most 64 tags are allowed")
+    private Set<String> tags;
+
 }
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for Expense response.
@@ -25,6 +26,8 @@ public class ExpenseResponseDto {
     private ExpenseCategory category;
     private String description;
     private LocalDate expenseDate;
+    private boolean unusual;
+    private List<String> tags;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
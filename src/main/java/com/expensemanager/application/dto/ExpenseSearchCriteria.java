@@ -0,0 +1,67 @@
+package com.expensemanager.application.dto;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filters, ordering and page position for an expense search. Every filter is optional.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpenseSearchCriteria {
+
+    /**
+     * Fields a search can be ordered by; ties are broken by expense ID.
+     */
+    public enum SortField {
+        DATE,
+        AMOUNT
+    }
+
+    /**
+     * Match any of these categories; empty or null for all.
+     */
+    private Set<ExpenseCategory> categories;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private BigDecimal minAmount;
+
+    private BigDecimal maxAmount;
+
+    /**
+     * Case-insensitive substring of the description.
+     */
+    private String text;
+
+    /**
+     * Tag conditions by tag name.
+     */
+    private TagFilterDto tags;
+
+    @Builder.Default
+    private SortField sort = SortField.DATE;
+
+    @Builder.Default
+    private boolean descending = true;
+
+    @Builder.Default
+    private int size = 20;
+
+    /**
+     * {@code nextCursor} of the previous page, or null for the first page.
+     */
+    private String cursor;
+
+}
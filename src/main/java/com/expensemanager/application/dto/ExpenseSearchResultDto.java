@@ -0,0 +1,27 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of expense search results.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpenseSearchResultDto {
+
+    private List<ExpenseResponseDto> expenses;
+
+    /**
+     * Opaque position after the last expense, to pass as {@code cursor} for the next page;
+     * null when there are no more results.
+     */
+    private String nextCursor;
+
+}
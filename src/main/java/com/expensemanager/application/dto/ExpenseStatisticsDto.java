@@ -0,0 +1,34 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the distribution of a user's expense amounts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpenseStatisticsDto {
+
+    /**
+     * Maximum relative error of the median and percentile estimates (0.01 = 1%).
+     */
+    private double relativeError;
+
+    /**
+     * Statistics across all categories.
+     */
+    private AmountStatisticsDto overall;
+
+    /**
+     * Statistics per category with at least one expense.
+     */
+    private List<AmountStatisticsDto> categories;
+
+}
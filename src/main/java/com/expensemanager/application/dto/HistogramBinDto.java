@@ -0,0 +1,34 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one range of an amount histogram.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistogramBinDto {
+
+    /**
+     * Smallest amount in the range (inclusive).
+     */
+    private BigDecimal lowerBound;
+
+    /**
+     * Largest amount in the range (inclusive).
+     */
+    private BigDecimal upperBound;
+
+    /**
+     * Number of expenses in the range.
+     */
+    private long count;
+
+}
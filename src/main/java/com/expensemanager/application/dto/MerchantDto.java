@@ -0,0 +1,33 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one merchant in a top-merchants ranking.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MerchantDto {
+
+    /**
+     * Normalized description: lowercase, without accents or punctuation.
+     */
+    private String merchant;
+
+    private long count;
+
+    private BigDecimal total;
+
+    /**
+     * False when the ranked figure (count or total) is an upper bound rather than exact.
+     */
+    private boolean exact;
+
+}
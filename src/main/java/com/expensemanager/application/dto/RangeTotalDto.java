@@ -0,0 +1,41 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO for total spending within a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RangeTotalDto {
+
+    /**
+     * First day included.
+     */
+    private LocalDate startDate;
+
+    /**
+     * Last day included.
+     */
+    private LocalDate endDate;
+
+    /**
+     * Total across all categories.
+     */
+    private BigDecimal total;
+
+    /**
+     * Map of category name to total amount, for categories with spending in the range.
+     */
+    private Map<String, BigDecimal> categoryTotals;
+
+}
@@ -0,0 +1,45 @@
+package com.expensemanager.application.dto;
+
+import com.expensemanager.domain.enums.ReportJobStatus;
+import com.expensemanager.domain.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for asynchronous report job status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJobDto {
+
+    private Long id;
+
+    private ReportType type;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private ReportJobStatus status;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    /**
+     * When the job and its result will be purged.
+     */
+    private LocalDateTime expiresAt;
+
+}
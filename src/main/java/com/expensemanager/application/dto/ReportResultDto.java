@@ -0,0 +1,28 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Downloadable content of a completed report job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResultDto {
+
+    private String contentType;
+
+    private String fileName;
+
+    /**
+     * The content, or {@code null} when it is stored in chunks and must be streamed.
+     */
+    private String content;
+
+    private int chunks;
+
+}
@@ -0,0 +1,26 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Tag conditions for a listing or aggregation, by tag name. Every set is optional; an expense
+ * matches when it has all of {@code allOf}, at least one of {@code anyOf} and none of {@code noneOf}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagFilterDto {
+
+    private Set<String> allOf;
+
+    private Set<String> anyOf;
+
+    private Set<String> noneOf;
+
+}
@@ -0,0 +1,29 @@
+package com.expensemanager.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for creating a tag.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagRequestDto {
+
+    /**
+     * Letters, digits, hyphens and underscores, starting with a letter or digit. Stored lowercase.
+     */
+    @NotBlank(message = "Name is required")
+    @Size(max = 32, message = "Name must be at most 32 characters")
+    @Pattern(regexp = "[\\p{L}\\p{N}][\\p{L}\\p{N}_-]*",
+        message = "Name may only contain letters, digits, hyphens and underscores")
+    private String name;
+
+}
@@ -0,0 +1,29 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one full-text search result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TextSearchHitDto {
+
+    private ExpenseResponseDto expense;
+
+    /**
+     * Relevance; only comparable between results of the same search.
+     */
+    private double rank;
+
+    /**
+     * HTML-escaped excerpt of the description with matched words in {@code <mark>} tags.
+     */
+    private String snippet;
+
+}
@@ -0,0 +1,40 @@
+package com.expensemanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a user's top merchants by number of expenses and by spend.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopMerchantsDto {
+
+    /**
+     * First day covered, widened to the start of its month; null when unbounded.
+     */
+    private LocalDate startDate;
+
+    /**
+     * Last day covered, widened to the end of its month; null when unbounded.
+     */
+    private LocalDate endDate;
+
+    /**
+     * Merchants with the most expenses, most frequent first.
+     */
+    private List<MerchantDto> byFrequency;
+
+    /**
+     * Merchants with the most spend, largest first.
+     */
+    private List<MerchantDto> bySpend;
+
+}
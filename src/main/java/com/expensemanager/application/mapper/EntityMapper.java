@@ -4,43 +4,87 @@ import com.expensemanager.domain.entity.User;
 import com.expensemanager.application.dto.UserResponseDto;
 import com.expensemanager.application.dto.ExpenseResponseDto;
 import com.expensemanager.domain.entity.Expense;
+import com.expensemanager.application.dto.ReportJobDto;
+import com.expensemanager.domain.entity.ReportJob;
+import com.expensemanager.infrastructure.observability.RequestTiming;
+import com.expensemanager.infrastructure.tags.TagDictionary;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Utility class for mapping between entities and DTOs.
  */
 @Component
+@RequiredArgsConstructor
 public class EntityMapper {
 
+    private final TagDictionary tagDictionary;
+
     /**
      * Map User entity to UserResponseDto.
      */
     public UserResponseDto toUserResponseDto(User user) {
-        return UserResponseDto.builder()
-            .id(user.getId())
-            .username(user.getUsername())
-            .email(user.getEmail())
-            .role(user.getRole())
-            .isActive(user.getIsActive())
-            .createdAt(user.getCreatedAt())
-            .updatedAt(user.getUpdatedAt())
-            .build();
+        long timingStart = RequestTiming.begin();
+        try {
+            return UserResponseDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .isActive(user.getIsActive())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.MAPPING, timingStart);
+        }
     }
 
     /**
      * Map Expense entity to ExpenseResponseDto.
      */
     public ExpenseResponseDto toExpenseResponseDto(Expense expense) {
-        return ExpenseResponseDto.builder()
-            .id(expense.getId())
-            .userId(expense.getUser().getId())
-            .amount(expense.getAmount())
-            .category(expense.getCategory())
-            .description(expense.getDescription())
-            .expenseDate(expense.getExpenseDate())
-            .createdAt(expense.getCreatedAt())
-            .updatedAt(expense.getUpdatedAt())
-            .build();
+        long timingStart = RequestTiming.begin();
+        try {
+            return ExpenseResponseDto.builder()
+                .id(expense.getId())
+                .userId(expense.getUser().getId())
+                .amount(expense.getAmount())
+                .category(expense.getCategory())
+                .description(expense.getDescription())
+                .expenseDate(expense.getExpenseDate())
+                .unusual(expense.isUnusual())
+                // Untagged expenses never touch the dictionary
+                .tags(tagDictionary.namesOf(expense.getUser().getId(), expense.getTagMask()))
+                .createdAt(expense.getCreatedAt())
+                .updatedAt(expense.getUpdatedAt())
+                .build();
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.MAPPING, timingStart);
+        }
+    }
+
+    /**
+     * Map ReportJob entity to ReportJobDto.
+     */
+    public ReportJobDto toReportJobDto(ReportJob job) {
+        long timingStart = RequestTiming.begin();
+        try {
+            return ReportJobDto.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .status(job.getStatus())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
+                .build();
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.MAPPING, timingStart);
+        }
     }
 
 }
@@ -1,6 +1,13 @@
 package com.expensemanager.application.service;
 
 import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.RangeTotalDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.domain.enums.ExpenseCategory;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Service interface for analytics operations.
@@ -10,9 +17,35 @@ public interface AnalyticsService {
     /**
      * Get expense summary by category for a user.
      *
-     * @param userId the user ID
+     * @param userId    the user ID
+     * @param startDate first day included, or {@code null} for no lower bound
+     * @param endDate   last day included, or {@code null} for no upper bound
+     * @param tags      tag conditions, or {@code null} for all expenses
      * @return category summary with totals
      */
-    CategorySummaryDto getCategorySummary(Long userId);
+    CategorySummaryDto getCategorySummary(Long userId, LocalDate startDate, LocalDate endDate, TagFilterDto tags);
+
+    /**
+     * Get a user's largest expenses, largest first.
+     *
+     * @param userId    the user ID
+     * @param limit     maximum number of expenses
+     * @param startDate first day included, or {@code null} for no lower bound
+     * @param endDate   last day included, or {@code null} for no upper bound
+     * @param category  category to restrict to, or {@code null} for all
+     * @return the expenses ordered by amount descending
+     */
+    List<ExpenseResponseDto> getTopExpenses(Long userId, int limit, LocalDate startDate, LocalDate endDate,
+                                            ExpenseCategory category);
+
+    /**
+     * Get a user's total spending between two dates, overall and per category.
+     *
+     * @param userId    the user ID
+     * @param startDate first day included
+     * @param endDate   last day included
+     * @return the totals
+     */
+    RangeTotalDto getRangeTotal(Long userId, LocalDate startDate, LocalDate endDate);
 
 }
@@ -1,7 +1,14 @@
 package com.expensemanager.application.service;
 
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.DescriptionSuggestionDto;
+import com.expensemanager.application.dto.DuplicateExpenseGroupDto;
 import com.expensemanager.application.dto.ExpenseRequestDto;
 import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.ExpenseSearchCriteria;
+import com.expensemanager.application.dto.ExpenseSearchResultDto;
+import com.expensemanager.application.dto.TextSearchHitDto;
 import com.expensemanager.domain.enums.ExpenseCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,9 +26,29 @@ public interface ExpenseService {
      *
      * @param userId the user ID
      * @param expenseRequestDto the expense request DTO
+     * @param rejectDuplicate whether to refuse the expense if an identical one exists
      * @return the created expense as response DTO
      */
-    ExpenseResponseDto createExpense(Long userId, ExpenseRequestDto expenseRequestDto);
+    ExpenseResponseDto createExpense(Long userId, ExpenseRequestDto expenseRequestDto, boolean rejectDuplicate);
+
+    /**
+     * Import a batch of expenses for a user, skipping rows that duplicate existing expenses. Each
+     * stored expense matches at most one row, so identical rows in the batch are imported as
+     * separate expenses beyond the number already stored.
+     *
+     * @param userId the user ID
+     * @param bulkExpenseRequestDto the batch of expenses
+     * @return the created expenses and the number of skipped duplicates
+     */
+    BulkExpenseResultDto importExpenses(Long userId, BulkExpenseRequestDto bulkExpenseRequestDto);
+
+    /**
+     * Find groups of probable duplicate expenses for a user.
+     *
+     * @param userId the user ID
+     * @return groups of expenses sharing the same fingerprint
+     */
+    List<DuplicateExpenseGroupDto> findProbableDuplicates(Long userId);
 
     /**
      * Get expense by ID.
@@ -50,6 +77,45 @@ public interface ExpenseService {
      */
     Page<ExpenseResponseDto> getExpensesByCategory(Long userId, ExpenseCategory category, Pageable pageable);
 
+    /**
+     * Get a user's expenses flagged as unusually high for their category.
+     *
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return a page of unusual expenses
+     */
+    Page<ExpenseResponseDto> getUnusualExpenses(Long userId, Pageable pageable);
+
+    /**
+     * Search a user's expenses by any combination of categories, date range, amount range and
+     * description text, one keyset page at a time.
+     *
+     * @param userId the user ID
+     * @param criteria filters, ordering, page size and cursor
+     * @return the page and the cursor of the next one
+     */
+    ExpenseSearchResultDto searchExpenses(Long userId, ExpenseSearchCriteria criteria);
+
+    /**
+     * Full-text search of a user's expense descriptions, best match first.
+     *
+     * @param userId the user ID
+     * @param query the search text; every word must match the start of a word in the description
+     * @param limit maximum number of results
+     * @return matching expenses with their rank and a highlighted snippet
+     */
+    List<TextSearchHitDto> searchDescriptions(Long userId, String query, int limit);
+
+    /**
+     * Suggest descriptions the user has written before, for autocomplete.
+     *
+     * @param userId the user ID
+     * @param prefix the text typed so far; blank for the most frequent descriptions
+     * @param limit maximum number of suggestions
+     * @return matching descriptions, most frequently used first
+     */
+    List<DescriptionSuggestionDto> suggestDescriptions(Long userId, String prefix, int limit);
+
     /**
      * Get expenses within a date range.
      *
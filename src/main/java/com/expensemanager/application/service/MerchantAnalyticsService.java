@@ -0,0 +1,24 @@
+package com.expensemanager.application.service;
+
+import com.expensemanager.application.dto.TopMerchantsDto;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for merchant (expense description) rankings.
+ */
+public interface MerchantAnalyticsService {
+
+    /**
+     * Get a user's top merchants by number of expenses and by spend, optionally within a date
+     * range widened to whole months.
+     *
+     * @param userId    the user ID
+     * @param limit     maximum merchants per ranking
+     * @param startDate optional first day to include
+     * @param endDate   optional last day to include
+     * @return the rankings
+     */
+    TopMerchantsDto getTopMerchants(Long userId, int limit, LocalDate startDate, LocalDate endDate);
+
+}
@@ -0,0 +1,55 @@
+package com.expensemanager.application.service;
+
+import com.expensemanager.application.dto.ReportJobDto;
+import com.expensemanager.application.dto.ReportRequestDto;
+import com.expensemanager.application.dto.ReportResultDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for asynchronous report jobs.
+ */
+public interface ReportJobService {
+
+    /**
+     * Submit a report job. An identical job that is still running, or that completed within the
+     * result TTL, is returned instead of starting a new one.
+     *
+     * @param userId the user ID
+     * @param reportRequestDto the report specification
+     * @return the new or reused job
+     */
+    ReportJobDto submitReport(Long userId, ReportRequestDto reportRequestDto);
+
+    /**
+     * Get a job, waiting up to the given time for it to complete.
+     *
+     * @param userId the user ID
+     * @param jobId the job ID
+     * @param waitMs how long to wait for completion; 0 returns the current status immediately
+     * @return future completing with the job status once it is terminal or the wait elapses
+     */
+    CompletableFuture<ReportJobDto> awaitReport(Long userId, Long jobId, long waitMs);
+
+    /**
+     * Get the result of a completed job.
+     *
+     * @param userId the user ID
+     * @param jobId the job ID
+     * @return the report type and file name, and the content unless it is stored in chunks
+     */
+    ReportResultDto getReportResult(Long userId, Long jobId);
+
+    /**
+     * Write the content of a result returned by {@link #getReportResult} as UTF-8, reading chunked
+     * content one chunk at a time.
+     *
+     * @param jobId the job ID
+     * @param result the result
+     * @param out the stream to write to
+     */
+    void writeReportResult(Long jobId, ReportResultDto result, OutputStream out) throws IOException;
+
+}
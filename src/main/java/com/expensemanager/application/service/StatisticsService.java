@@ -0,0 +1,20 @@
+package com.expensemanager.application.service;
+
+import com.expensemanager.application.dto.ExpenseStatisticsDto;
+
+/**
+ * Service interface for expense amount distributions.
+ */
+public interface StatisticsService {
+
+    /**
+     * Get the median, 90th percentile and histogram of a user's expense amounts, per category
+     * and overall.
+     *
+     * @param userId the user ID
+     * @param bins   maximum number of histogram ranges per category
+     * @return the statistics
+     */
+    ExpenseStatisticsDto getStatistics(Long userId, int bins);
+
+}
@@ -0,0 +1,60 @@
+package com.expensemanager.application.service;
+
+import com.expensemanager.application.dto.TagDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.dto.TagRequestDto;
+import com.expensemanager.infrastructure.tags.TagFilter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for user-defined expense tags.
+ */
+public interface TagService {
+
+    /**
+     * Get a user's tags.
+     *
+     * @param userId the user ID
+     * @return the tags, oldest bit first
+     */
+    List<TagDto> getTags(Long userId);
+
+    /**
+     * Add a tag to a user's dictionary.
+     *
+     * @param userId the user ID
+     * @param tagRequestDto the tag name
+     * @return the created tag
+     */
+    TagDto createTag(Long userId, TagRequestDto tagRequestDto);
+
+    /**
+     * Delete a tag, removing it from all of the user's expenses.
+     *
+     * @param userId the user ID
+     * @param tagId the tag ID
+     */
+    void deleteTag(Long userId, Long tagId);
+
+    /**
+     * Resolve tag names to the tag mask stored on an expense. The caller must hold the user's row
+     * lock ({@code UserRepository.findByIdForUpdate}), so a tag cannot be deleted concurrently.
+     *
+     * @param userId the user ID
+     * @param names tag names, in any case
+     * @return the mask, 0 for no names
+     */
+    long maskOf(Long userId, Collection<String> names);
+
+    /**
+     * Resolve a filter by tag names to bitmasks.
+     *
+     * @param userId the user ID
+     * @param filter the filter, or {@code null} for none
+     * @return the resolved filter
+     */
+    TagFilter resolveFilter(Long userId, TagFilterDto filter);
+
+}
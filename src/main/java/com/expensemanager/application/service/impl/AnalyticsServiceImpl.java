@@ -1,63 +1,274 @@
 package com.expensemanager.application.service.impl;
 
+import com.expensemanager.api.exception.DeadlineExceededException;
+import com.expensemanager.api.exception.ServiceUnavailableException;
+import com.expensemanager.api.exception.ValidationException;
 import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.RangeTotalDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.mapper.EntityMapper;
 import com.expensemanager.application.service.AnalyticsService;
+import com.expensemanager.application.service.TagService;
+import com.expensemanager.domain.entity.Expense;
 import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.analytics.DailyTotalsIndexStore;
+import com.expensemanager.infrastructure.analytics.ExpenseColumnStore;
+import com.expensemanager.infrastructure.analytics.ExpenseColumns;
+import com.expensemanager.infrastructure.deadline.RequestDeadline;
+import com.expensemanager.infrastructure.observability.AnalyticsQueryEvent;
+import com.expensemanager.infrastructure.repository.AnalyticsQueryRepository;
 import com.expensemanager.infrastructure.repository.ExpenseRepository;
-import lombok.RequiredArgsConstructor;
+import com.expensemanager.infrastructure.resilience.SingleFlight;
+import com.expensemanager.infrastructure.tags.TagFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of AnalyticsService.
+ * <p>
+ * Aggregations run on the analytics connection pool (see {@code DataSourceConfig}) rather than
+ * in a JPA transaction, so they never hold a connection from the transactional pool. Identical
+ * concurrent aggregations are coalesced into one query; results are not cached.
+ * <p>
+ * Users with a columnar snapshot loaded in {@link ExpenseColumnStore} are answered from memory
+ * instead; a miss falls back to SQL while the snapshot loads in the background. Date-range
+ * totals are answered the same way from a per-user prefix-sum index in {@link DailyTotalsIndexStore}.
  */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class AnalyticsServiceImpl implements AnalyticsService {
 
+    private static final int MAX_TOP_EXPENSES = 100;
+
+    private final AnalyticsQueryRepository analyticsQueryRepository;
+    private final ExpenseColumnStore expenseColumnStore;
+    private final DailyTotalsIndexStore dailyTotalsIndexStore;
     private final ExpenseRepository expenseRepository;
+    private final EntityMapper entityMapper;
+    private final TagService tagService;
+    private final ThreadPoolTaskExecutor analyticsExecutor;
+    private final long executorTimeoutMs;
+    private final SingleFlight<SummaryKey, Map<ExpenseCategory, BigDecimal>> categoryTotals;
 
-    @Override
-    public CategorySummaryDto getCategorySummary(Long userId) {
-        log.debug("Generating category summary for user: {}", userId);
+    public AnalyticsServiceImpl(
+            AnalyticsQueryRepository analyticsQueryRepository,
+            ExpenseColumnStore expenseColumnStore,
+            DailyTotalsIndexStore dailyTotalsIndexStore,
+            ExpenseRepository expenseRepository,
+            EntityMapper entityMapper,
+            TagService tagService,
+            @Qualifier("analyticsExecutor") ObjectProvider<ThreadPoolTaskExecutor> analyticsExecutor,
+            @Value("${app.analytics.executor.timeout-ms}") long executorTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.analyticsQueryRepository = analyticsQueryRepository;
+        this.expenseColumnStore = expenseColumnStore;
+        this.dailyTotalsIndexStore = dailyTotalsIndexStore;
+        this.expenseRepository = expenseRepository;
+        this.entityMapper = entityMapper;
+        this.tagService = tagService;
+        this.analyticsExecutor = analyticsExecutor.getIfAvailable();
+        this.executorTimeoutMs = executorTimeoutMs;
+        this.categoryTotals = new SingleFlight<>("analytics.category-totals", meterRegistry);
+    }
 
-        // Get aggregated expenses by category using JPQL query
-        List<Object[]> results = expenseRepository.getCategoryTotals(userId);
-        
-        Map<String, BigDecimal> categoryTotals = new HashMap<>();
-        BigDecimal grandTotal = BigDecimal.ZERO;
+    @Override
+    public CategorySummaryDto getCategorySummary(Long userId, LocalDate startDate, LocalDate endDate,
+                                                 TagFilterDto tags) {
+        log.debug("Generating category summary for user: {} between {} and {}", userId, startDate, endDate);
+        validateRange(startDate, endDate);
+        TagFilter tagFilter = tagService.resolveFilter(userId, tags);
 
-        for (Object[] result : results) {
-            String category;
-            Object categoryObj = result[0];
-            
-            // Handle both enum and string returns from the query
-            if (categoryObj instanceof ExpenseCategory) {
-                category = ((ExpenseCategory) categoryObj).name();
-            } else {
-                category = (String) categoryObj;
+        AnalyticsQueryEvent event = new AnalyticsQueryEvent();
+        event.begin();
+        Optional<ExpenseColumns> snapshot = expenseColumnStore.find(userId);
+        if (snapshot.isPresent()) {
+            CategorySummaryDto summary = summarize(
+                snapshot.get().categoryTotals(fromDay(startDate), toDay(endDate), tagFilter));
+            event.end();
+            if (event.shouldCommit()) {
+                event.query = "category-totals";
+                event.userId = userId;
+                event.rowCount = summary.getCategoryTotals().size();
+                event.columnar = true;
+                event.commit();
             }
-            
-            BigDecimal total = (BigDecimal) result[1];
-            categoryTotals.put(category, total);
-            grandTotal = grandTotal.add(total);
+            return summary;
         }
 
+        // Get aggregated expenses by category using SQL aggregation; concurrent calls for the
+        // same user (e.g. several dashboard widgets) share a single query
+        boolean[] queried = new boolean[1];
+        Map<ExpenseCategory, BigDecimal> results = categoryTotals.execute(
+            new SummaryKey(userId, startDate, endDate, tagFilter), () -> {
+                queried[0] = true;
+                return inBulkhead(() -> analyticsQueryRepository.getCategoryTotals(userId, startDate, endDate, tagFilter));
+            });
+        event.end();
+        if (event.shouldCommit()) {
+            event.query = "category-totals";
+            event.userId = userId;
+            event.rowCount = results.size();
+            event.cacheHit = !queried[0];
+            event.commit();
+        }
+
+        CategorySummaryDto summary = summarize(results);
         log.debug("Category summary generated with {} categories and total: {}", 
-            categoryTotals.size(), grandTotal);
+            summary.getCategoryTotals().size(), summary.getGrandTotal());
+        return summary;
+    }
+
+    @Override
+    public List<ExpenseResponseDto> getTopExpenses(Long userId, int limit, LocalDate startDate, LocalDate endDate,
+                                                   ExpenseCategory category) {
+        log.debug("Fetching top {} expenses for user: {} between {} and {}", limit, userId, startDate, endDate);
+        validateRange(startDate, endDate);
+        if (limit < 1 || limit > MAX_TOP_EXPENSES) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_TOP_EXPENSES);
+        }
 
+        List<Long> ids = expenseColumnStore.find(userId)
+            .map(columns -> Arrays.stream(columns.topIds(limit, fromDay(startDate), toDay(endDate),
+                category == null ? -1 : category.ordinal())).boxed().toList())
+            .orElseGet(() -> inBulkhead(() ->
+                analyticsQueryRepository.getTopExpenseIds(userId, limit, startDate, endDate, category)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Load the rows by primary key, then restore the ranking order
+        Map<Long, Expense> expenses = expenseRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Expense::getId, Function.identity()));
+        return ids.stream()
+            .map(expenses::get)
+            .filter(Objects::nonNull)
+            .map(entityMapper::toExpenseResponseDto)
+            .toList();
+    }
+
+    @Override
+    public RangeTotalDto getRangeTotal(Long userId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Computing range total for user: {} between {} and {}", userId, startDate, endDate);
+        validateRange(startDate, endDate);
+
+        CategorySummaryDto summary = dailyTotalsIndexStore.find(userId)
+            .map(index -> summarize(index.categoryTotals(fromDay(startDate), toDay(endDate))))
+            .orElseGet(() -> summarize(inBulkhead(() -> analyticsQueryRepository.getCategoryTotals(userId, startDate, endDate))));
+
+        return RangeTotalDto.builder()
+            .startDate(startDate)
+            .endDate(endDate)
+            .total(summary.getGrandTotal())
+            .categoryTotals(summary.getCategoryTotals())
+            .build();
+    }
+
+    /**
+     * Build the summary straight from per-category minor-unit totals; the grand total is summed
+     * as a {@code long} and converted once.
+     */
+    private static CategorySummaryDto summarize(long[] totals) {
+        Map<String, BigDecimal> categoryTotals = new HashMap<>();
+        long grandTotal = 0;
+        for (int ordinal = 0; ordinal < totals.length; ordinal++) {
+            if (totals[ordinal] != 0) {
+                categoryTotals.put(ExpenseColumns.category(ordinal).name(), ExpenseColumns.fromMinorUnits(totals[ordinal]));
+                grandTotal += totals[ordinal];
+            }
+        }
+        return CategorySummaryDto.builder()
+            .categoryTotals(categoryTotals)
+            .grandTotal(ExpenseColumns.fromMinorUnits(grandTotal))
+            .build();
+    }
+
+    private static CategorySummaryDto summarize(Map<ExpenseCategory, BigDecimal> totals) {
+        Map<String, BigDecimal> categoryTotals = new HashMap<>();
+        BigDecimal grandTotal = BigDecimal.ZERO;
+        for (Map.Entry<ExpenseCategory, BigDecimal> total : totals.entrySet()) {
+            categoryTotals.put(total.getKey().name(), total.getValue());
+            grandTotal = grandTotal.add(total.getValue());
+        }
         return CategorySummaryDto.builder()
             .categoryTotals(categoryTotals)
             .grandTotal(grandTotal)
             .build();
     }
 
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date must be before end date");
+        }
+    }
+
+    private static int fromDay(LocalDate startDate) {
+        return startDate == null ? Integer.MIN_VALUE : ExpenseColumns.epochDay(startDate);
+    }
+
+    private static int toDay(LocalDate endDate) {
+        return endDate == null ? Integer.MAX_VALUE : ExpenseColumns.epochDay(endDate);
+    }
+
+    /**
+     * Run analytics work on the dedicated executor when one is configured, otherwise inline.
+     * The request deadline travels with the work and bounds how long the caller waits; on timeout the
+     * worker is interrupted so it stops holding a pool slot and a connection.
+     */
+    private <T> T inBulkhead(Supplier<T> work) {
+        if (analyticsExecutor == null) {
+            return work.get();
+        }
+        Supplier<T> propagated = RequestDeadline.propagate(work);
+        Future<T> future;
+        try {
+            future = analyticsExecutor.submit(propagated::get);
+        } catch (TaskRejectedException ex) {
+            throw new ServiceUnavailableException("Analytics capacity exhausted, please retry shortly", ex);
+        }
+        long remainingMs = RequestDeadline.remainingMillis();
+        try {
+            return future.get(Math.min(executorTimeoutMs, Math.max(remainingMs, 0)), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            if (remainingMs <= executorTimeoutMs) {
+                throw new DeadlineExceededException("Request deadline exceeded waiting for analytics", ex);
+            }
+            throw new ServiceUnavailableException("Analytics request timed out", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Analytics request interrupted", ex);
+        }
+    }
+
+    private record SummaryKey(Long userId, LocalDate startDate, LocalDate endDate, TagFilter tags) {
+    }
+
 }
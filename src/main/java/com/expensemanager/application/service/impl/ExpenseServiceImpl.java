@@ -1,25 +1,57 @@
 package com.expensemanager.application.service.impl;
 
+import com.expensemanager.api.exception.DuplicateResourceException;
 import com.expensemanager.api.exception.ResourceNotFoundException;
 import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.DescriptionSuggestionDto;
+import com.expensemanager.application.dto.DuplicateExpenseGroupDto;
 import com.expensemanager.application.dto.ExpenseRequestDto;
 import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.ExpenseSearchCriteria;
+import com.expensemanager.application.dto.ExpenseSearchResultDto;
+import com.expensemanager.application.dto.TextSearchHitDto;
 import com.expensemanager.application.mapper.EntityMapper;
 import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.application.service.TagService;
 import com.expensemanager.domain.entity.Expense;
 import com.expensemanager.domain.entity.User;
 import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.analytics.UnusualExpenseDetector;
+import com.expensemanager.infrastructure.deadline.RequestDeadline;
 import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.ExpenseSpecifications;
 import com.expensemanager.infrastructure.repository.UserRepository;
+import com.expensemanager.infrastructure.search.DescriptionCompletionStore;
+import com.expensemanager.infrastructure.search.DescriptionTrie;
+import com.expensemanager.infrastructure.search.ExpenseTextSearch;
+import com.expensemanager.infrastructure.search.TextSearchHit;
+import com.expensemanager.infrastructure.tags.TagFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of ExpenseService.
@@ -30,36 +62,128 @@ import java.util.List;
 @Slf4j
 public class ExpenseServiceImpl implements ExpenseService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_TEXT_LENGTH = 100;
+
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
     private final EntityMapper entityMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnusualExpenseDetector unusualExpenseDetector;
+    private final ExpenseTextSearch expenseTextSearch;
+    private final DescriptionCompletionStore descriptionCompletionStore;
+    private final TagService tagService;
 
     @Override
-    public ExpenseResponseDto createExpense(Long userId, ExpenseRequestDto expenseRequestDto) {
+    public ExpenseResponseDto createExpense(Long userId, ExpenseRequestDto expenseRequestDto, boolean rejectDuplicate) {
         log.info("Creating new expense for user: {}", userId);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
-
         // Validate expense date is not in the future
         if (expenseRequestDto.getExpenseDate().isAfter(LocalDate.now())) {
             throw new ValidationException("Expense date cannot be in the future");
         }
 
-        Expense expense = Expense.builder()
-            .user(user)
-            .amount(expenseRequestDto.getAmount())
-            .category(expenseRequestDto.getCategory())
-            .description(expenseRequestDto.getDescription())
-            .expenseDate(expenseRequestDto.getExpenseDate())
-            .build();
+        // Locked so that concurrent creates update the user's amount moments one at a time
+        User user = userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
+        if (rejectDuplicate && expenseRepository.existsByUserAndFingerprint(user, fingerprintOf(userId, expenseRequestDto))) {
+            throw new DuplicateResourceException("An identical expense already exists for this user");
+        }
+
+        Expense expense = toExpense(user, expenseRequestDto);
+        expense.setTagMask(tagService.maskOf(userId, expenseRequestDto.getTags()));
+        expense.setUnusual(unusualExpenseDetector.forUser(userId)
+            .observe(expense.getCategory(), expense.getAmount()));
         Expense savedExpense = expenseRepository.save(expense);
+        eventPublisher.publishEvent(ExpenseChangedEvent.created(savedExpense));
         log.info("Expense created successfully with ID: {}", savedExpense.getId());
 
         return entityMapper.toExpenseResponseDto(savedExpense);
     }
 
+    @Override
+    public BulkExpenseResultDto importExpenses(Long userId, BulkExpenseRequestDto bulkExpenseRequestDto) {
+        List<ExpenseRequestDto> rows = bulkExpenseRequestDto.getExpenses();
+        log.info("Importing {} expenses for user: {}", rows.size(), userId);
+
+        User user = userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        List<String> fingerprints = new ArrayList<>(rows.size());
+        for (ExpenseRequestDto row : rows) {
+            if (row.getExpenseDate().isAfter(LocalDate.now())) {
+                throw new ValidationException("Expense date cannot be in the future");
+            }
+            fingerprints.add(fingerprintOf(userId, row));
+        }
+
+        // Each stored expense absorbs one matching row, so identical rows within the batch are kept
+        // beyond the number already stored
+        Map<String, Integer> unmatched = new HashMap<>();
+        for (String fingerprint : expenseRepository.findExistingFingerprints(user, new HashSet<>(fingerprints))) {
+            unmatched.merge(fingerprint, 1, Integer::sum);
+        }
+
+        List<Expense> toSave = new ArrayList<>(rows.size());
+        UnusualExpenseDetector.UserMoments moments = unusualExpenseDetector.forUser(userId);
+        Map<Set<String>, Long> tagMasks = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String fingerprint = fingerprints.get(i);
+            if (unmatched.getOrDefault(fingerprint, 0) > 0) {
+                unmatched.merge(fingerprint, -1, Integer::sum);
+                continue;
+            }
+            ExpenseRequestDto row = rows.get(i);
+            Expense expense = toExpense(user, row);
+            if (row.getTags() != null && !row.getTags().isEmpty()) {
+                expense.setTagMask(tagMasks.computeIfAbsent(row.getTags(), tags -> tagService.maskOf(userId, tags)));
+            }
+            expense.setUnusual(moments.observe(expense.getCategory(), expense.getAmount()));
+            toSave.add(expense);
+        }
+
+        List<Expense> saved = expenseRepository.saveAll(toSave);
+        saved.forEach(expense -> eventPublisher.publishEvent(ExpenseChangedEvent.created(expense)));
+        List<ExpenseResponseDto> created = saved.stream()
+            .map(entityMapper::toExpenseResponseDto)
+            .toList();
+        int skipped = rows.size() - created.size();
+        log.info("Imported {} expenses for user: {}, skipped {} duplicates", created.size(), userId, skipped);
+
+        return BulkExpenseResultDto.builder()
+            .created(created)
+            .skippedDuplicates(skipped)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DuplicateExpenseGroupDto> findProbableDuplicates(Long userId) {
+        log.debug("Finding probable duplicate expenses for user: {}", userId);
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        List<String> fingerprints = expenseRepository.findDuplicateFingerprints(userId);
+        if (fingerprints.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<ExpenseResponseDto>> groups = new LinkedHashMap<>();
+        for (Expense expense : expenseRepository.findByUserAndFingerprintInOrderByFingerprintAscIdAsc(user, fingerprints)) {
+            groups.computeIfAbsent(expense.getFingerprint(), key -> new ArrayList<>())
+                .add(entityMapper.toExpenseResponseDto(expense));
+        }
+
+        return groups.entrySet().stream()
+            .map(entry -> DuplicateExpenseGroupDto.builder()
+                .fingerprint(entry.getKey())
+                .expenses(entry.getValue())
+                .build())
+            .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ExpenseResponseDto getExpenseById(Long id) {
@@ -93,6 +217,114 @@ public class ExpenseServiceImpl implements ExpenseService {
             .map(entityMapper::toExpenseResponseDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExpenseResponseDto> getUnusualExpenses(Long userId, Pageable pageable) {
+        log.debug("Fetching unusual expenses for user: {} with pagination: {}", userId, pageable);
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        return expenseRepository.findByUserAndUnusualTrue(user, pageable)
+            .map(entityMapper::toExpenseResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExpenseSearchResultDto searchExpenses(Long userId, ExpenseSearchCriteria criteria) {
+        log.debug("Searching expenses for user: {} with criteria: {}", userId, criteria);
+        validate(criteria);
+
+        // Indexed predicates first: user and date bounds, then category, amount and text
+        Specification<Expense> specification = ExpenseSpecifications.ownedBy(userId);
+        if (criteria.getStartDate() != null) {
+            specification = specification.and(ExpenseSpecifications.dateFrom(criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            specification = specification.and(ExpenseSpecifications.dateTo(criteria.getEndDate()));
+        }
+        if (criteria.getCategories() != null && !criteria.getCategories().isEmpty()
+                && criteria.getCategories().size() < ExpenseCategory.values().length) {
+            specification = specification.and(ExpenseSpecifications.categoryIn(criteria.getCategories()));
+        }
+        if (criteria.getMinAmount() != null) {
+            specification = specification.and(ExpenseSpecifications.amountFrom(criteria.getMinAmount()));
+        }
+        if (criteria.getMaxAmount() != null) {
+            specification = specification.and(ExpenseSpecifications.amountTo(criteria.getMaxAmount()));
+        }
+        if (criteria.getText() != null && !criteria.getText().isBlank()) {
+            specification = specification.and(ExpenseSpecifications.descriptionContains(criteria.getText().trim()));
+        }
+        TagFilter tags = tagService.resolveFilter(userId, criteria.getTags());
+        if (!tags.isEmpty()) {
+            specification = specification.and(ExpenseSpecifications.tagged(tags));
+        }
+        if (criteria.getCursor() != null) {
+            specification = specification.and(afterCursor(criteria));
+        }
+
+        String field = sortAttribute(criteria.getSort());
+        Sort.Direction direction = criteria.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, field).and(Sort.by(direction, "id"));
+        // One row past the page tells whether there is a next page without a count query
+        List<Expense> expenses = expenseRepository.findBy(specification,
+            query -> query.limit(criteria.getSize() + 1).sortBy(sort).all());
+
+        boolean hasMore = expenses.size() > criteria.getSize();
+        List<Expense> page = hasMore ? expenses.subList(0, criteria.getSize()) : expenses;
+        return ExpenseSearchResultDto.builder()
+            .expenses(page.stream().map(entityMapper::toExpenseResponseDto).toList())
+            .nextCursor(hasMore ? cursorAfter(criteria, page.get(page.size() - 1)) : null)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TextSearchHitDto> searchDescriptions(Long userId, String query, int limit) {
+        log.debug("Full-text searching expenses for user: {} with query: {}", userId, query);
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new ValidationException("Query must be between 1 and " + MAX_SEARCH_TEXT_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        List<TextSearchHit> hits = expenseTextSearch.search(userId, query, limit);
+        Map<Long, Expense> expenses = new HashMap<>();
+        expenseRepository.findAllById(hits.stream().map(TextSearchHit::expenseId).toList())
+            .forEach(expense -> expenses.put(expense.getId(), expense));
+
+        // An in-memory index may briefly list an expense deleted through another node
+        return hits.stream()
+            .filter(hit -> expenses.containsKey(hit.expenseId()))
+            .map(hit -> TextSearchHitDto.builder()
+                .expense(entityMapper.toExpenseResponseDto(expenses.get(hit.expenseId())))
+                .rank(hit.rank())
+                .snippet(hit.snippet())
+                .build())
+            .toList();
+    }
+
+    @Override
+    // No transaction: a loaded trie needs no connection, and a first build runs its own query
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<DescriptionSuggestionDto> suggestDescriptions(Long userId, String prefix, int limit) {
+        if (prefix != null && prefix.length() > DescriptionTrie.MAX_KEY_LENGTH) {
+            throw new ValidationException("Prefix must be at most " + DescriptionTrie.MAX_KEY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > DescriptionTrie.MAX_SUGGESTIONS) {
+            throw new ValidationException("Limit must be between 1 and " + DescriptionTrie.MAX_SUGGESTIONS);
+        }
+
+        return descriptionCompletionStore.suggest(userId, prefix == null ? "" : prefix, limit).stream()
+            .map(suggestion -> DescriptionSuggestionDto.builder()
+                .description(suggestion.description())
+                .count(suggestion.count())
+                .build())
+            .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ExpenseResponseDto> getExpensesByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
@@ -105,8 +337,12 @@ public class ExpenseServiceImpl implements ExpenseService {
             throw new ValidationException("Start date must be before end date");
         }
 
-        return expenseRepository.findByUserAndExpenseDateBetween(user, startDate, endDate)
-            .stream()
+        List<Expense> expenses = expenseRepository.findByUserAndExpenseDateBetween(user, startDate, endDate);
+
+        // Don't spend time mapping a large result the client has already given up on
+        RequestDeadline.check();
+
+        return expenses.stream()
             .map(entityMapper::toExpenseResponseDto)
             .toList();
     }
@@ -123,12 +359,27 @@ public class ExpenseServiceImpl implements ExpenseService {
             throw new ValidationException("Expense date cannot be in the future");
         }
 
+        ExpenseChangedEvent.Values previous = ExpenseChangedEvent.Values.of(expense);
+        if (expense.getAmount().compareTo(expenseRequestDto.getAmount()) != 0
+                || expense.getCategory() != expenseRequestDto.getCategory()) {
+            // Judged against the current moments, which keep the original amount
+            expense.setUnusual(unusualExpenseDetector.evaluate(expense.getUser().getId(),
+                expenseRequestDto.getCategory(), expenseRequestDto.getAmount()));
+        }
         expense.setAmount(expenseRequestDto.getAmount());
         expense.setCategory(expenseRequestDto.getCategory());
         expense.setDescription(expenseRequestDto.getDescription());
         expense.setExpenseDate(expenseRequestDto.getExpenseDate());
+        if (expenseRequestDto.getTags() != null) {
+            // Locked so that none of the tags can be deleted before this commits
+            Long userId = expense.getUser().getId();
+            userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+            expense.setTagMask(tagService.maskOf(userId, expenseRequestDto.getTags()));
+        }
 
         Expense updatedExpense = expenseRepository.save(expense);
+        eventPublisher.publishEvent(ExpenseChangedEvent.updated(updatedExpense, previous));
         log.info("Expense updated successfully with ID: {}", updatedExpense.getId());
 
         return entityMapper.toExpenseResponseDto(updatedExpense);
@@ -142,6 +393,7 @@ public class ExpenseServiceImpl implements ExpenseService {
             .orElseThrow(() -> new ResourceNotFoundException("Expense not found with ID: " + id));
 
         expenseRepository.delete(expense);
+        eventPublisher.publishEvent(ExpenseChangedEvent.deleted(expense));
         log.info("Expense deleted successfully with ID: {}", id);
     }
 
@@ -151,4 +403,74 @@ public class ExpenseServiceImpl implements ExpenseService {
         return expenseRepository.existsById(id);
     }
 
+    private static void validate(ExpenseSearchCriteria criteria) {
+        if (criteria.getSize() < 1 || criteria.getSize() > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (criteria.getStartDate() != null && criteria.getEndDate() != null
+                && criteria.getStartDate().isAfter(criteria.getEndDate())) {
+            throw new ValidationException("Start date must be before end date");
+        }
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount().compareTo(criteria.getMaxAmount()) > 0) {
+            throw new ValidationException("Minimum amount must not exceed maximum amount");
+        }
+        if (criteria.getText() != null && criteria.getText().length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new ValidationException("Search text must be at most " + MAX_SEARCH_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private static String sortAttribute(ExpenseSearchCriteria.SortField sort) {
+        return sort == ExpenseSearchCriteria.SortField.AMOUNT ? "amount" : "expenseDate";
+    }
+
+    /**
+     * Encode the sort, direction and position of the last expense on a page as an opaque token.
+     */
+    private static String cursorAfter(ExpenseSearchCriteria criteria, Expense last) {
+        String value = criteria.getSort() == ExpenseSearchCriteria.SortField.AMOUNT
+            ? last.getAmount().toPlainString()
+            : last.getExpenseDate().toString();
+        String token = criteria.getSort() + "|" + criteria.isDescending() + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Specification<Expense> afterCursor(ExpenseSearchCriteria criteria) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(criteria.getCursor()), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new ValidationException("Invalid cursor");
+        }
+        if (!parts[0].equals(criteria.getSort().name()) || !parts[1].equals(String.valueOf(criteria.isDescending()))) {
+            throw new ValidationException("Cursor does not match the requested sort");
+        }
+        try {
+            Long id = Long.valueOf(parts[3]);
+            return criteria.getSort() == ExpenseSearchCriteria.SortField.AMOUNT
+                ? ExpenseSpecifications.after("amount", new BigDecimal(parts[2]), id, criteria.isDescending())
+                : ExpenseSpecifications.after("expenseDate", LocalDate.parse(parts[2]), id, criteria.isDescending());
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    private Expense toExpense(User user, ExpenseRequestDto expenseRequestDto) {
+        return Expense.builder()
+            .user(user)
+            .amount(expenseRequestDto.getAmount())
+            .category(expenseRequestDto.getCategory())
+            .description(expenseRequestDto.getDescription())
+            .expenseDate(expenseRequestDto.getExpenseDate())
+            .build();
+    }
+
+    private String fingerprintOf(Long userId, ExpenseRequestDto expenseRequestDto) {
+        return Expense.fingerprintOf(userId, expenseRequestDto.getExpenseDate(),
+            expenseRequestDto.getAmount(), expenseRequestDto.getDescription());
+    }
+
 }
@@ -0,0 +1,221 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.MerchantDto;
+import com.expensemanager.application.dto.TopMerchantsDto;
+import com.expensemanager.application.service.MerchantAnalyticsService;
+import com.expensemanager.domain.entity.MonthlyMerchantSketch;
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.analytics.ExpenseColumns;
+import com.expensemanager.infrastructure.analytics.MerchantSketch;
+import com.expensemanager.infrastructure.analytics.PendingExpenseChanges;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.MonthlyMerchantSketchRepository;
+import com.expensemanager.infrastructure.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of MerchantAnalyticsService.
+ * <p>
+ * Each user has one persisted {@link MerchantSketch} per month with expenses, so memory and
+ * storage per user are bounded by the sketch capacity rather than by the number of distinct
+ * descriptions. A user without expenses gets an empty sketch for the current month, marking them
+ * as built. A request merges the months overlapping its window. Sketches are built from the
+ * expenses on the first request, and rebuilt once older than
+ * {@code app.analytics.merchants.rebuild-after-ms} to restore counters that deletes could not
+ * decrement exactly. Expense writes update the months they touch through
+ * {@link PendingExpenseChanges}, under the user's row lock.
+ */
+@Service
+@Slf4j
+public class MerchantAnalyticsServiceImpl implements MerchantAnalyticsService {
+
+    private final MonthlyMerchantSketchRepository sketchRepository;
+    private final ExpenseRepository expenseRepository;
+    private final UserRepository userRepository;
+    private final int capacity;
+    private final long rebuildAfterMs;
+    private final PendingExpenseChanges<List<Change>> pendingChanges =
+        new PendingExpenseChanges<>(ArrayList::new, Change::collect, this::applyChanges);
+
+    public MerchantAnalyticsServiceImpl(
+            MonthlyMerchantSketchRepository sketchRepository,
+            ExpenseRepository expenseRepository,
+            UserRepository userRepository,
+            @Value("${app.analytics.merchants.capacity}") int capacity,
+            @Value("${app.analytics.merchants.rebuild-after-ms}") long rebuildAfterMs) {
+        this.sketchRepository = sketchRepository;
+        this.expenseRepository = expenseRepository;
+        this.userRepository = userRepository;
+        this.capacity = capacity;
+        this.rebuildAfterMs = rebuildAfterMs;
+    }
+
+    @Override
+    @Transactional
+    public TopMerchantsDto getTopMerchants(Long userId, int limit, LocalDate startDate, LocalDate endDate) {
+        log.debug("Fetching top merchants for user: {} between {} and {}", userId, startDate, endDate);
+        if (limit < 1 || limit > capacity) {
+            throw new ValidationException("Limit must be between 1 and " + capacity);
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date must be before end date");
+        }
+
+        if (isStale(sketchRepository.findOldestRebuild(userId))) {
+            rebuild(userId);
+        }
+
+        LocalDate fromMonth = startDate == null ? null : startDate.withDayOfMonth(1);
+        LocalDate toMonth = endDate == null ? null : endDate.withDayOfMonth(1);
+        MerchantSketch merged = new MerchantSketch(capacity);
+        for (MonthlyMerchantSketch row : sketchRepository.findByUserId(userId)) {
+            LocalDate month = row.getMonthStart();
+            if ((fromMonth == null || !month.isBefore(fromMonth)) && (toMonth == null || !month.isAfter(toMonth))) {
+                merged.merge(MerchantSketch.decode(row.getSketch()));
+            }
+        }
+
+        return TopMerchantsDto.builder()
+            .startDate(fromMonth)
+            .endDate(endDate == null ? null : YearMonth.from(endDate).atEndOfMonth())
+            .byFrequency(toDtos(merged.topByFrequency(limit)))
+            .bySpend(toDtos(merged.topBySpend(limit)))
+            .build();
+    }
+
+    /**
+     * Collect an expense change into the current transaction's pending sketch updates.
+     */
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        pendingChanges.add(event);
+    }
+
+    private void rebuild(Long userId) {
+        userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        // Nothing to do if a concurrent request finished its rebuild first
+        if (!isStale(sketchRepository.findOldestRebuild(userId))) {
+            return;
+        }
+        log.info("Rebuilding merchant sketches for user: {}", userId);
+
+        Map<LocalDate, MerchantSketch> sketches = new HashMap<>();
+        for (Object[] row : expenseRepository.findMerchantHistory(userId)) {
+            sketches.computeIfAbsent(((LocalDate) row[0]).withDayOfMonth(1), month -> new MerchantSketch(capacity))
+                .add(MerchantSketch.merchantOf((String) row[1]), ExpenseColumns.toMinorUnits((BigDecimal) row[2]), 1);
+        }
+        if (sketches.isEmpty()) {
+            // Without any row the user would count as never built and be rebuilt on every request
+            sketches.put(LocalDate.now().withDayOfMonth(1), new MerchantSketch(capacity));
+        }
+
+        sketchRepository.deleteByUserId(userId);
+        LocalDateTime now = LocalDateTime.now();
+        sketches.forEach((month, sketch) -> sketchRepository.save(MonthlyMerchantSketch.builder()
+            .userId(userId)
+            .monthStart(month)
+            .expenseCount(sketch.count())
+            .sketch(sketch.encode())
+            .rebuiltAt(now)
+            .updatedAt(now)
+            .build()));
+    }
+
+    /**
+     * Apply the changes collected in one transaction, per user, just before it commits.
+     */
+    private void applyChanges(Map<Long, List<Change>> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        changes.forEach((userId, userChanges) -> {
+            userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+            if (sketchRepository.findOldestRebuild(userId) == null) {
+                // Not built yet; the build will read these changes
+                return;
+            }
+            Map<LocalDate, MonthlyMerchantSketch> rows = sketchRepository
+                .findByUserIdAndMonthStartIn(userId, userChanges.stream().map(Change::month).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(MonthlyMerchantSketch::getMonthStart, Function.identity()));
+            Map<LocalDate, MerchantSketch> sketches = new HashMap<>();
+            for (Change change : userChanges) {
+                sketches.computeIfAbsent(change.month(), month -> {
+                    MonthlyMerchantSketch row = rows.get(month);
+                    return row == null ? new MerchantSketch(capacity) : MerchantSketch.decode(row.getSketch());
+                }).add(change.merchant(), change.minorUnits(), change.occurrences());
+            }
+            sketches.forEach((month, sketch) -> {
+                MonthlyMerchantSketch row = rows.get(month);
+                if (row == null) {
+                    // The user has been built, so a missing month simply had no expenses
+                    row = MonthlyMerchantSketch.builder()
+                        .userId(userId)
+                        .monthStart(month)
+                        .rebuiltAt(now)
+                        .build();
+                }
+                row.setSketch(sketch.encode());
+                row.setExpenseCount(sketch.count());
+                row.setUpdatedAt(now);
+                sketchRepository.save(row);
+            });
+        });
+    }
+
+    private boolean isStale(LocalDateTime oldestRebuild) {
+        return oldestRebuild == null
+            || oldestRebuild.isBefore(LocalDateTime.now().minus(Duration.ofMillis(rebuildAfterMs)));
+    }
+
+    private static List<MerchantDto> toDtos(List<MerchantSketch.Merchant> merchants) {
+        return merchants.stream()
+            .map(merchant -> MerchantDto.builder()
+                .merchant(merchant.name())
+                .count(merchant.count())
+                .total(ExpenseColumns.fromMinorUnits(merchant.total()))
+                .exact(merchant.exact())
+                .build())
+            .toList();
+    }
+
+    /**
+     * One expense added to or removed from a month.
+     */
+    private record Change(LocalDate month, String merchant, long minorUnits, int occurrences) {
+
+        static Change of(ExpenseChangedEvent.Values values, int occurrences) {
+            return new Change(values.expenseDate().withDayOfMonth(1), MerchantSketch.merchantOf(values.description()),
+                ExpenseColumns.toMinorUnits(values.amount()), occurrences);
+        }
+
+        static void collect(List<Change> changes, ExpenseChangedEvent event) {
+            if (event.previous() != null) {
+                changes.add(of(event.previous(), -1));
+            }
+            if (event.current() != null) {
+                changes.add(of(event.current(), 1));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,444 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ServiceUnavailableException;
+import com.expensemanager.api.exception.TooManyRequestsException;
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.application.dto.ReportJobDto;
+import com.expensemanager.application.dto.ReportRequestDto;
+import com.expensemanager.application.dto.ReportResultDto;
+import com.expensemanager.application.mapper.EntityMapper;
+import com.expensemanager.application.service.ReportJobService;
+import com.expensemanager.domain.entity.ReportJob;
+import com.expensemanager.domain.entity.ReportResult;
+import com.expensemanager.domain.entity.ReportResultChunk;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.domain.enums.ReportJobStatus;
+import com.expensemanager.infrastructure.config.ReportJobProperties;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.ReportJobRepository;
+import com.expensemanager.infrastructure.repository.ReportQueryRepository;
+import com.expensemanager.infrastructure.repository.ReportResultChunkRepository;
+import com.expensemanager.infrastructure.repository.ReportResultRepository;
+import com.expensemanager.infrastructure.resilience.FairShareExecutor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of ReportJobService.
+ * <p>
+ * Jobs are persisted, then run on a {@link FairShareExecutor} whose workers query the analytics
+ * connection pool, so report generation never competes with interactive traffic for request
+ * threads or transactional connections. Completion signals for long-polling are kept in memory;
+ * unfinished jobs are re-queued on startup, which assumes a single application node.
+ * <p>
+ * CSV exports are written to {@link ReportResultChunk}s as the rows stream in and downloaded one
+ * chunk at a time, so an export of any size holds at most one chunk in memory. Only the small JSON
+ * reports are cached.
+ */
+@Service
+@Slf4j
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+    private static final int CHUNK_CHARS = 64 * 1024;
+    private static final int POLL_THREADS = 2;
+    private static final Set<ReportJobStatus> ACTIVE = EnumSet.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportResultRepository reportResultRepository;
+    private final ReportResultChunkRepository reportResultChunkRepository;
+    private final ReportQueryRepository reportQueryRepository;
+    private final ExpenseRepository expenseRepository;
+    private final EntityMapper entityMapper;
+    private final ObjectMapper objectMapper;
+    private final ReportJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final FairShareExecutor executor;
+    private final ThreadPoolTaskExecutor pollExecutor;
+    private final Map<Long, CompletableFuture<Void>> completions = new ConcurrentHashMap<>();
+    private final Cache<Long, ReportResultDto> resultCache;
+    private final AtomicLong lastPurge = new AtomicLong();
+
+    public ReportJobServiceImpl(
+            ReportJobRepository reportJobRepository,
+            ReportResultRepository reportResultRepository,
+            ReportResultChunkRepository reportResultChunkRepository,
+            ReportQueryRepository reportQueryRepository,
+            ExpenseRepository expenseRepository,
+            EntityMapper entityMapper,
+            ObjectMapper objectMapper,
+            ReportJobProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportResultRepository = reportResultRepository;
+        this.reportResultChunkRepository = reportResultChunkRepository;
+        this.reportQueryRepository = reportQueryRepository;
+        this.expenseRepository = expenseRepository;
+        this.entityMapper = entityMapper;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new FairShareExecutor("report-worker", properties.getWorkers(),
+            properties.getMaxQueuedPerUser(), properties.getMaxQueued());
+        this.resultCache = Caffeine.newBuilder()
+            .maximumWeight(properties.getResultCacheMaxChars())
+            .weigher((Long jobId, ReportResultDto result) -> result.getContent() == null ? 1 : result.getContent().length())
+            .expireAfterWrite(properties.getResultTtlMs(), TimeUnit.MILLISECONDS)
+            .build();
+        // Reloads long-polled jobs, off the JDK-wide delayer thread that fires the wait timeouts
+        this.pollExecutor = new ThreadPoolTaskExecutor();
+        pollExecutor.setCorePoolSize(POLL_THREADS);
+        pollExecutor.setMaxPoolSize(POLL_THREADS);
+        pollExecutor.setThreadNamePrefix("report-poll-");
+        pollExecutor.setDaemon(true);
+        pollExecutor.initialize();
+        Gauge.builder("reports.queue.size", executor, FairShareExecutor::getQueuedCount)
+            .description("Report jobs waiting for a worker")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Re-queue jobs left unfinished by a previous shutdown.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<ReportJob> unfinished = reportJobRepository.findByStatusInOrderByCreatedAtAsc(ACTIVE);
+        for (ReportJob job : unfinished) {
+            if (enqueue(job) != FairShareExecutor.Admission.ACCEPTED) {
+                complete(job, ReportJobStatus.FAILED, "Report could not be resumed after restart");
+            }
+        }
+        if (!unfinished.isEmpty()) {
+            log.info("Resumed {} unfinished report jobs", unfinished.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown(5_000);
+        pollExecutor.shutdown();
+    }
+
+    @Override
+    public ReportJobDto submitReport(Long userId, ReportRequestDto reportRequestDto) {
+        if (reportRequestDto.getStartDate().isAfter(reportRequestDto.getEndDate())) {
+            throw new ValidationException("Start date must be before end date");
+        }
+        purgeExpiredIfDue();
+
+        // A job is only reused while the expenses in its range are unchanged, whichever mode wrote them
+        Object[] version = expenseRepository.findRangeVersion(
+            userId, reportRequestDto.getStartDate(), reportRequestDto.getEndDate()).get(0);
+        String specHash = specHashOf(reportRequestDto, version[0] + "|" + version[1]);
+        Optional<ReportJob> reusable = reportJobRepository
+            .findFirstByUserIdAndSpecHashAndStatusInOrderByCreatedAtDesc(userId, specHash, ACTIVE)
+            .or(() -> reportJobRepository
+                .findFirstByUserIdAndSpecHashAndStatusInOrderByCreatedAtDesc(
+                    userId, specHash, EnumSet.of(ReportJobStatus.SUCCEEDED))
+                .filter(job -> job.getExpiresAt().isAfter(LocalDateTime.now())));
+        if (reusable.isPresent()) {
+            log.debug("Reusing report job {} for user: {}", reusable.get().getId(), userId);
+            return entityMapper.toReportJobDto(reusable.get());
+        }
+
+        ReportJob job = reportJobRepository.save(ReportJob.builder()
+            .userId(userId)
+            .type(reportRequestDto.getType())
+            .startDate(reportRequestDto.getStartDate())
+            .endDate(reportRequestDto.getEndDate())
+            .specHash(specHash)
+            .status(ReportJobStatus.QUEUED)
+            .build());
+
+        FairShareExecutor.Admission admission = enqueue(job);
+        if (admission != FairShareExecutor.Admission.ACCEPTED) {
+            reportJobRepository.delete(job);
+            if (admission == FairShareExecutor.Admission.KEY_LIMIT_REACHED) {
+                throw new TooManyRequestsException("Too many queued reports, wait for one to complete");
+            }
+            throw new ServiceUnavailableException("Report queue is full, please retry later");
+        }
+
+        log.info("Queued {} report job {} for user: {}", job.getType(), job.getId(), userId);
+        return entityMapper.toReportJobDto(job);
+    }
+
+    @Override
+    public CompletableFuture<ReportJobDto> awaitReport(Long userId, Long jobId, long waitMs) {
+        ReportJob job = findOwnedJob(userId, jobId);
+        long wait = Math.min(waitMs, properties.getMaxWaitMs());
+        CompletableFuture<Void> completion = completions.get(jobId);
+        if (job.getStatus().isTerminal() || wait <= 0) {
+            return CompletableFuture.completedFuture(entityMapper.toReportJobDto(job));
+        }
+        if (completion == null) {
+            // Completed between the read and the lookup
+            return CompletableFuture.completedFuture(entityMapper.toReportJobDto(findOwnedJob(userId, jobId)));
+        }
+        return completion.copy()
+            .completeOnTimeout(null, wait, TimeUnit.MILLISECONDS)
+            .thenApplyAsync(ignored -> entityMapper.toReportJobDto(findOwnedJob(userId, jobId)), pollExecutor);
+    }
+
+    @Override
+    public ReportResultDto getReportResult(Long userId, Long jobId) {
+        ReportJob job = findOwnedJob(userId, jobId);
+        if (job.getStatus() != ReportJobStatus.SUCCEEDED) {
+            throw new ValidationException("Report job " + jobId + " has no result (status: " + job.getStatus() + ")");
+        }
+        return resultCache.get(jobId, id -> reportResultRepository.findById(id)
+            .map(result -> ReportResultDto.builder()
+                .contentType(result.getContentType())
+                .fileName(result.getFileName())
+                .content(result.getChunks() > 0 ? null : result.getContent())
+                .chunks(result.getChunks())
+                .build())
+            .orElseThrow(() -> new ResourceNotFoundException("Report result not found for job ID: " + id)));
+    }
+
+    @Override
+    public void writeReportResult(Long jobId, ReportResultDto result, OutputStream out) throws IOException {
+        if (result.getContent() != null) {
+            out.write(result.getContent().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        for (int seq = 0; seq < result.getChunks(); seq++) {
+            ReportResultChunk chunk = reportResultChunkRepository.findByJobIdAndSeq(jobId, seq)
+                // Purged while downloading; the client sees a truncated response
+                .orElseThrow(() -> new IOException("Report result of job " + jobId + " is no longer available"));
+            out.write(chunk.getContent().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private ReportJob findOwnedJob(Long userId, Long jobId) {
+        return reportJobRepository.findByIdAndUserId(jobId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Report job not found with ID: " + jobId));
+    }
+
+    private FairShareExecutor.Admission enqueue(ReportJob job) {
+        Long jobId = job.getId();
+        completions.put(jobId, new CompletableFuture<>());
+        FairShareExecutor.Admission admission = executor.submit(job.getUserId(), () -> run(jobId));
+        if (admission != FairShareExecutor.Admission.ACCEPTED) {
+            completions.remove(jobId);
+        }
+        return admission;
+    }
+
+    private void run(Long jobId) {
+        ReportJob queued = reportJobRepository.findById(jobId).orElse(null);
+        if (queued == null || queued.getStatus().isTerminal()) {
+            signal(jobId);
+            return;
+        }
+        queued.setStatus(ReportJobStatus.RUNNING);
+        queued.setStartedAt(LocalDateTime.now());
+        ReportJob job = reportJobRepository.save(queued);
+
+        try {
+            ReportResult result = generate(job);
+            // The result and the status that makes it downloadable commit together
+            transactionTemplate.executeWithoutResult(status -> {
+                reportResultRepository.save(result);
+                markCompleted(job, ReportJobStatus.SUCCEEDED, null);
+            });
+            signal(jobId);
+            log.info("Report job {} completed in {} ms", jobId,
+                Duration.between(job.getStartedAt(), job.getCompletedAt()).toMillis());
+        } catch (Throwable ex) {
+            // Also errors such as running out of memory on a large export, or the job stays RUNNING
+            // until the next restart; not rethrown, so the worker thread survives
+            log.warn("Report job {} failed", jobId, ex);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    reportResultRepository.deleteByJobIds(List.of(jobId));
+                    reportResultChunkRepository.deleteByJobIds(List.of(jobId));
+                    markCompleted(job, ReportJobStatus.FAILED, "Report generation failed");
+                });
+            } finally {
+                signal(jobId);
+            }
+        }
+    }
+
+    private void complete(ReportJob job, ReportJobStatus status, String errorMessage) {
+        try {
+            markCompleted(job, status, errorMessage);
+        } finally {
+            signal(job.getId());
+        }
+    }
+
+    private void markCompleted(ReportJob job, ReportJobStatus status, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setStatus(status);
+        job.setErrorMessage(errorMessage);
+        job.setCompletedAt(now);
+        job.setExpiresAt(now.plusNanos(properties.getResultTtlMs() * 1_000_000));
+        reportJobRepository.save(job);
+    }
+
+    private void signal(Long jobId) {
+        CompletableFuture<Void> completion = completions.remove(jobId);
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+
+    private ReportResult generate(ReportJob job) {
+        String range = job.getStartDate() + "_" + job.getEndDate();
+        return switch (job.getType()) {
+            case CATEGORY_BREAKDOWN -> jsonResult(job, "category-breakdown-" + range + ".json",
+                toSummary(reportQueryRepository.getCategoryTotals(
+                    job.getUserId(), job.getStartDate(), job.getEndDate())));
+            case MONTHLY_BREAKDOWN -> {
+                Map<String, CategorySummaryDto> months = new LinkedHashMap<>();
+                for (Map.Entry<YearMonth, Map<ExpenseCategory, BigDecimal>> month : reportQueryRepository
+                        .getMonthlyCategoryTotals(job.getUserId(), job.getStartDate(), job.getEndDate()).entrySet()) {
+                    months.put(month.getKey().toString(), toSummary(month.getValue()));
+                }
+                yield jsonResult(job, "monthly-breakdown-" + range + ".json", months);
+            }
+            case EXPENSE_EXPORT -> {
+                StringBuilder csv = new StringBuilder(CHUNK_CHARS + 1024).append("date,category,amount,description\n");
+                int[] chunks = {0};
+                reportQueryRepository.streamExpenses(job.getUserId(), job.getStartDate(), job.getEndDate(), rs -> {
+                    csv.append(rs.getDate(1).toLocalDate()).append(',')
+                        .append(rs.getString(2)).append(',')
+                        .append(rs.getBigDecimal(3).toPlainString()).append(',')
+                        .append(csvField(rs.getString(4))).append('\n');
+                    if (csv.length() >= CHUNK_CHARS) {
+                        saveChunk(job.getId(), chunks[0]++, csv);
+                    }
+                });
+                saveChunk(job.getId(), chunks[0]++, csv);
+                yield ReportResult.builder()
+                    .jobId(job.getId())
+                    .contentType("text/csv")
+                    .fileName("expenses-" + range + ".csv")
+                    .content("")
+                    .chunks(chunks[0])
+                    .build();
+            }
+        };
+    }
+
+    private void saveChunk(Long jobId, int seq, StringBuilder content) {
+        reportResultChunkRepository.save(ReportResultChunk.builder()
+            .jobId(jobId)
+            .seq(seq)
+            .content(content.toString())
+            .build());
+        content.setLength(0);
+    }
+
+    private ReportResult jsonResult(ReportJob job, String fileName, Object body) {
+        try {
+            return ReportResult.builder()
+                .jobId(job.getId())
+                .contentType("application/json")
+                .fileName(fileName)
+                .content(objectMapper.writeValueAsString(body))
+                .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize report", ex);
+        }
+    }
+
+    private static CategorySummaryDto toSummary(Map<ExpenseCategory, BigDecimal> totals) {
+        Map<String, BigDecimal> categoryTotals = new HashMap<>();
+        BigDecimal grandTotal = BigDecimal.ZERO;
+        for (Map.Entry<ExpenseCategory, BigDecimal> total : totals.entrySet()) {
+            categoryTotals.put(total.getKey().name(), total.getValue());
+            grandTotal = grandTotal.add(total.getValue());
+        }
+        return CategorySummaryDto.builder()
+            .categoryTotals(categoryTotals)
+            .grandTotal(grandTotal)
+            .build();
+    }
+
+    /**
+     * Quote a CSV field when needed and neutralize leading characters spreadsheets treat as formulas.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String specHashOf(ReportRequestDto reportRequestDto, String dataVersion) {
+        String spec = reportRequestDto.getType() + "|" + reportRequestDto.getStartDate() + "|" + reportRequestDto.getEndDate()
+            + "|" + dataVersion;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(spec.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurge.get();
+        if (now - last >= PURGE_INTERVAL_MS && lastPurge.compareAndSet(last, now)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> expired = reportJobRepository.findExpiredIds(LocalDateTime.now());
+                if (!expired.isEmpty()) {
+                    reportResultRepository.deleteByJobIds(expired);
+                    reportResultChunkRepository.deleteByJobIds(expired);
+                    reportJobRepository.deleteByIds(expired);
+                    expired.forEach(resultCache::invalidate);
+                    log.debug("Purged {} expired report jobs", expired.size());
+                }
+            });
+        }
+    }
+
+}
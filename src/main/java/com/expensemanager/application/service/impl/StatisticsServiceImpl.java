@@ -0,0 +1,214 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.AmountStatisticsDto;
+import com.expensemanager.application.dto.ExpenseStatisticsDto;
+import com.expensemanager.application.dto.HistogramBinDto;
+import com.expensemanager.application.service.StatisticsService;
+import com.expensemanager.domain.entity.CategoryAmountSketch;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.analytics.AmountSketch;
+import com.expensemanager.infrastructure.analytics.ExpenseColumns;
+import com.expensemanager.infrastructure.analytics.PendingExpenseChanges;
+import com.expensemanager.infrastructure.repository.CategoryAmountSketchRepository;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of StatisticsService.
+ * <p>
+ * Each user has one persisted {@link AmountSketch} per category, so a request reads at most one
+ * row per category and never sorts expenses. Sketches are built from the expenses on the first
+ * request, and rebuilt once older than {@code app.analytics.statistics.rebuild-after-ms} to
+ * correct drift from writes that bypass this service. Expense writes update the sketches through
+ * {@link PendingExpenseChanges}, just before they commit. Builds and updates both lock the user's
+ * row first, so they never interleave.
+ */
+@Service
+@Slf4j
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final int MAX_BINS = 50;
+    private static final String ALL_CATEGORIES = "ALL";
+
+    private final CategoryAmountSketchRepository sketchRepository;
+    private final ExpenseRepository expenseRepository;
+    private final UserRepository userRepository;
+    private final long rebuildAfterMs;
+    private final PendingExpenseChanges<Map<ExpenseCategory, AmountSketch>> pendingChanges =
+        new PendingExpenseChanges<>(() -> new EnumMap<>(ExpenseCategory.class), StatisticsServiceImpl::collect,
+            this::applyChanges);
+
+    public StatisticsServiceImpl(
+            CategoryAmountSketchRepository sketchRepository,
+            ExpenseRepository expenseRepository,
+            UserRepository userRepository,
+            @Value("${app.analytics.statistics.rebuild-after-ms}") long rebuildAfterMs) {
+        this.sketchRepository = sketchRepository;
+        this.expenseRepository = expenseRepository;
+        this.userRepository = userRepository;
+        this.rebuildAfterMs = rebuildAfterMs;
+    }
+
+    @Override
+    @Transactional
+    public ExpenseStatisticsDto getStatistics(Long userId, int bins) {
+        log.debug("Fetching amount statistics for user: {}", userId);
+        if (bins < 1 || bins > MAX_BINS) {
+            throw new ValidationException("Bins must be between 1 and " + MAX_BINS);
+        }
+
+        Map<ExpenseCategory, CategoryAmountSketch> rows = byCategory(sketchRepository.findByUserId(userId));
+        if (!staleCategories(rows).isEmpty()) {
+            rows = rebuild(userId);
+        }
+
+        AmountSketch overall = new AmountSketch();
+        List<AmountStatisticsDto> categories = new ArrayList<>();
+        for (CategoryAmountSketch row : rows.values()) {
+            AmountSketch sketch = AmountSketch.decode(row.getSketch());
+            if (sketch.count() > 0) {
+                categories.add(toDto(row.getCategory().name(), sketch, bins));
+                overall.merge(sketch);
+            }
+        }
+
+        return ExpenseStatisticsDto.builder()
+            .relativeError(AmountSketch.RELATIVE_ACCURACY)
+            .overall(toDto(ALL_CATEGORIES, overall, bins))
+            .categories(categories)
+            .build();
+    }
+
+    /**
+     * Collect an expense change into the current transaction's pending sketch updates.
+     */
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        pendingChanges.add(event);
+    }
+
+    private Map<ExpenseCategory, CategoryAmountSketch> rebuild(Long userId) {
+        userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        // Another request may have rebuilt while this one waited for the lock
+        Map<ExpenseCategory, CategoryAmountSketch> rows = byCategory(sketchRepository.findByUserId(userId));
+        EnumSet<ExpenseCategory> stale = staleCategories(rows);
+        if (stale.isEmpty()) {
+            return rows;
+        }
+        log.info("Rebuilding amount sketches for user: {}, categories: {}", userId, stale);
+
+        Map<ExpenseCategory, AmountSketch> sketches = new EnumMap<>(ExpenseCategory.class);
+        stale.forEach(category -> sketches.put(category, new AmountSketch()));
+        for (Object[] row : expenseRepository.findCategoryAmounts(userId, stale)) {
+            sketches.get((ExpenseCategory) row[0]).add(ExpenseColumns.toMinorUnits((BigDecimal) row[1]), 1);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        sketches.forEach((category, sketch) -> {
+            CategoryAmountSketch row = rows.computeIfAbsent(category, key -> CategoryAmountSketch.builder()
+                .userId(userId)
+                .category(key)
+                .build());
+            row.setSketch(sketch.encode());
+            row.setExpenseCount(sketch.count());
+            row.setRebuiltAt(now);
+            row.setUpdatedAt(now);
+            sketchRepository.save(row);
+        });
+        return rows;
+    }
+
+    /**
+     * Apply the changes collected in one transaction, per user, just before it commits.
+     */
+    private void applyChanges(Map<Long, Map<ExpenseCategory, AmountSketch>> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        changes.forEach((userId, deltas) -> {
+            userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+            Map<ExpenseCategory, CategoryAmountSketch> rows = byCategory(sketchRepository.findByUserId(userId));
+            // Without a row the category has not been built yet; the build will read this change
+            deltas.forEach((category, delta) -> {
+                CategoryAmountSketch row = rows.get(category);
+                if (row == null) {
+                    return;
+                }
+                AmountSketch sketch = AmountSketch.decode(row.getSketch());
+                sketch.merge(delta);
+                row.setSketch(sketch.encode());
+                row.setExpenseCount(sketch.count());
+                row.setUpdatedAt(now);
+            });
+        });
+    }
+
+    private EnumSet<ExpenseCategory> staleCategories(Map<ExpenseCategory, CategoryAmountSketch> rows) {
+        EnumSet<ExpenseCategory> stale = EnumSet.noneOf(ExpenseCategory.class);
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(rebuildAfterMs));
+        for (ExpenseCategory category : ExpenseCategory.values()) {
+            CategoryAmountSketch row = rows.get(category);
+            if (row == null || row.getRebuiltAt().isBefore(cutoff)) {
+                stale.add(category);
+            }
+        }
+        return stale;
+    }
+
+    private static Map<ExpenseCategory, CategoryAmountSketch> byCategory(List<CategoryAmountSketch> rows) {
+        Map<ExpenseCategory, CategoryAmountSketch> byCategory = new EnumMap<>(ExpenseCategory.class);
+        rows.forEach(row -> byCategory.put(row.getCategory(), row));
+        return byCategory;
+    }
+
+    private static AmountStatisticsDto toDto(String category, AmountSketch sketch, int bins) {
+        long count = sketch.count();
+        BigDecimal total = ExpenseColumns.fromMinorUnits(sketch.total());
+        return AmountStatisticsDto.builder()
+            .category(category)
+            .count(count)
+            .total(total)
+            .mean(count == 0 ? BigDecimal.ZERO : total.divide(BigDecimal.valueOf(count), ExpenseColumns.SCALE, RoundingMode.HALF_UP))
+            .median(ExpenseColumns.fromMinorUnits(sketch.quantile(0.5)))
+            .p90(ExpenseColumns.fromMinorUnits(sketch.quantile(0.9)))
+            .histogram(sketch.histogram(bins).stream()
+                .map(bin -> HistogramBinDto.builder()
+                    .lowerBound(ExpenseColumns.fromMinorUnits(bin.lowerBound()))
+                    .upperBound(ExpenseColumns.fromMinorUnits(bin.upperBound()))
+                    .count(bin.count())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    private static void collect(Map<ExpenseCategory, AmountSketch> deltas, ExpenseChangedEvent event) {
+        if (event.previous() != null) {
+            deltas.computeIfAbsent(event.previous().category(), category -> new AmountSketch())
+                .add(ExpenseColumns.toMinorUnits(event.previous().amount()), -1);
+        }
+        if (event.current() != null) {
+            deltas.computeIfAbsent(event.current().category(), category -> new AmountSketch())
+                .add(ExpenseColumns.toMinorUnits(event.current().amount()), 1);
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.api.exception.DuplicateResourceException;
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.TagDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.dto.TagRequestDto;
+import com.expensemanager.application.service.TagService;
+import com.expensemanager.domain.entity.FreedTagBit;
+import com.expensemanager.domain.entity.UserTag;
+import com.expensemanager.domain.event.TagDeletedEvent;
+import com.expensemanager.infrastructure.config.ColumnarAnalyticsProperties;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.FreedTagBitRepository;
+import com.expensemanager.infrastructure.repository.UserRepository;
+import com.expensemanager.infrastructure.repository.UserTagRepository;
+import com.expensemanager.infrastructure.tags.TagDictionary;
+import com.expensemanager.infrastructure.tags.TagFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Implementation of TagService.
+ * <p>
+ * Each user's tags form a dictionary of at most 64 entries, each owning one bit of the
+ * {@code tag_mask} column, so tagging needs no join table and tag filters are bitwise tests.
+ * Creating and deleting tags locks the user's row, like the expense writes that resolve names.
+ * A deleted tag's bit is only reused once other nodes' columnar snapshots and dictionaries, which
+ * may still give it the old meaning, have expired.
+ */
+@Service
+@Transactional
+@Slf4j
+public class TagServiceImpl implements TagService {
+
+    private final UserTagRepository userTagRepository;
+    private final FreedTagBitRepository freedTagBitRepository;
+    private final UserRepository userRepository;
+    private final ExpenseRepository expenseRepository;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long bitReuseDelayMs;
+
+    public TagServiceImpl(
+            UserTagRepository userTagRepository,
+            FreedTagBitRepository freedTagBitRepository,
+            UserRepository userRepository,
+            ExpenseRepository expenseRepository,
+            TagDictionary tagDictionary,
+            ApplicationEventPublisher eventPublisher,
+            ColumnarAnalyticsProperties columnarProperties,
+            @Value("${app.tags.dictionary-ttl-ms}") long dictionaryTtlMs) {
+        this.userTagRepository = userTagRepository;
+        this.freedTagBitRepository = freedTagBitRepository;
+        this.userRepository = userRepository;
+        this.expenseRepository = expenseRepository;
+        this.tagDictionary = tagDictionary;
+        this.eventPublisher = eventPublisher;
+        this.bitReuseDelayMs = Math.max(columnarProperties.getMaxStalenessMs(), dictionaryTtlMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TagDto> getTags(Long userId) {
+        log.debug("Fetching tags for user: {}", userId);
+        return userTagRepository.findByUserIdOrderByBit(userId).stream()
+            .map(TagServiceImpl::toTagDto)
+            .toList();
+    }
+
+    @Override
+    public TagDto createTag(Long userId, TagRequestDto tagRequestDto) {
+        String name = normalize(tagRequestDto.getName());
+        log.info("Creating tag '{}' for user: {}", name, userId);
+
+        userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+
+        List<UserTag> tags = userTagRepository.findByUserIdOrderByBit(userId);
+        long assigned = 0;
+        for (UserTag tag : tags) {
+            if (tag.getName().equals(name)) {
+                throw new DuplicateResourceException("Tag already exists: " + name);
+            }
+            assigned |= tag.mask();
+        }
+        if (assigned == -1L) {
+            throw new ValidationException("A user can have at most " + UserTag.MAX_TAGS_PER_USER + " tags");
+        }
+        freedTagBitRepository.deleteFreedBefore(userId, LocalDateTime.now().minus(Duration.ofMillis(bitReuseDelayMs)));
+        for (FreedTagBit freed : freedTagBitRepository.findByUserId(userId)) {
+            assigned |= freed.mask();
+        }
+        if (assigned == -1L) {
+            throw new ValidationException("Deleted tags free their slot " + bitReuseDelayMs / 1_000
+                + " seconds after deletion; delete a tag or try again later");
+        }
+
+        UserTag tag = userTagRepository.save(UserTag.builder()
+            .userId(userId)
+            .name(name)
+            .bit(Long.numberOfTrailingZeros(~assigned))
+            .build());
+        tagDictionary.invalidateAfterCommit(userId);
+        log.info("Tag created with ID: {} on bit {}", tag.getId(), tag.getBit());
+        return toTagDto(tag);
+    }
+
+    @Override
+    public void deleteTag(Long userId, Long tagId) {
+        log.info("Deleting tag with ID: {} for user: {}", tagId, userId);
+
+        userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        UserTag tag = userTagRepository.findByIdAndUserId(tagId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Tag not found with ID: " + tagId));
+
+        // Clear the bit everywhere, and hold it back from new tags until no node can still give
+        // it the old meaning
+        int untagged = expenseRepository.clearTag(userId, tag.mask(), ~tag.mask());
+        userTagRepository.delete(tag);
+        FreedTagBit freed = freedTagBitRepository.findByUserIdAndBit(userId, tag.getBit())
+            .orElseGet(() -> FreedTagBit.builder().userId(userId).bit(tag.getBit()).build());
+        freed.setFreedAt(LocalDateTime.now());
+        freedTagBitRepository.save(freed);
+        eventPublisher.publishEvent(new TagDeletedEvent(userId, tag.mask()));
+        tagDictionary.invalidateAfterCommit(userId);
+        log.info("Tag deleted with ID: {}, removed from {} expenses", tagId, untagged);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long maskOf(Long userId, Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return 0;
+        }
+        return maskOf(tagDictionary.load(userId), names);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TagFilter resolveFilter(Long userId, TagFilterDto filter) {
+        if (filter == null || (isEmpty(filter.getAllOf()) && isEmpty(filter.getAnyOf()) && isEmpty(filter.getNoneOf()))) {
+            return TagFilter.NONE;
+        }
+        TagDictionary.UserTags tags = tagDictionary.get(userId);
+        return new TagFilter(
+            maskOf(tags, filter.getAllOf()),
+            maskOf(tags, filter.getAnyOf()),
+            maskOf(tags, filter.getNoneOf()));
+    }
+
+    private static long maskOf(TagDictionary.UserTags tags, Collection<String> names) {
+        long mask = 0;
+        if (names == null) {
+            return mask;
+        }
+        for (String name : names) {
+            int bit = tags.bitOf(normalize(name));
+            if (bit < 0) {
+                throw new ValidationException("Unknown tag: " + name);
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    private static boolean isEmpty(Collection<String> names) {
+        return names == null || names.isEmpty();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static TagDto toTagDto(UserTag tag) {
+        return TagDto.builder()
+            .id(tag.getId())
+            .name(tag.getName())
+            .createdAt(tag.getCreatedAt())
+            .build();
+    }
+
+}
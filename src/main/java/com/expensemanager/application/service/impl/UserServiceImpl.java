@@ -7,7 +7,12 @@ import com.expensemanager.application.dto.UserResponseDto;
 import com.expensemanager.application.mapper.EntityMapper;
 import com.expensemanager.application.service.UserService;
 import com.expensemanager.domain.entity.User;
+import com.expensemanager.infrastructure.repository.CategoryAmountMomentsRepository;
+import com.expensemanager.infrastructure.repository.CategoryAmountSketchRepository;
+import com.expensemanager.infrastructure.repository.FreedTagBitRepository;
+import com.expensemanager.infrastructure.repository.MonthlyMerchantSketchRepository;
 import com.expensemanager.infrastructure.repository.UserRepository;
+import com.expensemanager.infrastructure.repository.UserTagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +33,11 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EntityMapper entityMapper;
+    private final CategoryAmountSketchRepository categoryAmountSketchRepository;
+    private final CategoryAmountMomentsRepository categoryAmountMomentsRepository;
+    private final MonthlyMerchantSketchRepository monthlyMerchantSketchRepository;
+    private final UserTagRepository userTagRepository;
+    private final FreedTagBitRepository freedTagBitRepository;
 
     @Override
     public UserResponseDto createUser(UserRequestDto userRequestDto) {
@@ -121,6 +131,11 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
 
+        categoryAmountSketchRepository.deleteByUserId(id);
+        categoryAmountMomentsRepository.deleteByUserId(id);
+        monthlyMerchantSketchRepository.deleteByUserId(id);
+        userTagRepository.deleteByUserId(id);
+        freedTagBitRepository.deleteByUserId(id);
         userRepository.delete(user);
         log.info("User deleted successfully with ID: {}", id);
     }
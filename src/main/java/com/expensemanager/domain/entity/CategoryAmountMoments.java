@@ -0,0 +1,64 @@
+package com.expensemanager.domain.entity;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exponentially decayed running mean and variance of the logarithm of one user's expense amounts
+ * in one category, used to flag unusual expenses as they are created.
+ * <p>
+ * A row is seeded from the existing expenses the first time the category is written to, and
+ * updated in place by each new expense after that. Updates are serialized by locking the owning
+ * user's row.
+ */
+@Entity
+@Table(name = "category_amount_moments", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_moments_user_category", columnNames = {"user_id", "category"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryAmountMoments {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExpenseCategory category;
+
+    /**
+     * Number of expenses observed, without decay.
+     */
+    @Column(nullable = false)
+    private long observations;
+
+    @Column(nullable = false)
+    private double mean;
+
+    @Column(nullable = false)
+    private double variance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
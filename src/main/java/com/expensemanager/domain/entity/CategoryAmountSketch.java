@@ -0,0 +1,65 @@
+package com.expensemanager.domain.entity;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted quantile sketch of one user's expense amounts in one category.
+ * <p>
+ * A user's sketches are built together, one row per category, the first time their statistics
+ * are requested; until then writes leave them alone. Updates are serialized by locking the
+ * owning user's row.
+ */
+@Entity
+@Table(name = "category_amount_sketches", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sketch_user_category", columnNames = {"user_id", "category"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryAmountSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExpenseCategory category;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+
+    /**
+     * Encoded {@code AmountSketch}.
+     */
+    @ToString.Exclude
+    @Column(nullable = false, length = 16384)
+    private byte[] sketch;
+
+    @Column(name = "rebuilt_at", nullable = false)
+    private LocalDateTime rebuiltAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -3,10 +3,19 @@ package com.expensemanager.domain.entity;
 import com.expensemanager.domain.enums.ExpenseCategory;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Expense entity representing user expenses.
@@ -15,7 +24,10 @@ import java.time.LocalDateTime;
 @Table(name = "expenses", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_expense_date", columnList = "expense_date"),
-    @Index(name = "idx_category", columnList = "category")
+    @Index(name = "idx_category", columnList = "category"),
+    @Index(name = "idx_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_user_unusual", columnList = "user_id, unusual"),
+    @Index(name = "idx_user_date_id", columnList = "user_id, expense_date, id")
 })
 @Data
 @NoArgsConstructor
@@ -23,10 +35,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Expense {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N} ]");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Excluded so that logging or hashing an entity never triggers a lazy load (or recursion)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -44,6 +62,30 @@ public class Expense {
     @Column(name = "expense_date", nullable = false)
     private LocalDate expenseDate;
 
+    /**
+     * SHA-256 of user, date, amount and normalized description, used to detect re-imported rows.
+     */
+    @Column(length = 64)
+    private String fingerprint;
+
+    /**
+     * Whether the amount was unusually high for the user and category when the expense was
+     * created or last edited.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean unusual = false;
+
+    /**
+     * The expense's tags: bit {@code n} is set when it has the owner's {@link UserTag} with
+     * {@code bit = n}.
+     */
+    @Column(name = "tag_mask", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long tagMask = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -52,9 +94,58 @@ public class Expense {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @PrePersist
+    protected void onCreate() {
+        fingerprint = fingerprintOf(user.getId(), expenseDate, amount, description);
+    }
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        fingerprint = fingerprintOf(user.getId(), expenseDate, amount, description);
+    }
+
+    /**
+     * Compute the duplicate-detection fingerprint for an expense.
+     * <p>
+     * The amount is rounded half up to cents first, as the {@code numeric(19,2)} column stores it,
+     * so that a request amount and the persisted one give the same fingerprint.
+     *
+     * @param userId the owning user ID
+     * @param expenseDate the expense date
+     * @param amount the amount
+     * @param description the free-text description
+     * @return lowercase hex SHA-256 digest
+     */
+    public static String fingerprintOf(Long userId, LocalDate expenseDate, BigDecimal amount, String description) {
+        String canonical = userId
+            + "|" + expenseDate
+            + "|" + amount.setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString()
+            + "|" + normalizeDescription(description);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Normalize a description so that case, accents, punctuation and spacing differences
+     * between statement exports do not produce distinct values.
+     *
+     * @param description the raw description
+     * @return the normalized description, empty when null
+     */
+    public static String normalizeDescription(String description) {
+        if (description == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(description, Normalizer.Form.NFKD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT);
+        normalized = NON_ALPHANUMERIC.matcher(normalized).replaceAll(" ");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
     }
 
 }
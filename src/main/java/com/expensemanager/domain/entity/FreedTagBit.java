@@ -0,0 +1,54 @@
+package com.expensemanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A tag mask bit whose {@link UserTag} was deleted, and when.
+ * <p>
+ * Other nodes may still hold expense masks or dictionaries loaded before the deletion, in which
+ * the bit means the deleted tag. The bit is only given to a new tag once those copies have
+ * expired, so that stale masks never match filters on the new tag.
+ */
+@Entity
+@Table(name = "freed_tag_bits", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_freed_tag_bits_user_bit", columnNames = {"user_id", "bit"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FreedTagBit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int bit;
+
+    @Column(name = "freed_at", nullable = false)
+    private LocalDateTime freedAt;
+
+    /**
+     * The mask with only this bit set.
+     */
+    public long mask() {
+        return 1L << bit;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.expensemanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted top-merchant sketch of one user's expenses in one calendar month.
+ * <p>
+ * A user's sketches are built together, one row per month with expenses, the first time their
+ * top merchants are requested; until then writes leave them alone. Updates are serialized by
+ * locking the owning user's row.
+ */
+@Entity
+@Table(name = "monthly_merchant_sketches", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_merchant_sketch_user_month", columnNames = {"user_id", "month_start"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyMerchantSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * First day of the month.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+
+    /**
+     * Encoded {@code MerchantSketch}.
+     */
+    @ToString.Exclude
+    @Column(nullable = false, length = 65536)
+    private byte[] sketch;
+
+    @Column(name = "rebuilt_at", nullable = false)
+    private LocalDateTime rebuiltAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
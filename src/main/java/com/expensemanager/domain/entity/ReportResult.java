@@ -0,0 +1,45 @@
+package com.expensemanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Generated content of a completed {@link ReportJob}.
+ */
+@Entity
+@Table(name = "report_results")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResult {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    /**
+     * The content, or empty when it is stored as {@link #chunks} {@link ReportResultChunk}s.
+     */
+    @Column(nullable = false, columnDefinition = "text")
+    private String content;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int chunks = 0;
+
+}
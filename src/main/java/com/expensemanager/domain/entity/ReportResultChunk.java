@@ -0,0 +1,45 @@
+package com.expensemanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One piece of the content of a large {@link ReportResult}, so that neither generating nor
+ * downloading the report holds all of it in memory.
+ */
+@Entity
+@Table(name = "report_result_chunks", indexes = {
+    @Index(name = "idx_report_chunk_job_seq", columnList = "job_id, seq", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResultChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /**
+     * Position of the chunk in the content, from 0.
+     */
+    @Column(nullable = false)
+    private int seq;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String content;
+
+}
@@ -0,0 +1,70 @@
+package com.expensemanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a user's tag dictionary: a free-form tag name and the bit that represents it in
+ * {@link Expense#getTagMask()}.
+ * <p>
+ * A user has at most {@link #MAX_TAGS_PER_USER} tags, one per bit of the mask. Bits are assigned
+ * lowest free first while the user's row is locked. A deleted tag's bit is cleared from every
+ * expense, then held back as a {@link FreedTagBit} until other nodes' copies of it have expired.
+ */
+@Entity
+@Table(name = "user_tags", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_user_tags_user_name", columnNames = {"user_id", "name"}),
+    @UniqueConstraint(name = "uk_user_tags_user_bit", columnNames = {"user_id", "bit"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTag {
+
+    public static final int MAX_TAGS_PER_USER = Long.SIZE;
+
+    public static final int MAX_NAME_LENGTH = 32;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * Lowercase tag name, unique per user.
+     */
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    /**
+     * Position of the tag's bit in the expense tag mask, from 0 to 63.
+     */
+    @Column(nullable = false)
+    private int bit;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * The mask with only this tag's bit set.
+     */
+    public long mask() {
+        return 1L << bit;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.expensemanager.domain.enums;
+
+/**
+ * Lifecycle states of an idempotency key.
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,15 @@
+package com.expensemanager.domain.enums;
+
+/**
+ * Lifecycle of an asynchronous report job.
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.expensemanager.domain.enums;
+
+/**
+ * Kinds of report that can be generated asynchronously.
+ */
+public enum ReportType {
+    /** Totals per category over the date range (JSON). */
+    CATEGORY_BREAKDOWN,
+    /** Totals per category for each month in the date range (JSON). */
+    MONTHLY_BREAKDOWN,
+    /** Every expense in the date range (CSV). */
+    EXPENSE_EXPORT
+}
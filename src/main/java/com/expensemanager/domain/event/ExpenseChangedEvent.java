@@ -0,0 +1,54 @@
+package com.expensemanager.domain.event;
+
+import com.expensemanager.domain.entity.Expense;
+import com.expensemanager.domain.enums.ExpenseCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Published by the expense write paths inside their transaction. Listeners that maintain derived
+ * state should use {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param userId    owner of the expense
+ * @param expenseId the expense ID
+ * @param type      what happened to the expense
+ * @param previous  the values before the change; {@code null} for {@link Type#CREATED}
+ * @param current   the values after the change; {@code null} for {@link Type#DELETED}
+ */
+public record ExpenseChangedEvent(Long userId, Long expenseId, Type type, Values previous, Values current) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * The analytic fields of an expense at one point in time.
+     */
+    public record Values(BigDecimal amount, LocalDate expenseDate, ExpenseCategory category, String description,
+                         long tagMask) {
+
+        public static Values of(Expense expense) {
+            return new Values(expense.getAmount(), expense.getExpenseDate(), expense.getCategory(),
+                expense.getDescription(), expense.getTagMask());
+        }
+    }
+
+    public static ExpenseChangedEvent created(Expense expense) {
+        return new ExpenseChangedEvent(expense.getUser().getId(), expense.getId(), Type.CREATED,
+            null, Values.of(expense));
+    }
+
+    public static ExpenseChangedEvent updated(Expense expense, Values previous) {
+        return new ExpenseChangedEvent(expense.getUser().getId(), expense.getId(), Type.UPDATED,
+            previous, Values.of(expense));
+    }
+
+    public static ExpenseChangedEvent deleted(Expense expense) {
+        return new ExpenseChangedEvent(expense.getUser().getId(), expense.getId(), Type.DELETED,
+            Values.of(expense), null);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.expensemanager.domain.event;
+
+/**
+ * Published inside the transaction that deletes a tag, after its bit has been cleared from the
+ * user's expenses by a bulk update that publishes no {@link ExpenseChangedEvent}s.
+ *
+ * @param userId  owner of the tag
+ * @param tagMask the mask with only the deleted tag's bit set
+ */
+public record TagDeletedEvent(Long userId, long tagMask) {
+}
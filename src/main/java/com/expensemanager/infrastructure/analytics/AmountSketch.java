@@ -0,0 +1,241 @@
+package com.expensemanager.infrastructure.analytics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mergeable quantile sketch of amounts in minor units, with logarithmic buckets in the style of
+ * DDSketch: bucket {@code i} counts values in {@code (GAMMA^(i-1), GAMMA^i]}, so any quantile
+ * is estimated within {@link #RELATIVE_ACCURACY} of a true value.
+ * <p>
+ * Unlike t-digest or KLL, bucket counts can be decremented exactly, so a deleted or updated
+ * expense is removed without rebuilding. Amounts up to the column maximum need fewer than
+ * 2,000 buckets, which bounds both the size and the cost of a query. Counts may be negative
+ * while a sketch is used as a delta.
+ */
+public final class AmountSketch {
+
+    /**
+     * Maximum relative error of a quantile estimate.
+     */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte FORMAT_VERSION = 1;
+
+    // counts[i] is the count of bucket offset + i; values <= 0 are counted separately
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private long total;
+
+    /**
+     * Add {@code occurrences} of a value; a negative number removes it.
+     */
+    public void add(long minorUnits, long occurrences) {
+        count += occurrences;
+        total += minorUnits * occurrences;
+        if (minorUnits <= 0) {
+            zeroCount += occurrences;
+            return;
+        }
+        int index = bucketOf(minorUnits);
+        ensureBucket(index);
+        counts[index - offset] += occurrences;
+    }
+
+    /**
+     * Add every value of another sketch to this one.
+     */
+    public void merge(AmountSketch other) {
+        count += other.count;
+        total += other.total;
+        zeroCount += other.zeroCount;
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                int index = other.offset + i;
+                ensureBucket(index);
+                counts[index - offset] += other.counts[i];
+            }
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Exact sum of all values, in minor units.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Estimate the value at quantile {@code q} (0 to 1), in minor units.
+     *
+     * @return the estimate, or 0 if the sketch is empty
+     */
+    public long quantile(double q) {
+        if (count <= 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return representative(offset + i);
+            }
+        }
+        return representative(offset + counts.length - 1);
+    }
+
+    /**
+     * Group the non-empty buckets into at most {@code bins} ranges of equal logarithmic width,
+     * spanning the smallest to the largest value.
+     */
+    public List<Bin> histogram(int bins) {
+        int first = 0;
+        while (first < counts.length && counts[first] == 0) {
+            first++;
+        }
+        int last = counts.length - 1;
+        while (last >= first && counts[last] == 0) {
+            last--;
+        }
+        List<Bin> histogram = new ArrayList<>(bins + 1);
+        if (zeroCount > 0) {
+            histogram.add(new Bin(0, 0, zeroCount));
+        }
+        if (first > last) {
+            return histogram;
+        }
+        int span = last - first + 1;
+        int width = Math.max(1, (span + bins - 1) / bins);
+        for (int start = first; start <= last; start += width) {
+            int end = Math.min(start + width - 1, last);
+            long binCount = 0;
+            for (int i = start; i <= end; i++) {
+                binCount += counts[i];
+            }
+            long lower = lowerBound(offset + start);
+            long upper = upperBound(offset + end);
+            // Buckets below about 50 minor units can be narrower than one unit and hold no value
+            if (lower <= upper) {
+                histogram.add(new Bin(lower, upper, binCount));
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Compact binary form: non-empty buckets as (index delta, count) varint pairs.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+        out.write(FORMAT_VERSION);
+        VarInts.writeVarLong(out, VarInts.zigZag(count));
+        VarInts.writeVarLong(out, VarInts.zigZag(total));
+        VarInts.writeVarLong(out, VarInts.zigZag(zeroCount));
+        int buckets = 0;
+        for (long bucketCount : counts) {
+            if (bucketCount != 0) {
+                buckets++;
+            }
+        }
+        VarInts.writeVarLong(out, buckets);
+        int previous = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                VarInts.writeVarLong(out, VarInts.zigZag(offset + i - previous));
+                VarInts.writeVarLong(out, VarInts.zigZag(counts[i]));
+                previous = offset + i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Read a sketch written by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a sketch
+     */
+    public static AmountSketch decode(byte[] bytes) {
+        AmountSketch sketch = new AmountSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            if (in.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported sketch format");
+            }
+            sketch.count = VarInts.unZigZag(VarInts.readVarLong(in));
+            sketch.total = VarInts.unZigZag(VarInts.readVarLong(in));
+            sketch.zeroCount = VarInts.unZigZag(VarInts.readVarLong(in));
+            long buckets = VarInts.readVarLong(in);
+            int index = 0;
+            for (long i = 0; i < buckets; i++) {
+                index += (int) VarInts.unZigZag(VarInts.readVarLong(in));
+                sketch.ensureBucket(index);
+                sketch.counts[index - sketch.offset] = VarInts.unZigZag(VarInts.readVarLong(in));
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated sketch", ex);
+        }
+        return sketch;
+    }
+
+    /**
+     * A histogram range {@code [lowerBound, upperBound]} in minor units and the number of values in it.
+     */
+    public record Bin(long lowerBound, long upperBound, long count) {
+    }
+
+    private static int bucketOf(long minorUnits) {
+        return (int) Math.ceil(Math.log(minorUnits) / LOG_GAMMA);
+    }
+
+    /**
+     * The value minimizing the relative error for every value in the bucket.
+     */
+    private static long representative(int index) {
+        return Math.max(1, Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1)));
+    }
+
+    private static long lowerBound(int index) {
+        return index == 0 ? 1 : (long) Math.floor(Math.pow(GAMMA, index - 1)) + 1;
+    }
+
+    private static long upperBound(int index) {
+        return (long) Math.floor(Math.pow(GAMMA, index));
+    }
+
+    private void ensureBucket(int index) {
+        if (counts.length == 0) {
+            counts = new long[8];
+            offset = index;
+            return;
+        }
+        if (index < offset) {
+            int grow = Math.max(offset - index, counts.length / 2);
+            long[] grown = new long[counts.length + grow];
+            System.arraycopy(counts, 0, grown, grow, counts.length);
+            counts = grown;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length + counts.length / 2));
+        }
+    }
+
+}
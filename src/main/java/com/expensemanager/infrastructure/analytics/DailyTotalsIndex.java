@@ -0,0 +1,233 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-category Fenwick trees (binary indexed trees) of one user's daily spending, in minor units,
+ * over a contiguous window of at most {@code maxWindowDays} recent epoch days.
+ * <p>
+ * Adding an expense and summing any date range both cost O(log days), however many expenses
+ * there are. Days outside the window grow it; the trees are unrolled back to daily values and
+ * rebuilt in linear time. Days before the window (a user's oldest expenses, or a mistyped year)
+ * are kept sparse, as sorted arrays holding only days with spending, and are summed linearly.
+ */
+public final class DailyTotalsIndex {
+
+    /**
+     * Extra days allocated past the latest expense, so new expenses rarely grow the window.
+     */
+    private static final int SLACK_DAYS = 62;
+
+    private static final int CATEGORY_COUNT = ExpenseCategory.values().length;
+    private static final int OBJECT_OVERHEAD_BYTES = 128;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxDays;
+    private int originDay;
+    private int days;
+    // Position i (1-based) of each tree is day originDay + i - 1
+    private long[][] trees;
+    // Days before originDay, ascending; the totals of sparseDays[j] are at j * CATEGORY_COUNT + category
+    private int[] sparseDays = new int[0];
+    private long[] sparseTotals = new long[0];
+    private int sparseSize;
+
+    /**
+     * Create an empty index covering {@code firstDay} to {@code lastDay}, or the last
+     * {@code maxWindowDays} of them with earlier days kept sparse.
+     */
+    public DailyTotalsIndex(int firstDay, int lastDay, int maxWindowDays) {
+        int windowDays = Math.min(lastDay - firstDay + 1, maxWindowDays);
+        this.maxDays = maxWindowDays + SLACK_DAYS;
+        this.originDay = lastDay - windowDays + 1;
+        this.days = windowDays + SLACK_DAYS;
+        this.trees = new long[CATEGORY_COUNT][days + 1];
+    }
+
+    /**
+     * Add {@code amount} (negative to subtract) to a category on a day.
+     */
+    public void add(int day, int category, long amount) {
+        lock.writeLock().lock();
+        try {
+            if (day < originDay || day >= originDay + days) {
+                grow(day);
+            }
+            if (day < originDay) {
+                addSparse(day, category, amount);
+                return;
+            }
+            long[] tree = trees[category];
+            for (int i = day - originDay + 1; i <= days; i += i & -i) {
+                tree[i] += amount;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sum spending with {@code fromDay <= day <= toDay}, optionally restricted to one category.
+     *
+     * @param category category ordinal, or -1 for all categories
+     * @return total in minor units
+     */
+    public long total(int fromDay, int toDay, int category) {
+        lock.readLock().lock();
+        try {
+            if (category >= 0) {
+                return rangeSum(category, fromDay, toDay);
+            }
+            long total = 0;
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                total += rangeSum(c, fromDay, toDay);
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum spending per category with {@code fromDay <= day <= toDay}.
+     *
+     * @return totals in minor units, indexed by category ordinal
+     */
+    public long[] categoryTotals(int fromDay, int toDay) {
+        long[] totals = new long[CATEGORY_COUNT];
+        lock.readLock().lock();
+        try {
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                totals[category] = rangeSum(category, fromDay, toDay);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return totals;
+    }
+
+    /**
+     * Approximate retained heap size, used to weigh the index against the memory budget.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return OBJECT_OVERHEAD_BYTES + (long) CATEGORY_COUNT * (days + 1) * Long.BYTES
+                + (long) sparseDays.length * Integer.BYTES + (long) sparseTotals.length * Long.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long rangeSum(int category, int fromDay, int toDay) {
+        long[] tree = trees[category];
+        int from = Math.max(fromDay, originDay);
+        int to = Math.min(toDay, originDay + days - 1);
+        long sum = from > to ? 0 : prefixSum(tree, to - originDay + 1) - prefixSum(tree, from - originDay);
+        if (fromDay < originDay && sparseSize > 0) {
+            sum += sparseSum(fromDay, toDay, category);
+        }
+        return sum;
+    }
+
+    private long sparseSum(int fromDay, int toDay, int category) {
+        long sum = 0;
+        int j = Arrays.binarySearch(sparseDays, 0, sparseSize, fromDay);
+        for (j = j < 0 ? -j - 1 : j; j < sparseSize && sparseDays[j] <= toDay; j++) {
+            sum += sparseTotals[j * CATEGORY_COUNT + category];
+        }
+        return sum;
+    }
+
+    private void addSparse(int day, int category, long amount) {
+        int j = Arrays.binarySearch(sparseDays, 0, sparseSize, day);
+        if (j < 0) {
+            j = -j - 1;
+            if (sparseSize == sparseDays.length) {
+                int capacity = Math.max(16, sparseSize * 2);
+                sparseDays = Arrays.copyOf(sparseDays, capacity);
+                sparseTotals = Arrays.copyOf(sparseTotals, capacity * CATEGORY_COUNT);
+            }
+            System.arraycopy(sparseDays, j, sparseDays, j + 1, sparseSize - j);
+            System.arraycopy(sparseTotals, j * CATEGORY_COUNT, sparseTotals, (j + 1) * CATEGORY_COUNT,
+                (sparseSize - j) * CATEGORY_COUNT);
+            sparseDays[j] = day;
+            Arrays.fill(sparseTotals, j * CATEGORY_COUNT, (j + 1) * CATEGORY_COUNT, 0);
+            sparseSize++;
+        }
+        sparseTotals[j * CATEGORY_COUNT + category] += amount;
+    }
+
+    /**
+     * Sum of the first {@code position} days of the window.
+     */
+    private static long prefixSum(long[] tree, int position) {
+        long sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Move the window to cover {@code day}, unless that would exceed {@code maxDays}: then an
+     * earlier day stays sparse, and a later day moves the window forward, spilling its oldest
+     * days into the sparse arrays.
+     */
+    private void grow(int day) {
+        // Grow by at least half the current window so repeated out-of-window writes stay amortized O(log days)
+        int slack = Math.max(SLACK_DAYS, days / 2);
+        int end = originDay + days;
+        if (day < originDay) {
+            int newOrigin = Math.max(day - slack, end - maxDays);
+            if (newOrigin <= day) {
+                rebuild(newOrigin, end - newOrigin);
+            }
+        } else {
+            int newEnd = day + 1 + slack;
+            int newOrigin = Math.max(originDay, newEnd - maxDays);
+            rebuild(newOrigin, newEnd - newOrigin);
+        }
+    }
+
+    private void rebuild(int newOrigin, int newDays) {
+        for (long[] tree : trees) {
+            // Undo the linear-time construction below, leaving daily values in place
+            for (int i = days; i > 0; i--) {
+                int parent = i + (i & -i);
+                if (parent <= days) {
+                    tree[parent] -= tree[i];
+                }
+            }
+        }
+        for (int day = originDay; day < Math.min(newOrigin, originDay + days); day++) {
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                long amount = trees[category][day - originDay + 1];
+                if (amount != 0) {
+                    addSparse(day, category, amount);
+                }
+            }
+        }
+        int from = Math.max(originDay, newOrigin);
+        int to = Math.min(originDay + days, newOrigin + newDays);
+        for (int category = 0; category < CATEGORY_COUNT; category++) {
+            long[] grown = new long[newDays + 1];
+            if (from < to) {
+                System.arraycopy(trees[category], from - originDay + 1, grown, from - newOrigin + 1, to - from);
+            }
+            for (int i = 1; i <= newDays; i++) {
+                int parent = i + (i & -i);
+                if (parent <= newDays) {
+                    grown[parent] += grown[i];
+                }
+            }
+            trees[category] = grown;
+        }
+        originDay = newOrigin;
+        days = newDays;
+    }
+
+}
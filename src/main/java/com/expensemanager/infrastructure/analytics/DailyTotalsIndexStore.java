@@ -0,0 +1,78 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.config.RangeIndexProperties;
+import com.expensemanager.infrastructure.repository.AnalyticsQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Holds a {@link DailyTotalsIndex} per user, built lazily from daily totals in the database and
+ * updated incrementally as expenses are created, updated and deleted. Users whose index comes out
+ * above {@code max-user-bytes} are remembered for a while and served from SQL without another build.
+ */
+@Component
+public class DailyTotalsIndexStore extends UserIndexStore<DailyTotalsIndex> {
+
+    private final AnalyticsQueryRepository analyticsQueryRepository;
+    private final RangeIndexProperties properties;
+    private final Cache<Long, Boolean> tooLarge;
+
+    public DailyTotalsIndexStore(
+            AnalyticsQueryRepository analyticsQueryRepository,
+            RangeIndexProperties properties,
+            MeterRegistry meterRegistry) {
+        super("range", properties.getMemoryBudgetBytes(), properties.getMaxStalenessMs(),
+            properties.getLoaderThreads(), meterRegistry);
+        this.analyticsQueryRepository = analyticsQueryRepository;
+        this.properties = properties;
+        this.tooLarge = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(properties.getTooLargeTtlMs()))
+            .maximumSize(100_000)
+            .build();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    protected boolean shouldLoad(Long userId) {
+        return tooLarge.getIfPresent(userId) == null;
+    }
+
+    @Override
+    protected DailyTotalsIndex load(Long userId) {
+        DailyTotalsIndex index = analyticsQueryRepository.loadDailyTotals(userId, properties.getMaxWindowDays());
+        if (index.estimatedBytes() > properties.getMaxUserBytes()) {
+            tooLarge.put(userId, Boolean.TRUE);
+            return null;
+        }
+        return index;
+    }
+
+    @Override
+    protected void apply(DailyTotalsIndex index, ExpenseChangedEvent event) {
+        ExpenseChangedEvent.Values previous = event.previous();
+        ExpenseChangedEvent.Values current = event.current();
+        if (previous != null) {
+            index.add(ExpenseColumns.epochDay(previous.expenseDate()), previous.category().ordinal(),
+                -ExpenseColumns.toMinorUnits(previous.amount()));
+        }
+        if (current != null) {
+            index.add(ExpenseColumns.epochDay(current.expenseDate()), current.category().ordinal(),
+                ExpenseColumns.toMinorUnits(current.amount()));
+        }
+    }
+
+    @Override
+    protected long estimatedBytes(DailyTotalsIndex index) {
+        return index.estimatedBytes();
+    }
+
+}
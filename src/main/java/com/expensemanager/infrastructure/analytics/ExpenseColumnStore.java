@@ -0,0 +1,97 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.domain.event.TagDeletedEvent;
+import com.expensemanager.infrastructure.config.ColumnarAnalyticsProperties;
+import com.expensemanager.infrastructure.repository.AnalyticsQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Holds columnar snapshots of heavy users' expenses. Users with fewer than {@code min-rows}
+ * expenses are remembered for a while and served from SQL without attempting a load.
+ */
+@Component
+public class ExpenseColumnStore extends UserIndexStore<ExpenseColumns> {
+
+    private final AnalyticsQueryRepository analyticsQueryRepository;
+    private final ColumnarAnalyticsProperties properties;
+    private final Cache<Long, Boolean> belowThreshold;
+
+    public ExpenseColumnStore(
+            AnalyticsQueryRepository analyticsQueryRepository,
+            ColumnarAnalyticsProperties properties,
+            MeterRegistry meterRegistry) {
+        super("columnar", properties.getMemoryBudgetBytes(), properties.getMaxStalenessMs(),
+            properties.getLoaderThreads(), meterRegistry);
+        this.analyticsQueryRepository = analyticsQueryRepository;
+        this.properties = properties;
+        this.belowThreshold = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(properties.getBelowThresholdTtlMs()))
+            .maximumSize(100_000)
+            .build();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    protected boolean shouldLoad(Long userId) {
+        return belowThreshold.getIfPresent(userId) == null;
+    }
+
+    @Override
+    protected ExpenseColumns load(Long userId) {
+        int rows = analyticsQueryRepository.countExpenses(userId);
+        if (rows < properties.getMinRows()) {
+            belowThreshold.put(userId, Boolean.TRUE);
+            return null;
+        }
+        return analyticsQueryRepository.loadExpenseColumns(userId, rows);
+    }
+
+    @Override
+    protected void committed(ExpenseChangedEvent event) {
+        if (event.type() == ExpenseChangedEvent.Type.CREATED) {
+            // A new expense may push a small user over the threshold; count again on the next miss
+            belowThreshold.invalidate(event.userId());
+        }
+    }
+
+    /**
+     * Deleting a tag clears its bit from the user's expenses in one bulk update; reload the
+     * snapshot rather than keep a bit that may be reassigned.
+     */
+    @TransactionalEventListener
+    public void onTagDeleted(TagDeletedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @Override
+    protected void apply(ExpenseColumns columns, ExpenseChangedEvent event) {
+        long expenseId = event.expenseId();
+        ExpenseChangedEvent.Values previous = event.previous();
+        ExpenseChangedEvent.Values current = event.current();
+        if (previous != null) {
+            columns.remove(expenseId, ExpenseColumns.epochDay(previous.expenseDate()));
+        }
+        if (current != null) {
+            columns.upsert(expenseId, ExpenseColumns.toMinorUnits(current.amount()),
+                ExpenseColumns.epochDay(current.expenseDate()), (byte) current.category().ordinal(),
+                current.tagMask());
+        }
+    }
+
+    @Override
+    protected long estimatedBytes(ExpenseColumns columns) {
+        return columns.estimatedBytes();
+    }
+
+}
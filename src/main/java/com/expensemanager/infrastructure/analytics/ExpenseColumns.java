@@ -0,0 +1,370 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.tags.TagFilter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented snapshot of one user's expenses: parallel primitive arrays of IDs, amounts in
+ * minor units, epoch days, category ordinals and tag masks, kept sorted by (day, id).
+ * <p>
+ * Date ranges are located by binary search and every aggregation is a single pass over the
+ * arrays with no allocation per row. Tag filters cost three bitwise operations per row. Readers
+ * share a read lock; the write paths take the write lock for their (rare) insertions and removals.
+ */
+public final class ExpenseColumns {
+
+    /**
+     * Amounts are stored with this many decimal places, matching {@code expenses.amount}.
+     */
+    public static final int SCALE = 2;
+
+    private static final int CATEGORY_COUNT = ExpenseCategory.values().length;
+    private static final ExpenseCategory[] CATEGORIES = ExpenseCategory.values();
+    private static final int BYTES_PER_ROW = Long.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES + Long.BYTES;
+    private static final int OBJECT_OVERHEAD_BYTES = 128;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] ids;
+    private long[] amounts;
+    private int[] days;
+    private byte[] categories;
+    private long[] tagMasks;
+    private int size;
+
+    public ExpenseColumns(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.ids = new long[capacity];
+        this.amounts = new long[capacity];
+        this.days = new int[capacity];
+        this.categories = new byte[capacity];
+        this.tagMasks = new long[capacity];
+    }
+
+    /**
+     * Rounds half up to {@link #SCALE} places, as the {@code numeric(19,2)} column does, so that
+     * amounts with more decimals count as the value stored.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    public static ExpenseCategory category(int ordinal) {
+        return CATEGORIES[ordinal];
+    }
+
+    /**
+     * Append a row during the initial load. Rows must arrive ordered by (day, id); no locking is
+     * done because the snapshot is not yet published.
+     */
+    public void append(long id, long amount, int day, byte category, long tagMask) {
+        ensureCapacity(size + 1);
+        ids[size] = id;
+        amounts[size] = amount;
+        days[size] = day;
+        categories[size] = category;
+        tagMasks[size] = tagMask;
+        size++;
+    }
+
+    /**
+     * Insert a row at its sorted position, replacing any existing row with the same ID.
+     */
+    public void upsert(long id, long amount, int day, byte category, long tagMask) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id, day);
+            int index = insertionPoint(day, id);
+            ensureCapacity(size + 1);
+            int tail = size - index;
+            System.arraycopy(ids, index, ids, index + 1, tail);
+            System.arraycopy(amounts, index, amounts, index + 1, tail);
+            System.arraycopy(days, index, days, index + 1, tail);
+            System.arraycopy(categories, index, categories, index + 1, tail);
+            System.arraycopy(tagMasks, index, tagMasks, index + 1, tail);
+            ids[index] = id;
+            amounts[index] = amount;
+            days[index] = day;
+            categories[index] = category;
+            tagMasks[index] = tagMask;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the row with the given ID. {@code dayHint} is where the row is expected to be; the
+     * whole snapshot is scanned if it is not found there.
+     *
+     * @return whether a row was removed
+     */
+    public boolean remove(long id, int dayHint) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(id, dayHint);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained heap size, used to weigh the snapshot against the memory budget.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return OBJECT_OVERHEAD_BYTES + (long) ids.length * BYTES_PER_ROW;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum amounts per category for rows with {@code fromDay <= day <= toDay}.
+     *
+     * @return totals in minor units, indexed by category ordinal
+     */
+    public long[] categoryTotals(int fromDay, int toDay) {
+        long[] totals = new long[CATEGORY_COUNT];
+        lock.readLock().lock();
+        try {
+            int end = upperBound(toDay);
+            for (int i = lowerBound(fromDay); i < end; i++) {
+                totals[categories[i]] += amounts[i];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return totals;
+    }
+
+    /**
+     * Sum amounts per category for rows with {@code fromDay <= day <= toDay} whose tags match a filter.
+     *
+     * @return totals in minor units, indexed by category ordinal
+     */
+    public long[] categoryTotals(int fromDay, int toDay, TagFilter tags) {
+        if (tags.isEmpty()) {
+            return categoryTotals(fromDay, toDay);
+        }
+        long[] totals = new long[CATEGORY_COUNT];
+        lock.readLock().lock();
+        try {
+            int end = upperBound(toDay);
+            for (int i = lowerBound(fromDay); i < end; i++) {
+                if (tags.matches(tagMasks[i])) {
+                    totals[categories[i]] += amounts[i];
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return totals;
+    }
+
+    /**
+     * Sum amounts for rows with {@code fromDay <= day <= toDay}, optionally restricted to one category.
+     *
+     * @param category category ordinal, or -1 for all categories
+     * @return total in minor units
+     */
+    public long total(int fromDay, int toDay, int category) {
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            int end = upperBound(toDay);
+            for (int i = lowerBound(fromDay); i < end; i++) {
+                if (category < 0 || categories[i] == category) {
+                    total += amounts[i];
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return total;
+    }
+
+    /**
+     * IDs of the {@code limit} largest expenses with {@code fromDay <= day <= toDay}, largest first.
+     * Uses a bounded min-heap of row indices, so the cost is O(rows log limit) with one allocation.
+     *
+     * @param category category ordinal, or -1 for all categories
+     */
+    public long[] topIds(int limit, int fromDay, int toDay, int category) {
+        if (limit <= 0) {
+            return new long[0];
+        }
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        long[] result;
+        lock.readLock().lock();
+        try {
+            int end = upperBound(toDay);
+            for (int i = lowerBound(fromDay); i < end; i++) {
+                if (category >= 0 && categories[i] != category) {
+                    continue;
+                }
+                if (heapSize < limit) {
+                    heap[heapSize] = i;
+                    siftUp(heap, heapSize++);
+                } else if (amounts[i] > amounts[heap[0]]) {
+                    heap[0] = i;
+                    siftDown(heap, heapSize);
+                }
+            }
+            // Drain the min-heap from the back so the largest amount ends up first
+            result = new long[heapSize];
+            for (int n = heapSize; n > 0; n--) {
+                result[n - 1] = ids[heap[0]];
+                heap[0] = heap[n - 1];
+                siftDown(heap, n - 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private boolean removeLocked(long id, int dayHint) {
+        int index = -1;
+        for (int i = lowerBound(dayHint), end = upperBound(dayHint); i < end; i++) {
+            if (ids[i] == id) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (index < 0) {
+            return false;
+        }
+        int tail = size - index - 1;
+        System.arraycopy(ids, index + 1, ids, index, tail);
+        System.arraycopy(amounts, index + 1, amounts, index, tail);
+        System.arraycopy(days, index + 1, days, index, tail);
+        System.arraycopy(categories, index + 1, categories, index, tail);
+        System.arraycopy(tagMasks, index + 1, tagMasks, index, tail);
+        size--;
+        return true;
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (amounts[heap[parent]] <= amounts[row]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && amounts[heap[child + 1]] < amounts[heap[child]]) {
+                child++;
+            }
+            if (amounts[row] <= amounts[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (heapSize > 0) {
+            heap[index] = row;
+        }
+    }
+
+    /**
+     * First index whose day is {@code >= day}.
+     */
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index whose day is {@code > day}.
+     */
+    private int upperBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int insertionPoint(int day, long id) {
+        int index = lowerBound(day);
+        int end = upperBound(day);
+        while (index < end && ids[index] < id) {
+            index++;
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        days = Arrays.copyOf(days, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        tagMasks = Arrays.copyOf(tagMasks, capacity);
+    }
+
+}
@@ -0,0 +1,287 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.entity.Expense;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded-memory heavy hitters among one user's merchants (normalized descriptions), by number of
+ * expenses and by spend in minor units.
+ * <p>
+ * Each ranking is a Space-Saving summary of at most {@code capacity} counters. A merchant that is
+ * not tracked when the summary is full replaces the smallest counter and inherits its weight as
+ * an overestimate, so every merchant whose true weight exceeds 1/capacity of the total is always
+ * present and no weight is understated. Summaries merge with the rule of Agarwal et al.
+ * ("Mergeable Summaries"), which keeps the same guarantee over several months combined. Removing
+ * an expense decrements its merchant's counter if it is tracked, and is otherwise ignored until
+ * the next rebuild.
+ */
+public final class MerchantSketch {
+
+    /**
+     * Longest merchant name kept, in characters, which bounds the size of a sketch.
+     */
+    public static final int MAX_MERCHANT_LENGTH = 64;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int capacity;
+    private final Summary frequency;
+    private final Summary spend;
+    private long count;
+
+    public MerchantSketch(int capacity) {
+        this.capacity = capacity;
+        this.frequency = new Summary(capacity);
+        this.spend = new Summary(capacity);
+    }
+
+    /**
+     * The merchant key for a description: normalized as for duplicate detection and truncated.
+     *
+     * @return the merchant, or {@code null} if the description has no usable text
+     */
+    public static String merchantOf(String description) {
+        String normalized = Expense.normalizeDescription(description);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return normalized.length() > MAX_MERCHANT_LENGTH
+            ? normalized.substring(0, MAX_MERCHANT_LENGTH).trim()
+            : normalized;
+    }
+
+    /**
+     * Add {@code occurrences} expenses of {@code minorUnits} each; a negative number removes them.
+     *
+     * @param merchant the merchant key from {@link #merchantOf}, or {@code null} to only count the expense
+     */
+    public void add(String merchant, long minorUnits, int occurrences) {
+        count += occurrences;
+        if (merchant == null) {
+            return;
+        }
+        frequency.add(merchant, occurrences, minorUnits * occurrences);
+        spend.add(merchant, minorUnits * occurrences, occurrences);
+    }
+
+    /**
+     * Combine another sketch into this one, keeping at most this sketch's capacity.
+     */
+    public void merge(MerchantSketch other) {
+        count += other.count;
+        frequency.merge(other.frequency);
+        spend.merge(other.spend);
+    }
+
+    /**
+     * Net number of expenses added, including those without a merchant.
+     */
+    public long count() {
+        return count;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * The most frequent merchants, most frequent first.
+     */
+    public List<Merchant> topByFrequency(int limit) {
+        return frequency.top(limit).stream()
+            .map(entry -> new Merchant(entry.getKey(), entry.getValue().weight, entry.getValue().other,
+                entry.getValue().error == 0))
+            .toList();
+    }
+
+    /**
+     * The merchants with the most spend, largest first.
+     */
+    public List<Merchant> topBySpend(int limit) {
+        return spend.top(limit).stream()
+            .map(entry -> new Merchant(entry.getKey(), entry.getValue().other, entry.getValue().weight,
+                entry.getValue().error == 0))
+            .toList();
+    }
+
+    /**
+     * Compact binary form: capacity, count, then each summary as (merchant, weight, error, other) entries.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(FORMAT_VERSION);
+        VarInts.writeVarLong(out, capacity);
+        VarInts.writeVarLong(out, VarInts.zigZag(count));
+        frequency.encode(out);
+        spend.encode(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Read a sketch written by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a sketch
+     */
+    public static MerchantSketch decode(byte[] bytes) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            if (in.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported sketch format");
+            }
+            MerchantSketch sketch = new MerchantSketch((int) VarInts.readVarLong(in));
+            sketch.count = VarInts.unZigZag(VarInts.readVarLong(in));
+            sketch.frequency.decode(in);
+            sketch.spend.decode(in);
+            return sketch;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated sketch", ex);
+        }
+    }
+
+    /**
+     * A ranked merchant. Counts and totals may be overestimated when {@code exact} is false.
+     *
+     * @param name   the merchant key
+     * @param count  number of expenses
+     * @param total  spend in minor units
+     * @param exact  whether the ranking weight is exact rather than an upper bound
+     */
+    public record Merchant(String name, long count, long total, boolean exact) {
+    }
+
+    private static final class Counter {
+
+        // The ranked weight, at most error above the true value
+        long weight;
+        long error;
+        // The other metric, accumulated only while this merchant is tracked
+        long other;
+
+        Counter(long weight, long error, long other) {
+            this.weight = weight;
+            this.error = error;
+            this.other = other;
+        }
+    }
+
+    private static final class Summary {
+
+        private final int capacity;
+        private Map<String, Counter> counters = new HashMap<>();
+
+        Summary(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(String merchant, long weight, long other) {
+            Counter counter = counters.get(merchant);
+            if (counter != null) {
+                counter.weight += weight;
+                counter.other += other;
+                if (counter.weight <= 0) {
+                    counters.remove(merchant);
+                }
+                return;
+            }
+            if (weight <= 0) {
+                // Removing an untracked merchant; its weight is already absorbed into an error bound
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(merchant, new Counter(weight, 0, other));
+                return;
+            }
+            // A linear scan is cheaper than a stream-summary structure at these capacities
+            Map.Entry<String, Counter> smallest = null;
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                if (smallest == null || entry.getValue().weight < smallest.getValue().weight) {
+                    smallest = entry;
+                }
+            }
+            long floor = smallest.getValue().weight;
+            counters.remove(smallest.getKey());
+            counters.put(merchant, new Counter(floor + weight, floor, other));
+        }
+
+        void merge(Summary other) {
+            long floor = minimumIfFull();
+            long otherFloor = other.minimumIfFull();
+            Set<String> merchants = new HashSet<>(counters.keySet());
+            merchants.addAll(other.counters.keySet());
+
+            Map<String, Counter> merged = new HashMap<>();
+            for (String merchant : merchants) {
+                Counter mine = counters.get(merchant);
+                Counter theirs = other.counters.get(merchant);
+                merged.put(merchant, new Counter(
+                    (mine == null ? floor : mine.weight) + (theirs == null ? otherFloor : theirs.weight),
+                    (mine == null ? floor : mine.error) + (theirs == null ? otherFloor : theirs.error),
+                    (mine == null ? 0 : mine.other) + (theirs == null ? 0 : theirs.other)));
+            }
+            if (merged.size() > capacity) {
+                Map<String, Counter> kept = new HashMap<>();
+                top(merged, capacity).forEach(entry -> kept.put(entry.getKey(), entry.getValue()));
+                merged = kept;
+            }
+            counters = merged;
+        }
+
+        List<Map.Entry<String, Counter>> top(int limit) {
+            return top(counters, limit);
+        }
+
+        /**
+         * The smallest weight if every counter is in use, which bounds the weight of any untracked merchant.
+         */
+        private long minimumIfFull() {
+            if (counters.size() < capacity) {
+                return 0;
+            }
+            return counters.values().stream().mapToLong(counter -> counter.weight).min().orElse(0);
+        }
+
+        private static List<Map.Entry<String, Counter>> top(Map<String, Counter> counters, int limit) {
+            List<Map.Entry<String, Counter>> entries = new ArrayList<>(counters.entrySet());
+            entries.sort(Comparator
+                .comparingLong((Map.Entry<String, Counter> entry) -> entry.getValue().weight).reversed()
+                .thenComparing(Map.Entry::getKey));
+            return entries.subList(0, Math.min(limit, entries.size()));
+        }
+
+        void encode(ByteArrayOutputStream out) {
+            VarInts.writeVarLong(out, counters.size());
+            counters.forEach((merchant, counter) -> {
+                byte[] name = merchant.getBytes(StandardCharsets.UTF_8);
+                VarInts.writeVarLong(out, name.length);
+                out.write(name, 0, name.length);
+                VarInts.writeVarLong(out, VarInts.zigZag(counter.weight));
+                VarInts.writeVarLong(out, VarInts.zigZag(counter.error));
+                VarInts.writeVarLong(out, VarInts.zigZag(counter.other));
+            });
+        }
+
+        void decode(ByteBuffer in) {
+            long size = VarInts.readVarLong(in);
+            for (long i = 0; i < size; i++) {
+                byte[] name = new byte[(int) VarInts.readVarLong(in)];
+                in.get(name);
+                counters.put(new String(name, StandardCharsets.UTF_8), new Counter(
+                    VarInts.unZigZag(VarInts.readVarLong(in)),
+                    VarInts.unZigZag(VarInts.readVarLong(in)),
+                    VarInts.unZigZag(VarInts.readVarLong(in))));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collects {@link ExpenseChangedEvent}s per user during a write transaction and hands them to a
+ * callback just before the transaction commits, so that persisted derived state is updated in the
+ * same transaction as the expenses, once per user rather than once per change.
+ * <p>
+ * Users are passed in ascending ID order, so callbacks that lock user rows lock them in a
+ * consistent order across transactions. Changes made outside a transaction are dropped; derived
+ * state kept this way must be rebuilt from the expenses periodically.
+ *
+ * @param <T> one user's collected changes
+ */
+public final class PendingExpenseChanges<T> {
+
+    private final Supplier<T> newChanges;
+    private final BiConsumer<T, ExpenseChangedEvent> collector;
+    private final Consumer<Map<Long, T>> beforeCommit;
+
+    /**
+     * @param newChanges   creates an empty set of changes for a user
+     * @param collector    adds one event to a user's changes
+     * @param beforeCommit applies the changes of every user written in the transaction
+     */
+    public PendingExpenseChanges(Supplier<T> newChanges, BiConsumer<T, ExpenseChangedEvent> collector,
+                                 Consumer<Map<Long, T>> beforeCommit) {
+        this.newChanges = newChanges;
+        this.collector = collector;
+        this.beforeCommit = beforeCommit;
+    }
+
+    /**
+     * Add a change to the current transaction's batch, starting one on the first change.
+     */
+    public void add(ExpenseChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        collector.accept(batch.changes.computeIfAbsent(event.userId(), userId -> newChanges.get()), event);
+    }
+
+    private final class Batch implements TransactionSynchronization {
+
+        private final Map<Long, T> changes = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            PendingExpenseChanges.this.beforeCommit.accept(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingExpenseChanges.this);
+        }
+    }
+
+}
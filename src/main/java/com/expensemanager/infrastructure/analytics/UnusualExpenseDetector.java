@@ -0,0 +1,143 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.entity.CategoryAmountMoments;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.config.UnusualExpenseProperties;
+import com.expensemanager.infrastructure.repository.CategoryAmountMomentsRepository;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Flags expenses whose amount is unusually high for the user and category, in constant time per
+ * expense.
+ * <p>
+ * Amounts are compared on a log scale, since spending within a category is roughly log-normal:
+ * an expense is unusual when its log-amount is more than {@code threshold} standard deviations
+ * above the category's running mean. The mean and variance are updated with Welford's recurrence,
+ * weighting each new expense by {@code 1/n} until that falls below the decay rate derived from
+ * {@code half-life}, so older spending gradually stops counting. A category is seeded from the
+ * user's existing expenses the first time it is written to; after that no history is read.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnusualExpenseDetector {
+
+    private static final double MIN_AMOUNT = 0.01;
+
+    private final CategoryAmountMomentsRepository momentsRepository;
+    private final ExpenseRepository expenseRepository;
+    private final UnusualExpenseProperties properties;
+
+    /**
+     * Load a user's moments for evaluating and recording new expenses. The caller must hold the
+     * user's row lock ({@code UserRepository.findByIdForUpdate}) until its transaction commits,
+     * so concurrent writes see each other's updates.
+     *
+     * @param userId the user ID
+     * @return the user's moments, loaded with a single query
+     */
+    public UserMoments forUser(Long userId) {
+        Map<ExpenseCategory, CategoryAmountMoments> rows = new EnumMap<>(ExpenseCategory.class);
+        if (properties.isEnabled()) {
+            momentsRepository.findByUserId(userId).forEach(row -> rows.put(row.getCategory(), row));
+        }
+        return new UserMoments(userId, rows);
+    }
+
+    /**
+     * Evaluate an amount against a category's current moments without recording it, as for an
+     * edited expense.
+     *
+     * @return true if the amount is unusual; false if the category has too few expenses to tell
+     */
+    public boolean evaluate(Long userId, ExpenseCategory category, BigDecimal amount) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        return momentsRepository.findByUserIdAndCategory(userId, category)
+            .map(moments -> isUnusual(moments, logAmount(amount)))
+            .orElse(false);
+    }
+
+    /**
+     * One user's moments, updated in place as expenses are observed. Dirty rows are written when
+     * the transaction flushes.
+     */
+    public final class UserMoments {
+
+        private final Long userId;
+        private final Map<ExpenseCategory, CategoryAmountMoments> rows;
+
+        private UserMoments(Long userId, Map<ExpenseCategory, CategoryAmountMoments> rows) {
+            this.userId = userId;
+            this.rows = rows;
+        }
+
+        /**
+         * Decide whether a new expense is unusual, then add it to its category's moments.
+         *
+         * @return true if the amount is unusual compared to the expenses before it
+         */
+        public boolean observe(ExpenseCategory category, BigDecimal amount) {
+            if (!properties.isEnabled()) {
+                return false;
+            }
+            CategoryAmountMoments moments = rows.computeIfAbsent(category, key -> seed(userId, key));
+            double value = logAmount(amount);
+            boolean unusual = isUnusual(moments, value);
+            add(moments, value);
+            moments.setUpdatedAt(LocalDateTime.now());
+            return unusual;
+        }
+    }
+
+    private CategoryAmountMoments seed(Long userId, ExpenseCategory category) {
+        CategoryAmountMoments moments = CategoryAmountMoments.builder()
+            .userId(userId)
+            .category(category)
+            .updatedAt(LocalDateTime.now())
+            .build();
+        for (BigDecimal amount : expenseRepository.findAmountHistory(userId, category)) {
+            add(moments, logAmount(amount));
+        }
+        log.debug("Seeded amount moments for user: {}, category: {} from {} expenses",
+            userId, category, moments.getObservations());
+        return momentsRepository.save(moments);
+    }
+
+    private boolean isUnusual(CategoryAmountMoments moments, double value) {
+        if (moments.getObservations() < properties.getMinObservations()) {
+            return false;
+        }
+        double deviation = Math.max(Math.sqrt(moments.getVariance()), properties.getMinStandardDeviation());
+        return (value - moments.getMean()) / deviation > properties.getThreshold();
+    }
+
+    private void add(CategoryAmountMoments moments, double value) {
+        long observations = moments.getObservations() + 1;
+        // Exact running moments at first, exponentially weighted once 1/n drops below the decay rate
+        double weight = Math.max(1.0 / observations, decayRate());
+        double difference = value - moments.getMean();
+        double increment = weight * difference;
+        moments.setObservations(observations);
+        moments.setMean(moments.getMean() + increment);
+        moments.setVariance((1 - weight) * (moments.getVariance() + difference * increment));
+    }
+
+    private double decayRate() {
+        return 1 - Math.pow(0.5, 1 / properties.getHalfLife());
+    }
+
+    private static double logAmount(BigDecimal amount) {
+        return Math.log(Math.max(amount.doubleValue(), MIN_AMOUNT));
+    }
+
+}
@@ -0,0 +1,312 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Base class for in-memory per-user indexes derived from the expenses table, held under a
+ * global memory budget and kept current by {@link ExpenseChangedEvent}s.
+ * <p>
+ * A {@link #find} never blocks on the database: on a miss the caller falls back to SQL while the
+ * index is built in the background, and later requests are served from memory. Stores without an
+ * SQL fallback use {@link #findOrLoad} instead. Committed changes are
+ * applied to loaded indexes in place; rolled back ones are ignored. A build is discarded if any
+ * change for the user is in flight while it runs, so a change is never both in the loaded rows
+ * and applied on top of them. Indexes are evicted least recently used first (Caffeine's
+ * frequency-aware approximation of LRU) once their estimated size exceeds the budget, and are
+ * rebuilt after a maximum staleness to pick up writes made through other nodes.
+ *
+ * @param <T> the index type; implementations must make {@link #apply} safe against concurrent readers
+ */
+@Slf4j
+public abstract class UserIndexStore<T> {
+
+    private final String name;
+    private final Cache<Long, T> indexes;
+    private final ConcurrentHashMap<Long, PendingLoad> loading = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> changesInFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor loader;
+    private final Counter hits;
+    private final Counter misses;
+
+    protected UserIndexStore(String name, long memoryBudgetBytes, long maxStalenessMs, int loaderThreads,
+                             MeterRegistry meterRegistry) {
+        this.name = name;
+        this.indexes = Caffeine.newBuilder()
+            .maximumWeight(memoryBudgetBytes)
+            .weigher((Long userId, T index) -> (int) Math.min(estimatedBytes(index), Integer.MAX_VALUE))
+            .expireAfter(new LoadedAtExpiry<T>(Duration.ofMillis(maxStalenessMs).toNanos()))
+            .build();
+
+        this.loader = new ThreadPoolTaskExecutor();
+        loader.setCorePoolSize(loaderThreads);
+        loader.setMaxPoolSize(loaderThreads);
+        loader.setQueueCapacity(64);
+        loader.setThreadNamePrefix(name + "-loader-");
+        loader.setDaemon(true);
+        loader.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        loader.initialize();
+
+        this.hits = Counter.builder("analytics." + name + ".lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("analytics." + name + ".lookups").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("analytics." + name + ".users", indexes, Cache::estimatedSize)
+            .description("Users with a loaded " + name + " index")
+            .register(meterRegistry);
+        Gauge.builder("analytics." + name + ".bytes", this, UserIndexStore::weightedSize)
+            .description("Estimated heap used by " + name + " indexes")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether lookups should be served from memory at all.
+     */
+    protected abstract boolean isEnabled();
+
+    /**
+     * Whether a miss for this user should start a build.
+     */
+    protected boolean shouldLoad(Long userId) {
+        return true;
+    }
+
+    /**
+     * Build the user's index from the database.
+     *
+     * @return the index, or {@code null} if the user should keep being served from SQL
+     */
+    protected abstract T load(Long userId);
+
+    /**
+     * Apply a committed change to a loaded index.
+     */
+    protected abstract void apply(T index, ExpenseChangedEvent event);
+
+    /**
+     * Called for every committed change, whether or not the user's index is loaded.
+     */
+    protected void committed(ExpenseChangedEvent event) {
+    }
+
+    protected abstract long estimatedBytes(T index);
+
+    /**
+     * Get the user's index if it is loaded, starting a background build on a miss.
+     *
+     * @param userId the user ID
+     * @return the index, or empty if the caller should use SQL
+     */
+    public Optional<T> find(Long userId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        T index = indexes.getIfPresent(userId);
+        if (index != null) {
+            hits.increment();
+            return Optional.of(index);
+        }
+        misses.increment();
+        if (shouldLoad(userId)) {
+            scheduleLoad(userId);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the user's index, building it on the caller's thread on a miss. For stores without an
+     * SQL fallback; the build is cached unless an expense change overlaps it.
+     *
+     * @param userId the user ID
+     * @return the index, or empty if the store is disabled or {@link #load} declined to build one
+     */
+    protected Optional<T> findOrLoad(Long userId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        T index = indexes.getIfPresent(userId);
+        if (index != null) {
+            hits.increment();
+            return Optional.of(index);
+        }
+        misses.increment();
+        PendingLoad pending = new PendingLoad();
+        if (loading.putIfAbsent(userId, pending) != null) {
+            // Another build is running; build a private copy rather than wait for it
+            return Optional.ofNullable(load(userId));
+        }
+        return Optional.ofNullable(load(userId, pending, true));
+    }
+
+    /**
+     * Track a change from the moment it is published inside the write transaction, and apply it
+     * once the transaction commits.
+     */
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Long userId = event.userId();
+        changesInFlight.merge(userId, 1, Integer::sum);
+        PendingLoad pending = loading.get(userId);
+        if (pending != null) {
+            pending.invalidate();
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(event, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(event, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * Drop the user's index after a committed change that bypassed {@link ExpenseChangedEvent}s,
+     * such as a bulk update. A build in progress is discarded as well, since it may have read the
+     * rows before the change.
+     */
+    protected void invalidate(Long userId) {
+        PendingLoad pending = loading.get(userId);
+        if (pending != null) {
+            pending.invalidate();
+        }
+        indexes.invalidate(userId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdown();
+    }
+
+    private void complete(ExpenseChangedEvent event, boolean committed) {
+        Long userId = event.userId();
+        try {
+            if (committed) {
+                committed(event);
+                // computeIfPresent re-weighs the entry, keeping the memory budget accurate as indexes grow
+                indexes.asMap().computeIfPresent(userId, (id, index) -> {
+                    apply(index, event);
+                    return index;
+                });
+            }
+        } finally {
+            changesInFlight.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private void scheduleLoad(Long userId) {
+        PendingLoad pending = new PendingLoad();
+        if (loading.putIfAbsent(userId, pending) != null) {
+            return;
+        }
+        try {
+            loader.execute(() -> load(userId, pending, false));
+        } catch (TaskRejectedException ex) {
+            // Loader is saturated; a later miss will try again
+            loading.remove(userId, pending);
+        }
+    }
+
+    /**
+     * Build and publish the user's index.
+     *
+     * @param required whether the caller needs the index even if it cannot be cached; failures are then rethrown
+     */
+    private T load(Long userId, PendingLoad pending, boolean required) {
+        try {
+            if (changesInFlight.containsKey(userId)) {
+                // An uncommitted change may land in the rows or not; cache on a later miss
+                if (!required) {
+                    return null;
+                }
+                pending.invalidate();
+            }
+            long started = System.nanoTime();
+            T index = load(userId);
+            if (index == null) {
+                return null;
+            }
+            if (pending.publish(() -> indexes.put(userId, index))) {
+                log.debug("Loaded {} index for user {} (~{} bytes) in {} ms", name, userId,
+                    estimatedBytes(index), (System.nanoTime() - started) / 1_000_000);
+            } else {
+                log.debug("Discarded {} index for user {}: expenses changed while loading", name, userId);
+            }
+            return index;
+        } catch (RuntimeException ex) {
+            if (required) {
+                throw ex;
+            }
+            log.warn("Failed to load {} index for user {}: {}", name, userId, ex.getMessage());
+            return null;
+        } finally {
+            loading.remove(userId, pending);
+        }
+    }
+
+    private long weightedSize() {
+        return indexes.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    /**
+     * A background build, which is abandoned if an expense change is published before it completes.
+     */
+    private static final class PendingLoad {
+
+        private boolean invalidated;
+
+        synchronized void invalidate() {
+            invalidated = true;
+        }
+
+        synchronized boolean publish(Runnable publish) {
+            if (invalidated) {
+                return false;
+            }
+            publish.run();
+            return true;
+        }
+    }
+
+    /**
+     * Expires an index a fixed time after it was loaded; in-place updates do not extend it.
+     */
+    private record LoadedAtExpiry<T>(long ttlNanos) implements Expiry<Long, T> {
+
+        @Override
+        public long expireAfterCreate(Long userId, T index, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, T index, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, T index, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
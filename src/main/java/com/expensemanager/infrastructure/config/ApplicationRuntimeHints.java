@@ -0,0 +1,52 @@
+package com.expensemanager.infrastructure.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+/**
+ * Reflection, resource and proxy hints for a GraalVM native image.
+ * <p>
+ * Entities, repositories, configuration properties and controller DTOs are covered by Spring
+ * AOT itself, and Lombok builders are plain generated code. What remains is reflection that
+ * Spring cannot see: jjwt instantiates its implementation classes by name and finds its Jackson
+ * serializer through ServiceLoader, and the JDBC wrappers create JDK proxies.
+ */
+public class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // jjwt 0.11: Jwts.builder()/parserBuilder()/claims() load these via Classes.newInstance
+        Stream.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer")
+            .forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources()
+            .registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer")
+            .registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer")
+            .registerPattern("META-INF/services/io.jsonwebtoken.CompressionCodec");
+
+        // DeadlineAwareDataSource and TimingDataSource
+        hints.proxies()
+            .registerJdkProxy(Connection.class)
+            .registerJdkProxy(Statement.class)
+            .registerJdkProxy(PreparedStatement.class)
+            .registerJdkProxy(CallableStatement.class);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Description autocomplete from per-user prefix trees held in memory.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.autocomplete")
+@Data
+public class AutocompleteProperties {
+
+    /**
+     * Total estimated heap the prefix trees may use; the least recently used are evicted beyond it.
+     */
+    private long memoryBudgetBytes = 16L * 1024 * 1024;
+
+    /**
+     * Trees are rebuilt from the database at most this long after loading. Writes made through
+     * another node are only suggested after a rebuild.
+     */
+    private long maxStalenessMs = 600_000;
+
+}
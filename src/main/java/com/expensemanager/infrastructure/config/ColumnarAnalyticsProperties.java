@@ -0,0 +1,46 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory columnar snapshots of heavy users' expenses, used to answer analytics without SQL.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics.columnar")
+@Data
+public class ColumnarAnalyticsProperties {
+
+    /**
+     * Serve analytics from snapshots when one is loaded. When disabled, every query goes to SQL.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Total estimated heap the snapshots may use; the least recently used are evicted beyond it.
+     */
+    private long memoryBudgetBytes = 64L * 1024 * 1024;
+
+    /**
+     * Users with fewer expenses than this are always served from SQL and never get a snapshot.
+     */
+    private int minRows = 1000;
+
+    /**
+     * How long a user found to be below {@code min-rows} is remembered before being counted again.
+     */
+    private long belowThresholdTtlMs = 600_000;
+
+    /**
+     * Snapshots are reloaded from the database at most this long after loading. Writes made
+     * through another node are only seen after a reload.
+     */
+    private long maxStalenessMs = 300_000;
+
+    /**
+     * Threads loading snapshots in the background.
+     */
+    private int loaderThreads = 1;
+
+}
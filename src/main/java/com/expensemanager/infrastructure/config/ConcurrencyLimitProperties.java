@@ -0,0 +1,51 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the adaptive concurrency limiter.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Data
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * Weight of each new limit estimate, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * How much the short-term latency may exceed the long-term baseline before the limit shrinks.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Number of samples averaged into the long-term latency baseline.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Fraction of the limit that low-priority requests may occupy.
+     */
+    private double lowPriorityShare = 0.5;
+
+    /**
+     * Ant-style path patterns, relative to the servlet context path, for expensive endpoints.
+     */
+    private List<String> lowPriorityPaths = new ArrayList<>();
+
+}
@@ -0,0 +1,107 @@
+package com.expensemanager.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bulkhead configuration separating analytics traffic from transactional traffic.
+ * <p>
+ * JPA repositories use the primary pool. Analytics queries get their own, smaller pool and
+ * statement timeout, so a slow aggregation can exhaust only its own connections. Both pools are
+ * named, so Hikari's Micrometer metrics (e.g. {@code hikaricp.connections.acquire}) report wait
+ * time per bulkhead.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Connection settings shared by both pools.
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * Primary pool for transactional (CRUD) traffic.
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Separate pool for analytics queries.
+     */
+    @Bean
+    @ConfigurationProperties("app.analytics.datasource.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * JdbcTemplate bound to the analytics pool with its own statement timeout.
+     */
+    @Bean
+    public JdbcTemplate analyticsJdbcTemplate(
+            @Qualifier("analyticsDataSource") DataSource analyticsDataSource,
+            @Value("${app.analytics.query-timeout-seconds}") int queryTimeoutSeconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(analyticsDataSource);
+        jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        return jdbcTemplate;
+    }
+
+    /**
+     * JdbcTemplate for asynchronous report jobs, on the analytics pool but with a statement
+     * timeout sized for long-running reports.
+     */
+    @Bean
+    public JdbcTemplate reportJdbcTemplate(
+            @Qualifier("analyticsDataSource") DataSource analyticsDataSource,
+            @Value("${app.reports.query-timeout-seconds}") int queryTimeoutSeconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(analyticsDataSource);
+        jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        jdbcTemplate.setFetchSize(500);
+        return jdbcTemplate;
+    }
+
+    /**
+     * Optional bounded executor for analytics work, so heavy reporting cannot occupy more than a
+     * fixed number of threads.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.analytics.executor.enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor analyticsExecutor(
+            @Value("${app.analytics.executor.threads}") int threads,
+            @Value("${app.analytics.executor.queue-capacity}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analytics-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "analytics");
+        return executor;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request deadline settings.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.deadline")
+@Data
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Request header carrying the client's timeout budget in milliseconds.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Budget used when neither the header nor an endpoint entry applies.
+     */
+    private long defaultMs = 30_000;
+
+    /**
+     * Upper bound on any budget, including client-supplied ones.
+     */
+    private long maxMs = 60_000;
+
+    /**
+     * Budgets per Ant-style path pattern, relative to the servlet context path; first match wins.
+     */
+    private Map<String, Long> endpoints = new LinkedHashMap<>();
+
+}
@@ -0,0 +1,39 @@
+package com.expensemanager.infrastructure.config;
+
+import com.expensemanager.infrastructure.observability.JfrEndpointInterceptor;
+import com.expensemanager.infrastructure.observability.QueryBudgetInterceptor;
+import com.expensemanager.infrastructure.observability.QueryCountInspector;
+import com.expensemanager.infrastructure.observability.QueryCountRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers request instrumentation with Spring MVC and Hibernate.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ObservabilityConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetProperties queryBudgetProperties;
+    private final QueryCountRegistry queryCountRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new JfrEndpointInterceptor());
+        registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetProperties, queryCountRegistry));
+    }
+
+    /**
+     * Count every statement Hibernate prepares, for per-request query budgets.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+}
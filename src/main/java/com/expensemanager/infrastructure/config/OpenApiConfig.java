@@ -6,14 +6,66 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Configuration for Springdoc OpenAPI (Swagger UI).
+ * Configuration for Springdoc OpenAPI (Swagger UI) and the build-time generated spec.
  */
 @Configuration
-public class OpenApiConfig {
+public class OpenApiConfig implements WebMvcConfigurer {
+
+    @Value("${app.openapi.static-cache-max-age-seconds:86400}")
+    private long staticCacheMaxAgeSeconds;
+
+    private final Map<String, String> staticContentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Serve the spec generated by {@code OpenApiSpecExporter} at {@code /openapi/openapi.json}. Clients
+     * accepting gzip get the precompressed copy; nothing is built or compressed per request. The ETag is
+     * the content hash, so once the max-age runs out a client revalidates with a 304 until a build
+     * changes the spec.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/openapi/**")
+            .addResourceLocations("classpath:/openapi/")
+            .setCacheControl(CacheControl.maxAge(Duration.ofSeconds(staticCacheMaxAgeSeconds)).cachePublic())
+            .setEtagGenerator(this::contentHash)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver());
+    }
+
+    /**
+     * MD5 of a packaged resource; computed once per file, since the jar's content never changes.
+     */
+    private String contentHash(Resource resource) {
+        try {
+            return staticContentHashes.computeIfAbsent(resource.getURL().toExternalForm(), url -> {
+                try (InputStream in = resource.getInputStream()) {
+                    return DigestUtils.md5DigestAsHex(in);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 
     /**
      * Configure OpenAPI specification with JWT security scheme.
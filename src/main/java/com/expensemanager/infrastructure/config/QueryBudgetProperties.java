@@ -0,0 +1,55 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint SQL statement budgets.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.query-budget")
+@Data
+public class QueryBudgetProperties {
+
+    /**
+     * What to do when a request executes more statements than its budget.
+     */
+    public enum Mode {
+        /** Log a warning. */
+        LOG,
+        /**
+         * Fail the request before the response is written; meant for development and tests only.
+         * The handler's transaction has committed by then, so the client sees an error for a write
+         * that was kept.
+         */
+        FAIL
+    }
+
+    private boolean enabled = true;
+
+    private Mode mode = Mode.LOG;
+
+    /**
+     * Budget for handlers without an entry in {@link #endpoints}.
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * Add an {@code X-Query-Count} response header.
+     */
+    private boolean exposeHeader = false;
+
+    /**
+     * Budgets per handler, keyed {@code ControllerSimpleName#method}.
+     */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public int budgetFor(String handler) {
+        return endpoints.getOrDefault(handler, defaultBudget);
+    }
+
+}
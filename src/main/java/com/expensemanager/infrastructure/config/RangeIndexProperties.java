@@ -0,0 +1,55 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user prefix-sum indexes of daily spending, used to answer date-range totals without SQL.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics.range-index")
+@Data
+public class RangeIndexProperties {
+
+    /**
+     * Serve range totals from the index when one is loaded. When disabled, every query goes to SQL.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Total estimated heap the indexes may use; the least recently used are evicted beyond it.
+     * Each index costs about 80 bytes per day of its window, plus about 80 bytes per day with
+     * spending before the window.
+     */
+    private long memoryBudgetBytes = 32L * 1024 * 1024;
+
+    /**
+     * Most recent days each index keeps as a dense window, about ten years. Older days are kept
+     * only if they have spending.
+     */
+    private int maxWindowDays = 3660;
+
+    /**
+     * Users whose index would be estimated above this are served from SQL and never get one.
+     */
+    private long maxUserBytes = 2L * 1024 * 1024;
+
+    /**
+     * How long a user found to be above {@code max-user-bytes} is remembered before an index is
+     * built again.
+     */
+    private long tooLargeTtlMs = 600_000;
+
+    /**
+     * Indexes are rebuilt from the database at most this long after loading. Writes made
+     * through another node are only seen after a rebuild.
+     */
+    private long maxStalenessMs = 300_000;
+
+    /**
+     * Threads building indexes in the background.
+     */
+    private int loaderThreads = 1;
+
+}
@@ -0,0 +1,61 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user rate limit budgets, grouped into endpoint classes.
+ * Classes are matched in declaration order; the class named {@code default} applies when no
+ * other class matches.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    public static final String DEFAULT_CLASS = "default";
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on tracked buckets per endpoint class.
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Buckets not touched for this long are dropped; an idle bucket is full, so this loses no state.
+     */
+    private long idleEvictionMs = 600_000;
+
+    private Map<String, Budget> classes = new LinkedHashMap<>();
+
+    /**
+     * Token bucket budget for one endpoint class.
+     */
+    @Data
+    public static class Budget {
+
+        /**
+         * Maximum burst size in requests.
+         */
+        private int capacity;
+
+        /**
+         * Sustained rate in requests per second.
+         */
+        private double refillPerSecond;
+
+        /**
+         * Ant-style path patterns, relative to the servlet context path.
+         */
+        private List<String> paths = new ArrayList<>();
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asynchronous report job settings.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.reports")
+@Data
+public class ReportJobProperties {
+
+    /**
+     * Worker threads generating reports; each holds an analytics connection while it runs.
+     */
+    private int workers = 2;
+
+    /**
+     * Jobs a single user may have waiting for a worker.
+     */
+    private int maxQueuedPerUser = 5;
+
+    /**
+     * Jobs that may wait for a worker across all users.
+     */
+    private int maxQueued = 200;
+
+    /**
+     * How long completed jobs and their results are kept and reused for identical requests.
+     */
+    private long resultTtlMs = 3_600_000;
+
+    /**
+     * Upper bound on the wait a client can request when long-polling a job.
+     */
+    private long maxWaitMs = 20_000;
+
+    /**
+     * Statement timeout for report queries, much longer than for interactive analytics.
+     */
+    private int queryTimeoutSeconds = 300;
+
+    /**
+     * Memory budget for recently downloaded JSON reports, in characters; CSV exports are streamed
+     * and never cached.
+     */
+    private long resultCacheMaxChars = 16_000_000;
+
+}
@@ -1,7 +1,12 @@
 package com.expensemanager.infrastructure.config;
 
+import com.expensemanager.infrastructure.security.AdminAuthorizationManager;
 import com.expensemanager.infrastructure.security.JwtAuthenticationFilter;
+import com.expensemanager.infrastructure.observability.JfrPasswordEncoder;
+import com.expensemanager.infrastructure.resilience.ConcurrencyLimitFilter;
+import com.expensemanager.infrastructure.security.RateLimitFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
@@ -31,15 +36,18 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final AdminAuthorizationManager adminAuthorizationManager;
 
     /**
      * Password encoder bean.
      *
-     * @return BCryptPasswordEncoder
+     * @return BCryptPasswordEncoder, emitting a JFR event per hash
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new JfrPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     /**
@@ -65,6 +73,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost:4200", "http://localhost:8080"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "Retry-After", "Server-Timing"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -89,17 +98,25 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(authz -> authz
+                // Async dispatches complete requests that were already authorized (e.g. report long-polls)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
                 .requestMatchers(
                     "/auth/**",
                     "/v3/api-docs/**",
+                    "/openapi/**",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
+                    "/actuator/health/**",
                     "/error"
                 ).permitAll()
+                // Metrics expose pool and traffic internals, so only administrators may read them
+                .requestMatchers("/actuator/**").access(adminAuthorizationManager)
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,31 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request phase timing settings.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.server-timing")
+@Data
+public class ServerTimingProperties {
+
+    /**
+     * Collect phase timings. When disabled, instrumented code paths only do a thread-local lookup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Emit timings as a {@code Server-Timing} response header, set as the response is committed, so it
+     * covers the request up to the first flushed byte and nothing is buffered.
+     */
+    private boolean emitHeader = true;
+
+    /**
+     * Log a timing breakdown for requests slower than this; 0 disables the log line.
+     */
+    private long slowRequestThresholdMs = 1000;
+
+}
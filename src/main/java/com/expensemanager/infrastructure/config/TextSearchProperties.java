@@ -0,0 +1,38 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full-text search over expense descriptions.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Data
+public class TextSearchProperties {
+
+    /**
+     * {@code postgres} (generated tsvector column with a GIN index) or {@code embedded}
+     * (in-memory inverted index per user, for H2 or any other database).
+     */
+    private String engine = "embedded";
+
+    private Embedded embedded = new Embedded();
+
+    @Data
+    public static class Embedded {
+
+        /**
+         * Total estimated heap the indexes may use; the least recently used are evicted beyond it.
+         */
+        private long memoryBudgetBytes = 32L * 1024 * 1024;
+
+        /**
+         * Indexes are rebuilt from the database at most this long after loading. Writes made
+         * through another node are only seen after a rebuild.
+         */
+        private long maxStalenessMs = 300_000;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flagging of expenses that are far above what a user usually spends in a category.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.unusual-expenses")
+@Data
+public class UnusualExpenseProperties {
+
+    /**
+     * Evaluate new expenses and maintain the running moments. When disabled, nothing is flagged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Flag an expense whose log-amount is more than this many standard deviations above the mean.
+     */
+    private double threshold = 3.0;
+
+    /**
+     * Expenses a category needs before anything in it is flagged.
+     */
+    private int minObservations = 8;
+
+    /**
+     * Number of expenses after which an observation carries half its original weight.
+     */
+    private double halfLife = 50;
+
+    /**
+     * Lower bound on the standard deviation of log-amounts, so a category of identical amounts
+     * does not flag every small change. 0.1 is roughly a 10% difference.
+     */
+    private double minStandardDeviation = 0.1;
+
+}
@@ -0,0 +1,40 @@
+package com.expensemanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * JIT warm-up settings. Readiness is held back until the warm-up finishes or its budget runs out.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+@Data
+public class WarmupProperties {
+
+    /**
+     * Run the warm-up after startup. When disabled, the node reports ready immediately.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Iterations of the CPU-bound paths: token generation and validation, mapping, validation and JSON.
+     */
+    private int iterations = 2000;
+
+    /**
+     * Iterations of the read-only repository queries; each one costs a round trip to the database.
+     */
+    private int queryIterations = 200;
+
+    /**
+     * Upper bound on the warm-up; the node reports ready when it runs out even if iterations remain.
+     */
+    private long timeBudgetMs = 30_000;
+
+    /**
+     * User the repository queries run against. If no such user exists the queries still run and return nothing.
+     */
+    private String username = "warmup";
+
+}
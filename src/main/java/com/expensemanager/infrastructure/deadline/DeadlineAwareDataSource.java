@@ -0,0 +1,143 @@
+package com.expensemanager.infrastructure.deadline;
+
+import com.expensemanager.api.exception.DeadlineExceededException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that enforces the current {@link RequestDeadline}.
+ * <p>
+ * Connection acquisition waits at most for the remaining time, and every statement created on
+ * the connection gets a query timeout no longer than the remaining time, so the driver cancels
+ * the query server-side once the client would have given up. Without an active deadline,
+ * connections are returned untouched.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!RequestDeadline.isActive()) {
+            return super.getConnection();
+        }
+        RequestDeadline.check();
+        return withDeadline(acquire());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!RequestDeadline.isActive()) {
+            return super.getConnection(username, password);
+        }
+        RequestDeadline.check();
+        return withDeadline(super.getConnection(username, password));
+    }
+
+    /**
+     * Close the underlying pool; the bean container infers this as the destroy method.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection acquire() throws SQLException {
+        DataSource target = obtainTargetDataSource();
+        if (!(target instanceof HikariDataSource hikari)
+                || !(hikari.getHikariPoolMXBean() instanceof HikariPool pool)) {
+            // Not Hikari, or the pool has not been started yet
+            return target.getConnection();
+        }
+        long timeoutMs = Math.min(RequestDeadline.remainingMillis(), hikari.getConnectionTimeout());
+        try {
+            return pool.getConnection(timeoutMs);
+        } catch (SQLException ex) {
+            if (RequestDeadline.remainingMillis() <= 0) {
+                throw new DeadlineExceededException("Request deadline exceeded while waiting for a database connection", ex);
+            }
+            throw ex;
+        }
+    }
+
+    private static Connection withDeadline(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            DeadlineAwareDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new ConnectionHandler(connection));
+    }
+
+    /**
+     * Remaining deadline as a JDBC query timeout, which has whole-second granularity.
+     */
+    private static int remainingSeconds() {
+        long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded before the query was sent");
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (remainingMs + 999) / 1000);
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                    : result instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+                statement.setQueryTimeout(remainingSeconds());
+                return Proxy.newProxyInstance(
+                    DeadlineAwareDataSource.class.getClassLoader(),
+                    new Class<?>[] {type},
+                    new StatementHandler(statement));
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Clamps timeouts set later by callers such as JdbcTemplate to the remaining deadline.
+     */
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("setQueryTimeout".equals(method.getName())) {
+                int requested = (int) args[0];
+                int remaining = remainingSeconds();
+                target.setQueryTimeout(requested <= 0 ? remaining : Math.min(requested, remaining));
+                return null;
+            }
+            return invokeTarget(target, method, args);
+        }
+
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.expensemanager.infrastructure.deadline;
+
+import com.expensemanager.api.exception.DeadlineExceededException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the request being processed on the current thread.
+ * <p>
+ * Set by {@link RequestDeadlineFilter} and consumed by {@link DeadlineAwareDataSource}, which
+ * turns the remaining time into connection acquisition and statement timeouts.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Start a deadline for the current thread.
+     *
+     * @param timeoutMs the time budget in milliseconds
+     */
+    public static void start(long timeoutMs) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isActive() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * Get the remaining time budget.
+     *
+     * @return remaining milliseconds (may be negative), or {@link Long#MAX_VALUE} without a deadline
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    /**
+     * Fail fast if the deadline has already passed.
+     *
+     * @throws DeadlineExceededException if no time is left
+     */
+    public static void check() {
+        if (remainingMillis() <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded");
+        }
+    }
+
+    /**
+     * Wrap work so that it runs under the current thread's deadline on another thread.
+     *
+     * @param work the work to run
+     * @param <T> the result type
+     * @return the wrapped work
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return work;
+        }
+        return () -> {
+            DEADLINE_NANOS.set(deadline);
+            try {
+                return work.get();
+            } finally {
+                DEADLINE_NANOS.remove();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.expensemanager.infrastructure.idempotency;
+
+import com.expensemanager.api.exception.DuplicateResourceException;
+import com.expensemanager.api.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Common request hashing and error handling for idempotency stores.
+ */
+@RequiredArgsConstructor
+public abstract class AbstractIdempotencyStore implements IdempotencyStore {
+
+    protected final ObjectMapper objectMapper;
+
+    /**
+     * Hash the serialized request so that reuse of a key with a different payload can be detected.
+     */
+    protected String requestHash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Request cannot be serialized for idempotency check", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    protected void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new ValidationException("Idempotency-Key was already used with a different request payload");
+        }
+    }
+
+    protected DuplicateResourceException stillInProgress() {
+        return new DuplicateResourceException("A request with this Idempotency-Key is still being processed");
+    }
+
+}
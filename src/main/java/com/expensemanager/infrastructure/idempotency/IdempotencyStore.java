@@ -0,0 +1,23 @@
+package com.expensemanager.infrastructure.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Store that executes an action at most once per idempotency key and replays its response.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Execute the action unless the key has already been used, in which case the original
+     * response is returned. Concurrent callers with the same key wait for the first one.
+     *
+     * @param key the scoped idempotency key
+     * @param request the request payload, used to reject key reuse with a different body
+     * @param responseType the response type
+     * @param action the action to execute
+     * @param <T> the response type
+     * @return the response and whether it was replayed
+     */
+    <T> IdempotentResult<T> execute(String key, Object request, Class<T> responseType, Supplier<T> action);
+
+}
@@ -0,0 +1,11 @@
+package com.expensemanager.infrastructure.idempotency;
+
+/**
+ * Result of an idempotent execution.
+ *
+ * @param value the response value
+ * @param replayed true if the value was replayed from an earlier request with the same key
+ * @param <T> the response type
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
@@ -0,0 +1,87 @@
+package com.expensemanager.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-process idempotency store backed by a bounded, TTL-evicting cache.
+ * Suitable for single-node deployments; responses are kept as objects and never serialized.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryIdempotencyStore extends AbstractIdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+    private final long waitTimeoutMs;
+
+    public InMemoryIdempotencyStore(
+            ObjectMapper objectMapper,
+            @Value("${app.idempotency.ttl-ms}") long ttlMs,
+            @Value("${app.idempotency.max-entries}") long maxEntries,
+            @Value("${app.idempotency.wait-timeout-ms}") long waitTimeoutMs) {
+        super(objectMapper);
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .build();
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Override
+    public <T> IdempotentResult<T> execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        String requestHash = requestHash(request);
+        Entry claim = new Entry(requestHash, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, claim);
+
+        if (existing == null) {
+            try {
+                T value = action.get();
+                claim.response().complete(value);
+                return new IdempotentResult<>(value, false);
+            } catch (Throwable ex) {
+                // Failed attempts are not remembered so the client can retry with the same key; errors
+                // too, or the key stays claimed for the whole TTL
+                entries.asMap().remove(key, claim);
+                claim.response().completeExceptionally(ex);
+                throw ex;
+            }
+        }
+
+        checkSameRequest(existing.requestHash(), requestHash);
+        log.debug("Replaying response for idempotency key: {}", key);
+        try {
+            Object value = existing.response().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            return new IdempotentResult<>(responseType.cast(value), true);
+        } catch (TimeoutException ex) {
+            throw stillInProgress();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw stillInProgress();
+        }
+    }
+
+    private record Entry(String requestHash, CompletableFuture<Object> response) {
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.expensemanager.infrastructure.idempotency;
+
+import com.expensemanager.domain.entity.IdempotencyRecord;
+import com.expensemanager.domain.enums.IdempotencyStatus;
+import com.expensemanager.infrastructure.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Table-backed idempotency store for multi-node deployments.
+ * The first request inserts an IN_PROGRESS row; concurrent requests on any node poll
+ * that row until the response is stored and then replay it.
+ * <p>
+ * A claim is leased for {@code lease-ms}, which must exceed the longest request, so that only a
+ * claim abandoned by a crashed node is taken over. The row carries a random owner token, and
+ * completing or releasing it is conditional on that token, so a request whose lease was taken
+ * over never overwrites the new owner's claim.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcIdempotencyStore extends AbstractIdempotencyStore {
+
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate requiresNew;
+    private final long ttlMs;
+    private final long waitTimeoutMs;
+    private final long leaseMs;
+    private final AtomicLong lastPurge = new AtomicLong();
+
+    public JdbcIdempotencyStore(
+            ObjectMapper objectMapper,
+            IdempotencyRecordRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.idempotency.ttl-ms}") long ttlMs,
+            @Value("${app.idempotency.wait-timeout-ms}") long waitTimeoutMs,
+            @Value("${app.idempotency.lease-ms}") long leaseMs) {
+        super(objectMapper);
+        this.repository = repository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttlMs = ttlMs;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.leaseMs = leaseMs;
+    }
+
+    @Override
+    public <T> IdempotentResult<T> execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        purgeExpiredIfDue();
+        String requestHash = requestHash(request);
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+
+        while (true) {
+            String owner = UUID.randomUUID().toString();
+            if (tryClaim(key, requestHash, owner)) {
+                return new IdempotentResult<>(runAndStore(key, owner, action), false);
+            }
+
+            Optional<IdempotencyRecord> existing = repository.findById(key);
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                checkSameRequest(record.getRequestHash(), requestHash);
+                if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                    log.debug("Replaying response for idempotency key: {}", key);
+                    return new IdempotentResult<>(deserialize(record.getResponseBody(), responseType), true);
+                }
+            }
+            // Either still in progress, or the owner failed and released the key: wait and retry
+
+            if (System.currentTimeMillis() >= deadline) {
+                throw stillInProgress();
+            }
+            sleep();
+        }
+    }
+
+    private boolean tryClaim(String key, String requestHash, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return Boolean.TRUE.equals(requiresNew.execute(status -> {
+                Optional<IdempotencyRecord> existing = repository.findById(key);
+                if (existing.isPresent()) {
+                    // Conditional, so that of two nodes taking over an expired claim only one deletes it
+                    if (existing.get().getExpiresAt().isAfter(now) || repository.deleteIfExpired(key, now) == 0) {
+                        return false;
+                    }
+                }
+                repository.saveAndFlush(IdempotencyRecord.builder()
+                    .idempotencyKey(key)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .owner(owner)
+                    .createdAt(now)
+                    // An abandoned claim must not block retries for the whole TTL
+                    .expiresAt(now.plusNanos(leaseMs * 1_000_000))
+                    .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            // Another node inserted the key first
+            return false;
+        }
+    }
+
+    private <T> T runAndStore(String key, String owner, Supplier<T> action) {
+        T value;
+        try {
+            value = action.get();
+        } catch (Throwable ex) {
+            // Errors too, so that retries need not wait for the lease to expire
+            requiresNew.executeWithoutResult(status -> repository.release(key, owner));
+            throw ex;
+        }
+
+        String body = serialize(value);
+        Integer stored = requiresNew.execute(status -> repository.complete(key, owner, IdempotencyStatus.COMPLETED,
+            body, LocalDateTime.now().plusNanos(ttlMs * 1_000_000)));
+        if (stored == null || stored == 0) {
+            log.warn("Idempotency key {} outlived its {} ms lease; the response was not stored for replay", key, leaseMs);
+        }
+        return value;
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurge.get();
+        if (now - last >= PURGE_INTERVAL_MS && lastPurge.compareAndSet(last, now)) {
+            Integer purged = requiresNew.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Response cannot be stored for idempotent replay", ex);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", ex);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw stillInProgress();
+        }
+    }
+
+}
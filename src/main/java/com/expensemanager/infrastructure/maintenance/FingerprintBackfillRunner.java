@@ -0,0 +1,65 @@
+package com.expensemanager.infrastructure.maintenance;
+
+import com.expensemanager.domain.entity.Expense;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills in the duplicate-detection fingerprint of expenses written before fingerprints existed,
+ * so that the bulk import and {@code /expenses/duplicates} also match them.
+ * <p>
+ * Runs in batches of {@code backfill-batch-size} rows, in id order, before the application reports
+ * ready. The fingerprint needs the Java normalization of the description, so it cannot be a single
+ * SQL update. Once every row has a fingerprint this is one query at startup.
+ */
+@Component
+@Slf4j
+public class FingerprintBackfillRunner implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public FingerprintBackfillRunner(
+            DataSource dataSource,
+            @Value("${app.duplicates.backfill-batch-size}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        long filled = 0;
+        while (true) {
+            List<Object[]> updates = new ArrayList<>(batchSize);
+            jdbcTemplate.query(
+                "SELECT id, user_id, expense_date, amount, description FROM expenses "
+                    + "WHERE fingerprint IS NULL AND id > ? ORDER BY id LIMIT ?",
+                rs -> {
+                    updates.add(new Object[] {
+                        Expense.fingerprintOf(rs.getLong(2), rs.getDate(3).toLocalDate(),
+                            rs.getBigDecimal(4), rs.getString(5)),
+                        rs.getLong(1)
+                    });
+                },
+                lastId, batchSize);
+            if (updates.isEmpty()) {
+                break;
+            }
+            // Rows fingerprinted by a concurrent update keep the value written there
+            jdbcTemplate.batchUpdate("UPDATE expenses SET fingerprint = ? WHERE id = ? AND fingerprint IS NULL", updates);
+            filled += updates.size();
+            lastId = (Long) updates.get(updates.size() - 1)[1];
+            log.info("Backfilled fingerprints of {} expenses", filled);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning an analytics computation, including whether it was served without
+ * running its own query.
+ */
+@Name("com.expensemanager.AnalyticsQuery")
+@Label("Analytics Query")
+@Category({"Expense Manager", "Analytics"})
+@Description("Analytics aggregation for a user")
+@StackTrace(false)
+public class AnalyticsQueryEvent extends Event {
+
+    @Label("Query")
+    public String query;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Row Count")
+    public int rowCount;
+
+    @Label("Cache Hit")
+    @Description("Whether the result was shared from another call instead of queried")
+    public boolean cacheHit;
+
+    @Label("Columnar")
+    @Description("Whether the result was computed from the in-memory columnar snapshot instead of SQL")
+    public boolean columnar;
+
+}
@@ -0,0 +1,37 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the handling of one API request by a controller.
+ */
+@Name("com.expensemanager.Endpoint")
+@Label("Endpoint")
+@Category({"Expense Manager", "HTTP"})
+@Description("Handling of an API request by a controller")
+@StackTrace(false)
+public class EndpointEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Matched URL pattern")
+    public String endpoint;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("User ID")
+    @Description("Authenticated user, or 0 if unauthenticated")
+    public long userId;
+
+    @Label("Status")
+    public int status;
+
+}
@@ -0,0 +1,48 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits an {@link EndpointEvent} around each controller invocation.
+ */
+public class JfrEndpointInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = JfrEndpointInterceptor.class.getName() + ".EVENT";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        EndpointEvent event = new EndpointEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof EndpointEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.getMethod();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.endpoint = pattern != null ? pattern.toString() : request.getServletPath();
+            if (handler instanceof HandlerMethod handlerMethod) {
+                event.handler = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            }
+            Long userId = JwtAuthDetails.currentUserId();
+            event.userId = userId != null ? userId : 0;
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+
+}
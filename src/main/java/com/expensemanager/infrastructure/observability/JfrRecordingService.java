@@ -0,0 +1,90 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Starts and stops an on-demand JFR recording. At most one recording runs at a time; it stops
+ * by itself after the configured maximum duration and is kept until collected.
+ */
+@Component
+@Slf4j
+public class JfrRecordingService {
+
+    private final String settings;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private Recording recording;
+
+    public JfrRecordingService(
+            @Value("${app.jfr.settings}") String settings,
+            @Value("${app.jfr.max-duration-seconds}") long maxDurationSeconds,
+            @Value("${app.jfr.max-size-mb}") long maxSizeMb) {
+        this.settings = settings;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * Start a recording with the preset settings.
+     *
+     * @return false if a recording is already in progress
+     */
+    public synchronized boolean start() throws IOException, ParseException {
+        if (recording != null) {
+            return false;
+        }
+        Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+        newRecording.setName("expense-manager");
+        newRecording.setDuration(maxDuration);
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.setToDisk(true);
+        newRecording.start();
+        recording = newRecording;
+        log.info("Started JFR recording with '{}' settings for at most {}", settings, maxDuration);
+        return true;
+    }
+
+    /**
+     * Stop the recording and dump it to a temporary file, which the caller must delete.
+     *
+     * @return the recording file, or null if no recording was started
+     */
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("expense-manager-", ".jfr");
+            recording.dump(file);
+            log.info("Stopped JFR recording, {} bytes", Files.size(file));
+            return file;
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Get the state of the current recording.
+     *
+     * @return the state, or null if no recording was started
+     */
+    public synchronized RecordingState getState() {
+        return recording != null ? recording.getState() : null;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Adds an advice emitting a {@link RepositoryCallEvent} to every Spring Data repository proxy.
+ */
+@Component
+public class JfrRepositoryPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                (proxyFactory, metadata) -> proxyFactory.addAdvice(
+                    new RepositoryEventInterceptor(metadata.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private record RepositoryEventInterceptor(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+            event.begin();
+            Object result = null;
+            try {
+                result = invocation.proceed();
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.rowCount = rowCount(result);
+                    Long userId = JwtAuthDetails.currentUserId();
+                    event.userId = userId != null ? userId : 0;
+                    event.commit();
+                }
+            }
+        }
+
+        private static int rowCount(Object result) {
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Slice<?> slice) {
+                return slice.getNumberOfElements();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.isPresent() ? 1 : 0;
+            }
+            return -1;
+        }
+
+    }
+
+}
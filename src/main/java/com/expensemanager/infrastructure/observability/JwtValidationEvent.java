@@ -0,0 +1,27 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the parsing and validation of a bearer token.
+ */
+@Name("com.expensemanager.JwtValidation")
+@Label("JWT Validation")
+@Category({"Expense Manager", "Security"})
+@Description("Parsing and signature validation of a JWT bearer token")
+@StackTrace(false)
+public class JwtValidationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("User ID")
+    @Description("User the token was issued to, or 0 if invalid")
+    public long userId;
+
+}
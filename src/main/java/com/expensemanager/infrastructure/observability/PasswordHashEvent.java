@@ -0,0 +1,27 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a password hash computation (BCrypt encode or verify).
+ */
+@Name("com.expensemanager.PasswordHash")
+@Label("Password Hash")
+@Category({"Expense Manager", "Security"})
+@Description("Password encoding or verification")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode or matches")
+    public String operation;
+
+    @Label("Matched")
+    public boolean matched;
+
+}
@@ -0,0 +1,12 @@
+package com.expensemanager.infrastructure.observability;
+
+/**
+ * Thrown in FAIL mode when a request executes more SQL statements than its budget.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String handler, int count, int budget) {
+        super("Query budget exceeded by " + handler + ": " + count + " statements, budget " + budget);
+    }
+
+}
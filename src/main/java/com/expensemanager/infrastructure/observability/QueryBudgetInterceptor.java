@@ -0,0 +1,75 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.config.QueryBudgetProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.lang.reflect.Method;
+
+/**
+ * Counts the SQL statements of each controller invocation, records the count in
+ * {@link QueryCountRegistry} and logs requests that exceed their budget.
+ * Failing requests in FAIL mode is done by {@link QueryBudgetResponseBodyAdvice}, before the
+ * response is written. Every controller returns its response through a message converter, so
+ * FAIL mode does not cover handlers returning {@code void} or a view.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final QueryBudgetProperties properties;
+    private final QueryCountRegistry registry;
+
+    static String handlerKey(Class<?> controller, Method method) {
+        return controller.getSimpleName() + "#" + method.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.isEnabled() && handler instanceof HandlerMethod) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    /**
+     * Add the header to responses that are not committed yet; those written by a converter already
+     * carry it from {@link QueryBudgetResponseBodyAdvice}.
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+            ModelAndView modelAndView) {
+        if (!properties.isEnabled() || !properties.isExposeHeader() || !(handler instanceof HandlerMethod)
+                || response.isCommitted()) {
+            return;
+        }
+        response.setHeader(QueryBudgetResponseBodyAdvice.QUERY_COUNT_HEADER, String.valueOf(QueryCounter.current()));
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Counting resumes on the async dispatch
+        QueryCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        int count = QueryCounter.stop();
+        String key = handlerKey(handlerMethod.getBeanType(), handlerMethod.getMethod());
+        registry.record(key, count);
+        int budget = properties.budgetFor(key);
+        if (count > budget) {
+            log.warn("Query budget exceeded handler={} path={} queries={} budget={}",
+                key, request.getRequestURI(), count, budget);
+        }
+    }
+
+}
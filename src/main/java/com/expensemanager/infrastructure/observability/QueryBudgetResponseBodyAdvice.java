@@ -0,0 +1,51 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.config.QueryBudgetProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the {@code X-Query-Count} header and, in FAIL mode, rejects responses of requests that
+ * exceeded their statement budget.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class QueryBudgetResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final QueryBudgetProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        // Error bodies from exception handlers are left alone so a failed budget cannot fail twice
+        return properties.isEnabled() && returnType.getMethod() != null
+            && !AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), ControllerAdvice.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        int count = QueryCounter.current();
+        if (properties.isExposeHeader()) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(count));
+        }
+        if (properties.getMode() == QueryBudgetProperties.Mode.FAIL) {
+            String key = QueryBudgetInterceptor.handlerKey(returnType.getContainingClass(), returnType.getMethod());
+            int budget = properties.budgetFor(key);
+            if (count > budget) {
+                throw new QueryBudgetExceededException(key, count, budget);
+            }
+        }
+        return body;
+    }
+
+}
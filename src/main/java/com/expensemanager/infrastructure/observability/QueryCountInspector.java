@@ -0,0 +1,16 @@
+package com.expensemanager.infrastructure.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector feeding {@link QueryCounter}; the SQL is passed through unchanged.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.expensemanager.infrastructure.observability;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Statement count of the most recent request per handler.
+ * <p>
+ * Test-support API: an integration test can issue a request and then assert
+ * {@code lastCount("ExpenseController#getAllExpenses")} equals the expected number of statements.
+ */
+@Component
+public class QueryCountRegistry {
+
+    private final Map<String, Integer> lastCounts = new ConcurrentHashMap<>();
+
+    void record(String handler, int count) {
+        lastCounts.put(handler, count);
+    }
+
+    /**
+     * Get the statement count of the most recent request handled by a controller method.
+     *
+     * @param handler handler key, {@code ControllerSimpleName#method}
+     * @return the count, or null if the handler has not been called
+     */
+    public Integer lastCount(String handler) {
+        return lastCounts.get(handler);
+    }
+
+    /**
+     * Forget all recorded counts.
+     */
+    public void reset() {
+        lastCounts.clear();
+    }
+
+}
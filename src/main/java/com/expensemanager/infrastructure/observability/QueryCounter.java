@@ -0,0 +1,100 @@
+package com.expensemanager.infrastructure.observability;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * {@link QueryBudgetInterceptor} counts per request. Tests can use {@link #count(Runnable)} to
+ * assert the exact number of statements issued by a block of code, for example a service call
+ * or a MockMvc request. Statements issued through JdbcTemplate (analytics) are not counted.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Start counting on the current thread, discarding any previous count.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on the current thread.
+     *
+     * @return statements counted since {@link #start()}
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Get the number of statements counted so far.
+     *
+     * @return the count, or 0 if not counting
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Count the statements issued by a block of code.
+     *
+     * @param work the code to run
+     * @return number of statements
+     */
+    public static int count(Runnable work) {
+        return count(() -> {
+            work.run();
+            return null;
+        }).count();
+    }
+
+    /**
+     * Count the statements issued by a block of code, keeping its result.
+     *
+     * @param work the code to run
+     * @param <T> the result type
+     * @return the result and the number of statements
+     */
+    public static <T> Counted<T> count(Supplier<T> work) {
+        int[] outer = COUNT.get();
+        int[] inner = new int[1];
+        COUNT.set(inner);
+        try {
+            return new Counted<>(work.get(), inner[0]);
+        } finally {
+            if (outer != null) {
+                outer[0] += inner[0];
+                COUNT.set(outer);
+            } else {
+                COUNT.remove();
+            }
+        }
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /**
+     * Result of a counted block.
+     *
+     * @param value the block's result
+     * @param count number of statements issued
+     * @param <T> the result type
+     */
+    public record Counted<T>(T value, int count) {
+    }
+
+}
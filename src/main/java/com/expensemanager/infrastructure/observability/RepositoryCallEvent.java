@@ -0,0 +1,34 @@
+package com.expensemanager.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a Spring Data repository call.
+ */
+@Name("com.expensemanager.RepositoryCall")
+@Label("Repository Call")
+@Category({"Expense Manager", "Database"})
+@Description("Call to a Spring Data repository method")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Row Count")
+    @Description("Rows returned, or -1 if the result is not a row set")
+    public int rowCount;
+
+    @Label("User ID")
+    @Description("Authenticated user, or 0 if unauthenticated")
+    public long userId;
+
+}
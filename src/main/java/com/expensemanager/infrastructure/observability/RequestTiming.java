@@ -0,0 +1,154 @@
+package com.expensemanager.infrastructure.observability;
+
+/**
+ * Accumulates time spent in each phase of the request being processed on the current thread.
+ * <p>
+ * Instrumented code brackets a phase with {@link #begin()} and {@link #end(Phase, long)}. When
+ * no request is being timed, {@code begin()} returns 0 after a thread-local lookup and
+ * {@code end} returns immediately, so the disabled path neither allocates nor reads the clock.
+ */
+public final class RequestTiming {
+
+    /**
+     * Timed phases, named as they appear in the {@code Server-Timing} header.
+     */
+    public enum Phase {
+        AUTH("auth", "JWT validation"),
+        DB_ACQUIRE("db-acquire", "Connection acquisition"),
+        DB_QUERY("db", "Statement execution"),
+        MAPPING("mapping", "Entity to DTO mapping"),
+        SERIALIZATION("serialize", "Response serialization");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] durations = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long serializationStartNanos;
+
+    RequestTiming() {
+    }
+
+    /**
+     * Start timing a phase.
+     *
+     * @return a start timestamp to pass to {@link #end}, or 0 if the request is not being timed
+     */
+    public static long begin() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Finish timing a phase started with {@link #begin()}.
+     *
+     * @param phase the phase
+     * @param startNanos the value returned by {@code begin()}
+     */
+    public static void end(Phase phase, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.durations[phase.ordinal()] += System.nanoTime() - startNanos;
+            timing.counts[phase.ordinal()]++;
+        }
+    }
+
+    /**
+     * Record that the response body is about to be serialized. Serialization ends when the
+     * filter chain returns, so the filter computes that phase itself.
+     */
+    public static void markSerializationStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    static void attach(RequestTiming timing) {
+        CURRENT.set(timing);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Close the serialization phase, if one was started.
+     */
+    void finish() {
+        if (serializationStartNanos != 0) {
+            durations[Phase.SERIALIZATION.ordinal()] += System.nanoTime() - serializationStartNanos;
+            counts[Phase.SERIALIZATION.ordinal()]++;
+            serializationStartNanos = 0;
+        }
+    }
+
+    long totalNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Render as a W3C Server-Timing header value, as of now. A serialization phase still in
+     * progress is included up to now without being closed.
+     */
+    String toHeaderValue() {
+        long now = System.nanoTime();
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            long duration = durations[phase.ordinal()];
+            int count = counts[phase.ordinal()];
+            if (phase == Phase.SERIALIZATION && serializationStartNanos != 0) {
+                duration += now - serializationStartNanos;
+                count++;
+            }
+            if (count > 0) {
+                header.append(phase.getMetricName()).append(";dur=").append(millis(duration));
+                header.append(";desc=\"").append(phase.getDescription());
+                if (count > 1) {
+                    header.append(" x").append(count);
+                }
+                header.append("\", ");
+            }
+        }
+        return header.append("total;dur=").append(millis(now - startNanos)).toString();
+    }
+
+    /**
+     * Render as key=value pairs for a log line.
+     */
+    String toLogFields(long totalNanos) {
+        StringBuilder fields = new StringBuilder(160).append("total_ms=").append(millis(totalNanos));
+        for (Phase phase : PHASES) {
+            String key = phase.getMetricName().replace('-', '_');
+            fields.append(' ').append(key).append("_ms=").append(millis(durations[phase.ordinal()]))
+                .append(' ').append(key).append("_count=").append(counts[phase.ordinal()]);
+        }
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        long micros = nanos / 1_000;
+        return (micros / 1_000) + "." + String.format("%03d", micros % 1_000);
+    }
+
+}
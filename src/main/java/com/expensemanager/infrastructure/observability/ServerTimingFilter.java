@@ -0,0 +1,109 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times each request and reports the phase breakdown collected by {@link RequestTiming}.
+ * <p>
+ * The {@code Server-Timing} header is set just before the response is committed, when its first
+ * bytes are flushed, so nothing is buffered and streamed downloads stay streamed. It therefore
+ * covers the request up to that point; a body streamed after the first flush is not included.
+ * Asynchronous requests (e.g. report long-polls) are completed on their async dispatch.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String TIMING_ATTRIBUTE = ServerTimingFilter.class.getName() + ".TIMING";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = (RequestTiming) request.getAttribute(TIMING_ATTRIBUTE);
+        if (timing == null) {
+            timing = new RequestTiming();
+            request.setAttribute(TIMING_ATTRIBUTE, timing);
+        }
+
+        HttpServletResponse responseToUse = response;
+        if (properties.isEmitHeader()) {
+            responseToUse = new TimingHeaderResponseWrapper(response, timing);
+        }
+
+        RequestTiming.attach(timing);
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            RequestTiming.detach();
+            if (!isAsyncStarted(request)) {
+                complete(request, response, timing);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        if (properties.isEmitHeader() && !response.isCommitted()) {
+            // Nothing was flushed, e.g. an empty body; the container commits after the filters return
+            response.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+        }
+        timing.finish();
+        long totalNanos = timing.totalNanos();
+
+        long thresholdMs = properties.getSlowRequestThresholdMs();
+        if (thresholdMs > 0 && totalNanos >= thresholdMs * 1_000_000) {
+            log.info("Slow request method={} path={} status={} {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), timing.toLogFields(totalNanos));
+        }
+    }
+
+    /**
+     * Sets the {@code Server-Timing} header when the response is about to be committed.
+     */
+    private static final class TimingHeaderResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final HttpServletResponse response;
+        private final RequestTiming timing;
+
+        TimingHeaderResponseWrapper(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.response = response;
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (!response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.expensemanager.infrastructure.observability;
+
+import com.expensemanager.infrastructure.config.ServerTimingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the start of response serialization for {@link RequestTiming}; the message converter
+ * writes the body right after this advice runs.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming.markSerializationStart();
+        return body;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.expensemanager.infrastructure.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that records connection acquisition and statement execution time in
+ * {@link RequestTiming}. Only installed when server timing is enabled.
+ */
+public class TimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public TimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = RequestTiming.begin();
+        try {
+            return timed(super.getConnection());
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.DB_ACQUIRE, start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = RequestTiming.begin();
+        try {
+            return timed(super.getConnection(username, password));
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.DB_ACQUIRE, start);
+        }
+    }
+
+    /**
+     * Close the underlying pool; the bean container infers this as the destroy method.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            TimingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new ConnectionHandler(connection));
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                    : result instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+                return Proxy.newProxyInstance(
+                    TimingDataSource.class.getClassLoader(),
+                    new Class<?>[] {type},
+                    new StatementHandler(statement));
+            }
+            return result;
+        }
+
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+            long start = RequestTiming.begin();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                RequestTiming.end(RequestTiming.Phase.DB_QUERY, start);
+            }
+        }
+
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.expensemanager.infrastructure.observability;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every connection pool in a {@link TimingDataSource}. Runs after the deadline wrapper,
+ * so acquisition time includes waiting under the request deadline.
+ */
+@Component
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class TimingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TimingDataSource)) {
+            return new TimingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.analytics.DailyTotalsIndex;
+import com.expensemanager.infrastructure.analytics.ExpenseColumns;
+import com.expensemanager.infrastructure.tags.TagFilter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only aggregation queries executed on the analytics connection pool.
+ */
+@Repository
+public class AnalyticsQueryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String bitAndFormat;
+
+    public AnalyticsQueryRepository(@Qualifier("analyticsJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get expense totals per category for a user (SUM + GROUP BY).
+     *
+     * @param userId the user ID
+     * @return map of category to total amount
+     */
+    public Map<ExpenseCategory, BigDecimal> getCategoryTotals(Long userId) {
+        return getCategoryTotals(userId, null, null);
+    }
+
+    /**
+     * Get expense totals per category for a user, optionally limited to a date range.
+     *
+     * @param userId    the user ID
+     * @param startDate first day included, or {@code null} for no lower bound
+     * @param endDate   last day included, or {@code null} for no upper bound
+     * @return map of category to total amount
+     */
+    public Map<ExpenseCategory, BigDecimal> getCategoryTotals(Long userId, LocalDate startDate, LocalDate endDate) {
+        return getCategoryTotals(userId, startDate, endDate, TagFilter.NONE);
+    }
+
+    /**
+     * Get expense totals per category for a user's expenses matching a tag filter, optionally
+     * limited to a date range. The tag conditions are bitwise tests on {@code tag_mask}.
+     *
+     * @param userId    the user ID
+     * @param startDate first day included, or {@code null} for no lower bound
+     * @param endDate   last day included, or {@code null} for no upper bound
+     * @param tags      the tag filter
+     * @return map of category to total amount
+     */
+    public Map<ExpenseCategory, BigDecimal> getCategoryTotals(Long userId, LocalDate startDate, LocalDate endDate,
+                                                              TagFilter tags) {
+        List<Object> args = new ArrayList<>();
+        String where = userAndDateFilter(userId, startDate, endDate, null, args) + tagFilter(tags, args);
+        Map<ExpenseCategory, BigDecimal> totals = new EnumMap<>(ExpenseCategory.class);
+        jdbcTemplate.query(
+            "SELECT category, SUM(amount) FROM expenses WHERE " + where + " GROUP BY category",
+            rs -> {
+                totals.put(ExpenseCategory.valueOf(rs.getString(1)), rs.getBigDecimal(2));
+            },
+            args.toArray());
+        return totals;
+    }
+
+    /**
+     * Get the IDs of a user's largest expenses, largest first.
+     *
+     * @param userId    the user ID
+     * @param limit     maximum number of IDs
+     * @param startDate first day included, or {@code null} for no lower bound
+     * @param endDate   last day included, or {@code null} for no upper bound
+     * @param category  category to restrict to, or {@code null} for all
+     * @return expense IDs ordered by amount descending
+     */
+    public List<Long> getTopExpenseIds(Long userId, int limit, LocalDate startDate, LocalDate endDate,
+                                       ExpenseCategory category) {
+        List<Object> args = new ArrayList<>();
+        String where = userAndDateFilter(userId, startDate, endDate, category, args);
+        args.add(limit);
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM expenses WHERE " + where + " ORDER BY amount DESC, id LIMIT ?",
+            Long.class,
+            args.toArray());
+    }
+
+    /**
+     * Count a user's expenses.
+     *
+     * @param userId the user ID
+     * @return number of expenses
+     */
+    public int countExpenses(Long userId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM expenses WHERE user_id = ?", Integer.class, userId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Read all of a user's expenses into a columnar snapshot, streaming rows in (date, id) order.
+     *
+     * @param userId       the user ID
+     * @param expectedRows initial capacity of the snapshot
+     * @return the populated snapshot
+     */
+    public ExpenseColumns loadExpenseColumns(Long userId, int expectedRows) {
+        ExpenseColumns columns = new ExpenseColumns(expectedRows);
+        jdbcTemplate.query(
+            "SELECT id, amount, expense_date, category, tag_mask FROM expenses WHERE user_id = ? ORDER BY expense_date, id",
+            rs -> {
+                columns.append(
+                    rs.getLong(1),
+                    ExpenseColumns.toMinorUnits(rs.getBigDecimal(2)),
+                    ExpenseColumns.epochDay(rs.getDate(3).toLocalDate()),
+                    (byte) ExpenseCategory.valueOf(rs.getString(4)).ordinal(),
+                    rs.getLong(5));
+            },
+            userId);
+        return columns;
+    }
+
+    /**
+     * Build a user's daily totals index from per-day, per-category sums.
+     *
+     * @param userId        the user ID
+     * @param maxWindowDays most recent days the index keeps dense; see {@link DailyTotalsIndex}
+     * @return the populated index; empty, around today, if the user has no expenses
+     */
+    public DailyTotalsIndex loadDailyTotals(Long userId, int maxWindowDays) {
+        LocalDate today = LocalDate.now();
+        DailyTotalsIndex index = jdbcTemplate.queryForObject(
+            "SELECT MIN(expense_date), MAX(expense_date) FROM expenses WHERE user_id = ?",
+            (rs, rowNum) -> {
+                Date firstDay = rs.getDate(1);
+                Date lastDay = rs.getDate(2);
+                return new DailyTotalsIndex(
+                    ExpenseColumns.epochDay(firstDay == null ? today : firstDay.toLocalDate()),
+                    ExpenseColumns.epochDay(lastDay == null || lastDay.toLocalDate().isBefore(today) ? today : lastDay.toLocalDate()),
+                    maxWindowDays);
+            },
+            userId);
+        jdbcTemplate.query(
+            "SELECT expense_date, category, SUM(amount) FROM expenses WHERE user_id = ? GROUP BY expense_date, category",
+            rs -> {
+                index.add(
+                    ExpenseColumns.epochDay(rs.getDate(1).toLocalDate()),
+                    ExpenseCategory.valueOf(rs.getString(2)).ordinal(),
+                    ExpenseColumns.toMinorUnits(rs.getBigDecimal(3)));
+            },
+            userId);
+        return index;
+    }
+
+    private String tagFilter(TagFilter tags, List<Object> args) {
+        StringBuilder where = new StringBuilder();
+        if (tags.allOf() != 0) {
+            where.append(" AND ").append(bitAnd("tag_mask")).append(" = ?");
+            args.add(tags.allOf());
+            args.add(tags.allOf());
+        }
+        if (tags.anyOf() != 0) {
+            where.append(" AND ").append(bitAnd("tag_mask")).append(" <> 0");
+            args.add(tags.anyOf());
+        }
+        if (tags.noneOf() != 0) {
+            where.append(" AND ").append(bitAnd("tag_mask")).append(" = 0");
+            args.add(tags.noneOf());
+        }
+        return where.toString();
+    }
+
+    /**
+     * A bitwise AND of a column with one parameter. PostgreSQL has the {@code &} operator but no
+     * {@code BITAND} function; H2 has the function but not the operator.
+     */
+    private String bitAnd(String column) {
+        String format = bitAndFormat;
+        if (format == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            format = "PostgreSQL".equalsIgnoreCase(product) ? "(%s & CAST(? AS BIGINT))" : "BITAND(%s, CAST(? AS BIGINT))";
+            bitAndFormat = format;
+        }
+        return String.format(format, column);
+    }
+
+    private static String userAndDateFilter(Long userId, LocalDate startDate, LocalDate endDate,
+                                            ExpenseCategory category, List<Object> args) {
+        StringBuilder where = new StringBuilder("user_id = ?");
+        args.add(userId);
+        if (startDate != null) {
+            where.append(" AND expense_date >= ?");
+            args.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            where.append(" AND expense_date <= ?");
+            args.add(Date.valueOf(endDate));
+        }
+        if (category != null) {
+            where.append(" AND category = ?");
+            args.add(category.name());
+        }
+        return where.toString();
+    }
+
+}
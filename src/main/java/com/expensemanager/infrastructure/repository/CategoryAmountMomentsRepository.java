@@ -0,0 +1,46 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.CategoryAmountMoments;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for per-category running amount moments.
+ */
+@Repository
+public interface CategoryAmountMomentsRepository extends JpaRepository<CategoryAmountMoments, Long> {
+
+    /**
+     * Find all of a user's moments.
+     *
+     * @param userId the user ID
+     * @return one row per category the user has written to
+     */
+    List<CategoryAmountMoments> findByUserId(Long userId);
+
+    /**
+     * Find a user's moments for one category.
+     *
+     * @param userId the user ID
+     * @param category the expense category
+     * @return the moments, if the category has been seeded
+     */
+    Optional<CategoryAmountMoments> findByUserIdAndCategory(Long userId, ExpenseCategory category);
+
+    /**
+     * Delete all of a user's moments.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query("DELETE FROM CategoryAmountMoments m WHERE m.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+}
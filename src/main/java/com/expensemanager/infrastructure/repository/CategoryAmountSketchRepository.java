@@ -0,0 +1,35 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.CategoryAmountSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for persisted per-category amount sketches.
+ */
+@Repository
+public interface CategoryAmountSketchRepository extends JpaRepository<CategoryAmountSketch, Long> {
+
+    /**
+     * Find all of a user's sketches.
+     *
+     * @param userId the user ID
+     * @return one sketch per category that has been built
+     */
+    List<CategoryAmountSketch> findByUserId(Long userId);
+
+    /**
+     * Delete all of a user's sketches.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query("DELETE FROM CategoryAmountSketch s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+}
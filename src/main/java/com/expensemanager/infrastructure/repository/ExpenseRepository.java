@@ -6,18 +6,22 @@ import com.expensemanager.domain.enums.ExpenseCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Expense entity operations.
  */
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense> {
 
     /**
      * Find all expenses for a specific user.
@@ -38,6 +42,15 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
      */
     Page<Expense> findByUserAndCategory(User user, ExpenseCategory category, Pageable pageable);
 
+    /**
+     * Find a user's expenses flagged as unusual when they were created or last edited.
+     *
+     * @param user the user
+     * @param pageable pagination information
+     * @return a page of unusual expenses
+     */
+    Page<Expense> findByUserAndUnusualTrue(User user, Pageable pageable);
+
     /**
      * Find expenses within a date range for a user.
      *
@@ -49,13 +62,116 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByUserAndExpenseDateBetween(User user, LocalDate startDate, LocalDate endDate);
 
     /**
-     * Get category totals using JPQL aggregation (SUM + GROUP BY).
+     * Check whether the user already has an expense with the given fingerprint.
+     *
+     * @param user the user
+     * @param fingerprint the expense fingerprint
+     * @return true if a matching expense exists
+     */
+    boolean existsByUserAndFingerprint(User user, String fingerprint);
+
+    /**
+     * Find which of the given fingerprints already exist for a user (single index probe per value).
+     *
+     * @param user the user
+     * @param fingerprints candidate fingerprints
+     * @return the fingerprint of every stored expense that has one of them, repeated per expense
+     */
+    @Query("SELECT e.fingerprint FROM Expense e WHERE e.user = :user AND e.fingerprint IN :fingerprints")
+    List<String> findExistingFingerprints(@Param("user") User user, @Param("fingerprints") Collection<String> fingerprints);
+
+    /**
+     * Find fingerprints that occur more than once for a user.
      *
      * @param userId the user ID
-     * @return list of Object[] with [category name, total]
+     * @return fingerprints shared by two or more expenses
      */
-    @Query("SELECT CAST(e.category AS string), SUM(e.amount) FROM Expense e WHERE e.user.id = :userId GROUP BY e.category")
-    List<Object[]> getCategoryTotals(@Param("userId") Long userId);
+    @Query("SELECT e.fingerprint FROM Expense e WHERE e.user.id = :userId AND e.fingerprint IS NOT NULL "
+        + "GROUP BY e.fingerprint HAVING COUNT(e) > 1")
+    List<String> findDuplicateFingerprints(@Param("userId") Long userId);
 
-}
+    /**
+     * Find expenses of a user matching any of the given fingerprints.
+     *
+     * @param user the user
+     * @param fingerprints the fingerprints
+     * @return matching expenses ordered by fingerprint and ID
+     */
+    List<Expense> findByUserAndFingerprintInOrderByFingerprintAscIdAsc(User user, Collection<String> fingerprints);
+
+    /**
+     * Get the category and amount of a user's expenses in the given categories.
+     *
+     * @param userId the user ID
+     * @param categories the categories to include
+     * @return (category, amount) pairs
+     */
+    @Query("SELECT e.category, e.amount FROM Expense e WHERE e.user.id = :userId AND e.category IN :categories")
+    List<Object[]> findCategoryAmounts(@Param("userId") Long userId, @Param("categories") Collection<ExpenseCategory> categories);
+
+    /**
+     * Get the amounts of a user's expenses in one category, oldest first.
+     *
+     * @param userId the user ID
+     * @param category the expense category
+     * @return amounts ordered by expense date and ID
+     */
+    @Query("SELECT e.amount FROM Expense e WHERE e.user.id = :userId AND e.category = :category "
+        + "ORDER BY e.expenseDate, e.id")
+    List<BigDecimal> findAmountHistory(@Param("userId") Long userId, @Param("category") ExpenseCategory category);
+
+    /**
+     * Get the date, description and amount of all of a user's expenses.
+     *
+     * @param userId the user ID
+     * @return (expense date, description, amount) triples
+     */
+    @Query("SELECT e.expenseDate, e.description, e.amount FROM Expense e WHERE e.user.id = :userId")
+    List<Object[]> findMerchantHistory(@Param("userId") Long userId);
 
+    /**
+     * Get the ID and description of a user's expenses that have a description.
+     *
+     * @param userId the user ID
+     * @return (id, description) pairs
+     */
+    @Query("SELECT e.id, e.description FROM Expense e WHERE e.user.id = :userId AND e.description IS NOT NULL")
+    List<Object[]> findDescriptions(@Param("userId") Long userId);
+
+    /**
+     * Count how many of a user's expenses use each distinct description.
+     *
+     * @param userId the user ID
+     * @return (description, count) pairs
+     */
+    @Query("SELECT e.description, COUNT(e) FROM Expense e WHERE e.user.id = :userId AND e.description IS NOT NULL "
+        + "GROUP BY e.description")
+    List<Object[]> countDescriptions(@Param("userId") Long userId);
+
+    /**
+     * Count a user's expenses within a date range and get the latest time one of them was written.
+     * Any insert, update or delete in the range changes the pair.
+     *
+     * @param userId the user ID
+     * @param startDate first day, inclusive
+     * @param endDate last day, inclusive
+     * @return a single (count, latest updated_at) row; the time is {@code null} for an empty range
+     */
+    @Query("SELECT COUNT(e), MAX(e.updatedAt) FROM Expense e WHERE e.user.id = :userId "
+        + "AND e.expenseDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findRangeVersion(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * Clear one tag's bit from all of a user's expenses, before the tag is deleted.
+     *
+     * @param userId the user ID
+     * @param tagMask the mask with only the tag's bit set
+     * @return number of expenses that had the tag
+     */
+    @Modifying
+    @Query("UPDATE Expense e SET e.tagMask = bitand(e.tagMask, cast(:keep as Long)) "
+        + "WHERE e.user.id = :userId AND bitand(e.tagMask, cast(:tagMask as Long)) <> 0")
+    int clearTag(@Param("userId") Long userId, @Param("tagMask") long tagMask, @Param("keep") long keep);
+
+}
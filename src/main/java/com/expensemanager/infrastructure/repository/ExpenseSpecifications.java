@@ -0,0 +1,109 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.Expense;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.tags.TagFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable predicates for searching expenses.
+ * <p>
+ * A search should start with {@link #ownedBy} and the date bounds, which the
+ * {@code (user_id, expense_date, id)} index serves directly, and add the less selective or
+ * non-indexable predicates after them. Every value is bound as a parameter.
+ */
+public final class ExpenseSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ExpenseSpecifications() {
+    }
+
+    public static Specification<Expense> ownedBy(Long userId) {
+        // Compares the foreign key column; no join to users
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Expense> dateFrom(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("expenseDate"), startDate);
+    }
+
+    public static Specification<Expense> dateTo(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("expenseDate"), endDate);
+    }
+
+    public static Specification<Expense> categoryIn(Collection<ExpenseCategory> categories) {
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    public static Specification<Expense> amountFrom(BigDecimal minAmount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Expense> amountTo(BigDecimal maxAmount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
+    }
+
+    /**
+     * Case-insensitive substring match on the description, with LIKE wildcards in the text escaped.
+     */
+    public static Specification<Expense> descriptionContains(String text) {
+        String pattern = "%" + text.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Tag conditions as bitwise tests on the tag mask, through Hibernate's portable {@code bitand}
+     * function. Not indexable, so it only narrows the rows the other predicates select.
+     */
+    public static Specification<Expense> tagged(TagFilter tags) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(3);
+            if (tags.allOf() != 0) {
+                predicates.add(cb.equal(bitAnd(cb, root.get("tagMask"), tags.allOf()), tags.allOf()));
+            }
+            if (tags.anyOf() != 0) {
+                predicates.add(cb.notEqual(bitAnd(cb, root.get("tagMask"), tags.anyOf()), 0L));
+            }
+            if (tags.noneOf() != 0) {
+                predicates.add(cb.equal(bitAnd(cb, root.get("tagMask"), tags.noneOf()), 0L));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset condition for the rows after {@code (value, id)} in {@code (field, id)} order.
+     *
+     * @param field      the sorted attribute
+     * @param value      the sorted attribute of the last row returned
+     * @param id         the ID of the last row returned
+     * @param descending whether the sort is descending
+     */
+    public static <T extends Comparable<? super T>> Specification<Expense> after(
+            String field, T value, Long id, boolean descending) {
+        return (root, query, cb) -> descending
+            ? cb.or(cb.lessThan(root.get(field), value),
+                cb.and(cb.equal(root.get(field), value), cb.lessThan(root.get("id"), id)))
+            : cb.or(cb.greaterThan(root.get(field), value),
+                cb.and(cb.equal(root.get(field), value), cb.greaterThan(root.get("id"), id)));
+    }
+
+    private static Expression<Long> bitAnd(CriteriaBuilder cb, Expression<Long> tagMask, long bits) {
+        return cb.function("bitand", Long.class, tagMask, cb.literal(bits));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.FreedTagBit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for tag bits waiting to be reused.
+ */
+@Repository
+public interface FreedTagBitRepository extends JpaRepository<FreedTagBit, Long> {
+
+    /**
+     * Find a user's freed bits.
+     *
+     * @param userId the user ID
+     * @return the bits freed and not yet purged
+     */
+    List<FreedTagBit> findByUserId(Long userId);
+
+    /**
+     * Find one of a user's freed bits.
+     *
+     * @param userId the user ID
+     * @param bit the bit
+     * @return the freed bit, if it has not been purged
+     */
+    Optional<FreedTagBit> findByUserIdAndBit(Long userId, int bit);
+
+    /**
+     * Delete a user's bits freed before a cutoff, making them available to new tags.
+     *
+     * @param userId the user ID
+     * @param cutoff bits freed before this instant are deleted
+     * @return the number of bits deleted
+     */
+    @Modifying
+    @Query("DELETE FROM FreedTagBit f WHERE f.userId = :userId AND f.freedAt < :cutoff")
+    int deleteFreedBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Delete all of a user's freed bits.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query("DELETE FROM FreedTagBit f WHERE f.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+}
@@ -0,0 +1,67 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.IdempotencyRecord;
+import com.expensemanager.domain.enums.IdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for IdempotencyRecord entity operations.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Delete all records that expired before the given time.
+     *
+     * @param now the current time
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete one record if it expired before the given time.
+     *
+     * @param key the idempotency key
+     * @param now the current time
+     * @return number of deleted records
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.expiresAt <= :now")
+    int deleteIfExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * Store the response of a claimed request, if the claim is still held by the given owner.
+     *
+     * @param key the idempotency key
+     * @param owner the owner token of the claim
+     * @param status the new status
+     * @param responseBody the serialized response
+     * @param expiresAt when the stored response expires
+     * @return number of updated records
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.responseBody = :responseBody, "
+        + "r.expiresAt = :expiresAt, r.owner = null WHERE r.idempotencyKey = :key AND r.owner = :owner")
+    int complete(@Param("key") String key, @Param("owner") String owner, @Param("status") IdempotencyStatus status,
+                 @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Release a claim, if it is still held by the given owner.
+     *
+     * @param key the idempotency key
+     * @param owner the owner token of the claim
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.owner = :owner")
+    int release(@Param("key") String key, @Param("owner") String owner);
+
+}
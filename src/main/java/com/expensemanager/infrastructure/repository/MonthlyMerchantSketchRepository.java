@@ -0,0 +1,56 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.MonthlyMerchantSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for persisted per-month merchant sketches.
+ */
+@Repository
+public interface MonthlyMerchantSketchRepository extends JpaRepository<MonthlyMerchantSketch, Long> {
+
+    /**
+     * Find all of a user's sketches.
+     *
+     * @param userId the user ID
+     * @return one sketch per month with expenses
+     */
+    List<MonthlyMerchantSketch> findByUserId(Long userId);
+
+    /**
+     * Find a user's sketches for the given months.
+     *
+     * @param userId the user ID
+     * @param months first days of the months
+     * @return the sketches that exist
+     */
+    List<MonthlyMerchantSketch> findByUserIdAndMonthStartIn(Long userId, Collection<LocalDate> months);
+
+    /**
+     * Find when a user's sketches were least recently rebuilt.
+     *
+     * @param userId the user ID
+     * @return the oldest rebuild time, or {@code null} if the user's sketches have not been built
+     */
+    @Query("SELECT MIN(s.rebuiltAt) FROM MonthlyMerchantSketch s WHERE s.userId = :userId")
+    LocalDateTime findOldestRebuild(@Param("userId") Long userId);
+
+    /**
+     * Delete all of a user's sketches.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyMerchantSketch s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+}
@@ -0,0 +1,51 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.ReportJob;
+import com.expensemanager.domain.enums.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ReportJob entity operations.
+ */
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    /**
+     * Find a job of a user by ID.
+     */
+    Optional<ReportJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find the most recent job of a user with the given spec in one of the given states.
+     */
+    Optional<ReportJob> findFirstByUserIdAndSpecHashAndStatusInOrderByCreatedAtDesc(
+        Long userId, String specHash, Collection<ReportJobStatus> statuses);
+
+    /**
+     * Find all jobs in the given states.
+     */
+    List<ReportJob> findByStatusInOrderByCreatedAtAsc(Collection<ReportJobStatus> statuses);
+
+    /**
+     * Find the IDs of jobs that expired before the given time.
+     */
+    @Query("SELECT j.id FROM ReportJob j WHERE j.expiresAt < :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete jobs by ID.
+     */
+    @Modifying
+    @Query("DELETE FROM ReportJob j WHERE j.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+}
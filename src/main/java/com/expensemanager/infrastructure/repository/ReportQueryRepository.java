@@ -0,0 +1,112 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Long-running report queries executed on the analytics connection pool by report job workers.
+ */
+@Repository
+public class ReportQueryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReportQueryRepository(@Qualifier("reportJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get expense totals per category for a user within a date range.
+     *
+     * @param userId the user ID
+     * @param startDate first day, inclusive
+     * @param endDate last day, inclusive
+     * @return map of category to total amount
+     */
+    public Map<ExpenseCategory, BigDecimal> getCategoryTotals(Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<ExpenseCategory, BigDecimal> totals = new EnumMap<>(ExpenseCategory.class);
+        jdbcTemplate.query(
+            "SELECT category, SUM(amount) FROM expenses"
+                + " WHERE user_id = ? AND expense_date BETWEEN ? AND ? GROUP BY category",
+            rs -> {
+                totals.put(ExpenseCategory.valueOf(rs.getString(1)), rs.getBigDecimal(2));
+            },
+            userId, startDate, endDate);
+        return totals;
+    }
+
+    /**
+     * Get expense totals per month and category for a user within a date range.
+     *
+     * @param userId the user ID
+     * @param startDate first day, inclusive
+     * @param endDate last day, inclusive
+     * @return map of month (ascending) to category totals
+     */
+    public Map<YearMonth, Map<ExpenseCategory, BigDecimal>> getMonthlyCategoryTotals(
+            Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<YearMonth, Map<ExpenseCategory, BigDecimal>> totals = new TreeMap<>();
+        jdbcTemplate.query(
+            "SELECT EXTRACT(YEAR FROM expense_date), EXTRACT(MONTH FROM expense_date), category, SUM(amount)"
+                + " FROM expenses WHERE user_id = ? AND expense_date BETWEEN ? AND ?"
+                + " GROUP BY EXTRACT(YEAR FROM expense_date), EXTRACT(MONTH FROM expense_date), category",
+            rs -> {
+                YearMonth month = YearMonth.of(rs.getInt(1), rs.getInt(2));
+                totals.computeIfAbsent(month, m -> new EnumMap<>(ExpenseCategory.class))
+                    .put(ExpenseCategory.valueOf(rs.getString(3)), rs.getBigDecimal(4));
+            },
+            userId, startDate, endDate);
+        return totals;
+    }
+
+    /**
+     * Stream the expenses of a user within a date range, oldest first. The handler receives
+     * columns expense_date, category, amount, description. Rows are read in batches of the fetch
+     * size, which PostgreSQL only honours inside a transaction, so the query runs in a read-only
+     * one instead of in auto-commit mode.
+     *
+     * @param userId the user ID
+     * @param startDate first day, inclusive
+     * @param endDate last day, inclusive
+     * @param handler callback invoked per row
+     */
+    public void streamExpenses(Long userId, LocalDate startDate, LocalDate endDate, RowCallbackHandler handler) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT expense_date, category, amount, description FROM expenses"
+                        + " WHERE user_id = ? AND expense_date BETWEEN ? AND ? ORDER BY expense_date, id")) {
+                statement.setFetchSize(jdbcTemplate.getFetchSize());
+                statement.setQueryTimeout(jdbcTemplate.getQueryTimeout());
+                statement.setLong(1, userId);
+                statement.setDate(2, Date.valueOf(startDate));
+                statement.setDate(3, Date.valueOf(endDate));
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        handler.processRow(rs);
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.ReportResultChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository interface for ReportResultChunk entity operations.
+ */
+@Repository
+public interface ReportResultChunkRepository extends JpaRepository<ReportResultChunk, Long> {
+
+    /**
+     * Find one chunk of a job's result.
+     */
+    Optional<ReportResultChunk> findByJobIdAndSeq(Long jobId, int seq);
+
+    /**
+     * Delete the result chunks of the given jobs.
+     */
+    @Modifying
+    @Query("DELETE FROM ReportResultChunk c WHERE c.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+}
@@ -0,0 +1,25 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.ReportResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository interface for ReportResult entity operations.
+ */
+@Repository
+public interface ReportResultRepository extends JpaRepository<ReportResult, Long> {
+
+    /**
+     * Delete the results of the given jobs.
+     */
+    @Modifying
+    @Query("DELETE FROM ReportResult r WHERE r.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+}
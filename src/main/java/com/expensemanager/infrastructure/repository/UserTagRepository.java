@@ -0,0 +1,45 @@
+package com.expensemanager.infrastructure.repository;
+
+import com.expensemanager.domain.entity.UserTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for users' tag dictionaries.
+ */
+@Repository
+public interface UserTagRepository extends JpaRepository<UserTag, Long> {
+
+    /**
+     * Find a user's tags.
+     *
+     * @param userId the user ID
+     * @return the tags ordered by bit
+     */
+    List<UserTag> findByUserIdOrderByBit(Long userId);
+
+    /**
+     * Find one of a user's tags.
+     *
+     * @param id the tag ID
+     * @param userId the user ID
+     * @return the tag, if it exists and belongs to the user
+     */
+    Optional<UserTag> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Delete all of a user's tags.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query("DELETE FROM UserTag t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+}
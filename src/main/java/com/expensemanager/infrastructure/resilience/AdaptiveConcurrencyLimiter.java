@@ -0,0 +1,140 @@
+package com.expensemanager.infrastructure.resilience;
+
+import com.expensemanager.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limiter that learns the in-flight limit at which latency stays near its baseline.
+ * <p>
+ * Each completed request feeds its round-trip time into a short and a long moving average. While
+ * the short-term latency stays within tolerance of the long-term baseline the limit grows by
+ * roughly its square root; once requests start queueing, the ratio of the two averages shrinks it
+ * proportionally. Failed requests cut the limit multiplicatively.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_WEIGHT = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedHigh;
+    private final Counter rejectedLow;
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+
+        Gauge.builder("http.server.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in-flight", inFlight, AtomicInteger::get)
+            .description("Requests currently admitted by the concurrency limiter")
+            .register(meterRegistry);
+        this.rejectedHigh = Counter.builder("http.server.concurrency.rejected")
+            .tag("priority", Priority.HIGH.name().toLowerCase())
+            .register(meterRegistry);
+        this.rejectedLow = Counter.builder("http.server.concurrency.rejected")
+            .tag("priority", Priority.LOW.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Try to admit a request. Low-priority requests only get a share of the limit so that cheap
+     * requests still get through while heavy ones are being shed.
+     *
+     * @param priority the request priority
+     * @return true if admitted; the caller must then call {@link #release}
+     */
+    public boolean tryAcquire(Priority priority) {
+        int currentLimit = (int) limit;
+        int allowed = priority == Priority.HIGH
+            ? currentLimit
+            : Math.max(1, (int) (currentLimit * properties.getLowPriorityShare()));
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                (priority == Priority.HIGH ? rejectedHigh : rejectedLow).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and feed its latency into the limit estimate.
+     *
+     * @param rttNanos the request round-trip time
+     * @param failed whether the request failed with a server error
+     */
+    public void release(long rttNanos, boolean failed) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion, failed);
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion, boolean failed) {
+        double current = limit;
+        if (failed) {
+            limit = clamp(current * DROP_BACKOFF);
+            return;
+        }
+
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) / properties.getLongWindow();
+
+        // Let the baseline follow a sustained latency drop instead of anchoring to an old high
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Without enough load there is no signal about where latency starts to climb
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT,
+            Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRttNanos));
+        double estimate = current * gradient + Math.sqrt(current);
+        limit = clamp(current * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing());
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+
+    /**
+     * Request priority for admission.
+     */
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.expensemanager.infrastructure.resilience;
+
+import com.expensemanager.api.exception.ErrorResponse;
+import com.expensemanager.infrastructure.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Load-shedding filter that rejects requests with 503 once the adaptive concurrency limit is
+ * reached, instead of letting them queue on the connection pool.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Priority priority = priorityOf(request.getServletPath());
+        if (!limiter.tryAcquire(priority)) {
+            log.warn("Shedding {} priority request to {}: {} in flight, limit {}",
+                priority, request.getServletPath(), limiter.getInFlight(), (int) limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter.Priority priorityOf(String path) {
+        for (String pattern : properties.getLowPriorityPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return AdaptiveConcurrencyLimiter.Priority.LOW;
+            }
+        }
+        return AdaptiveConcurrencyLimiter.Priority.HIGH;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", "1");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+            .error("Service Unavailable")
+            .message("Server is at capacity, please retry shortly")
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .timestamp(LocalDateTime.now())
+            .path(request.getRequestURI())
+            .build());
+    }
+
+}
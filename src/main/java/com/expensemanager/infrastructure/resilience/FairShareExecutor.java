@@ -0,0 +1,167 @@
+package com.expensemanager.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded worker pool that serves its submitters round-robin.
+ * <p>
+ * Each key (e.g. a user) has its own FIFO queue, and workers take one task from each key with
+ * pending work in turn. A user who queues ten jobs therefore delays another user's single job by
+ * at most one task per worker, instead of by all ten. Queues are bounded per key and in total.
+ */
+@Slf4j
+public class FairShareExecutor {
+
+    /**
+     * Outcome of a submission.
+     */
+    public enum Admission {
+        ACCEPTED,
+        /** The key already has its maximum number of queued tasks. */
+        KEY_LIMIT_REACHED,
+        /** The executor has its maximum number of queued tasks, or is shut down. */
+        CAPACITY_REACHED
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Map<Object, ArrayDeque<Runnable>> queues = new HashMap<>();
+    private final ArrayDeque<Object> readyKeys = new ArrayDeque<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final int maxQueuedPerKey;
+    private final int maxQueued;
+    private int queued;
+    private boolean shutdown;
+
+    public FairShareExecutor(String name, int threads, int maxQueuedPerKey, int maxQueued) {
+        this.maxQueuedPerKey = maxQueuedPerKey;
+        this.maxQueued = maxQueued;
+        for (int i = 1; i <= threads; i++) {
+            Thread worker = new Thread(this::runWorker, name + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queue a task on behalf of a key.
+     *
+     * @param key the submitter the task is accounted to
+     * @param task the task
+     * @return whether the task was accepted, and if not, why
+     */
+    public Admission submit(Object key, Runnable task) {
+        lock.lock();
+        try {
+            if (shutdown || queued >= maxQueued) {
+                return Admission.CAPACITY_REACHED;
+            }
+            ArrayDeque<Runnable> queue = queues.get(key);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+                readyKeys.addLast(key);
+            } else if (queue.size() >= maxQueuedPerKey) {
+                return Admission.KEY_LIMIT_REACHED;
+            }
+            queue.addLast(task);
+            queued++;
+            workAvailable.signal();
+            return Admission.ACCEPTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of tasks waiting for a worker.
+     */
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop accepting tasks, drop queued ones and interrupt running ones.
+     *
+     * @param timeoutMs how long to wait for workers to finish
+     */
+    public void shutdown(long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            shutdown = true;
+            queues.clear();
+            readyKeys.clear();
+            queued = 0;
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+    }
+
+    private void runWorker() {
+        while (true) {
+            Runnable task;
+            try {
+                task = take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.error("Task failed in {}", Thread.currentThread().getName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Take the next task from the key at the head of the rotation, then move that key to the back.
+     */
+    private Runnable take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (readyKeys.isEmpty()) {
+                if (shutdown) {
+                    return null;
+                }
+                workAvailable.await();
+            }
+            Object key = readyKeys.pollFirst();
+            ArrayDeque<Runnable> queue = queues.get(key);
+            Runnable task = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(key);
+            } else {
+                readyKeys.addLast(key);
+            }
+            queued--;
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.expensemanager.infrastructure.resilience;
+
+import com.expensemanager.api.exception.DeadlineExceededException;
+import com.expensemanager.infrastructure.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into a single execution.
+ * <p>
+ * The first caller for a key runs the work; callers arriving while it is in flight wait for and
+ * share its result or its exception. Nothing is cached: once the leader finishes, the next call
+ * runs the work again. Followers wait at most until their own request deadline.
+ *
+ * @param <K> the key type, e.g. user and query parameters
+ * @param <V> the result type; shared between callers, so it must not be mutated
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    /**
+     * @param name identifies the call site in the {@code singleflight.calls} metric
+     * @param meterRegistry the registry for the metric
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("singleflight.calls")
+            .description("Calls that executed the work")
+            .tag("name", name)
+            .tag("outcome", "executed")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.calls")
+            .description("Calls that shared the result of an identical in-flight call")
+            .tag("name", name)
+            .tag("outcome", "coalesced")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Run the work, or join an identical call already in flight.
+     *
+     * @param key identifies identical calls
+     * @param work the work to run if no identical call is in flight
+     * @return the result
+     */
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = work.get();
+            mine.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            // Also errors and sneaky-thrown checked exceptions, or followers without a deadline wait forever
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            long remainingMs = RequestDeadline.remainingMillis();
+            return remainingMs == Long.MAX_VALUE
+                ? future.get()
+                : future.get(Math.max(remainingMs, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new DeadlineExceededException("Request deadline exceeded waiting for an identical call", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for an identical call", ex);
+        }
+    }
+
+}
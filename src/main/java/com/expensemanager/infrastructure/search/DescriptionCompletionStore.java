@@ -0,0 +1,73 @@
+package com.expensemanager.infrastructure.search;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.analytics.UserIndexStore;
+import com.expensemanager.infrastructure.config.AutocompleteProperties;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Description autocomplete from per-user {@link DescriptionTrie}s held in memory. A user's trie
+ * is built with one grouped query on their first lookup and kept current from expense changes,
+ * so typing never reaches the database.
+ */
+@Component
+public class DescriptionCompletionStore extends UserIndexStore<DescriptionTrie> {
+
+    private final ExpenseRepository expenseRepository;
+
+    public DescriptionCompletionStore(
+            ExpenseRepository expenseRepository,
+            AutocompleteProperties properties,
+            MeterRegistry meterRegistry) {
+        super("autocomplete", properties.getMemoryBudgetBytes(), properties.getMaxStalenessMs(), 1, meterRegistry);
+        this.expenseRepository = expenseRepository;
+    }
+
+    /**
+     * The user's most frequent descriptions starting with a prefix, most frequent first.
+     */
+    public List<DescriptionTrie.Suggestion> suggest(Long userId, String prefix, int limit) {
+        return findOrLoad(userId)
+            .map(trie -> trie.suggest(prefix, limit))
+            .orElse(List.of());
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    protected DescriptionTrie load(Long userId) {
+        DescriptionTrie trie = new DescriptionTrie();
+        List<Object[]> rows = new ArrayList<>(expenseRepository.countDescriptions(userId));
+        // Spellings that normalize alike are shown as the last added, so add the most used last
+        rows.sort(Comparator.comparingLong(row -> (Long) row[1]));
+        for (Object[] row : rows) {
+            trie.add((String) row[0], (Long) row[1]);
+        }
+        return trie;
+    }
+
+    @Override
+    protected void apply(DescriptionTrie trie, ExpenseChangedEvent event) {
+        if (event.previous() != null && event.previous().description() != null) {
+            trie.add(event.previous().description(), -1);
+        }
+        if (event.current() != null && event.current().description() != null) {
+            trie.add(event.current().description(), 1);
+        }
+    }
+
+    @Override
+    protected long estimatedBytes(DescriptionTrie trie) {
+        return trie.estimatedBytes();
+    }
+
+}
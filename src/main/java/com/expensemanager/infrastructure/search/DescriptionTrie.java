@@ -0,0 +1,243 @@
+package com.expensemanager.infrastructure.search;
+
+import com.expensemanager.domain.entity.Expense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix tree of one user's past descriptions, weighted by how often each was used, for
+ * autocomplete.
+ * <p>
+ * Descriptions are keyed by their normalized form (lowercase, without accents or punctuation),
+ * truncated to {@link #MAX_KEY_LENGTH} characters. Suggestions are ranked by how often a key was
+ * used and shown in the spelling it was most recently written with. Every node caches its
+ * {@link #MAX_SUGGESTIONS} most frequent descriptions, so a lookup costs one step per prefix
+ * character whatever the number of descriptions. A change recomputes the caches on the path from
+ * its node to the root from the children's caches, in O(key length x fan-out x suggestions).
+ */
+public final class DescriptionTrie {
+
+    /**
+     * Most suggestions cached per node, and so the largest supported limit.
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /**
+     * Longest key kept; longer descriptions sharing this prefix are counted together.
+     */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private static final int NODE_BYTES = 96;
+    private static final int ENTRY_BYTES = 80;
+    private static final Comparator<Entry> BY_FREQUENCY =
+        Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long estimatedBytes = NODE_BYTES;
+
+    /**
+     * Add {@code occurrences} uses of a description; a negative number removes them.
+     */
+    public void add(String description, long occurrences) {
+        String key = keyOf(description);
+        if (key == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                if (occurrences <= 0) {
+                    return;
+                }
+                entry = new Entry(key);
+                entry.display = "";
+                entries.put(key, entry);
+                estimatedBytes += ENTRY_BYTES + 2L * key.length();
+            }
+            entry.count += occurrences;
+            if (occurrences > 0) {
+                String display = description.strip();
+                estimatedBytes += 2L * (display.length() - entry.display.length());
+                entry.display = display;
+            }
+
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].child(key.charAt(i), this);
+            }
+            Node terminal = path[key.length()];
+            if (entry.count <= 0) {
+                entries.remove(key);
+                estimatedBytes -= ENTRY_BYTES + 2L * (key.length() + entry.display.length());
+                terminal.entry = null;
+            } else {
+                terminal.entry = entry;
+            }
+            for (int i = key.length(); i >= 0; i--) {
+                path[i].refreshTop();
+                if (i > 0 && path[i].isEmpty()) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                    estimatedBytes -= NODE_BYTES;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The most frequent descriptions starting with a prefix, most frequent first.
+     *
+     * @param prefix typed text, normalized like the descriptions; blank for the most frequent overall
+     * @param limit  maximum suggestions, at most {@link #MAX_SUGGESTIONS}
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = Expense.normalizeDescription(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && i < MAX_KEY_LENGTH && node != null; i++) {
+                node = node.find(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, node.top.length));
+            for (int i = 0; i < node.top.length && i < limit; i++) {
+                suggestions.add(new Suggestion(node.top[i].display, node.top[i].count));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained heap size, used to weigh the trie against the memory budget.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A suggested description and how many expenses used it.
+     */
+    public record Suggestion(String description, long count) {
+    }
+
+    private static String keyOf(String description) {
+        String normalized = Expense.normalizeDescription(description);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private String display;
+        private long count;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        // Children sorted by label, searched with binary search; much smaller than a map per node
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry entry;
+        private Entry[] top = NO_ENTRIES;
+
+        Node find(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node child(char label, DescriptionTrie trie) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] grownLabels = new char[labels.length + 1];
+            Node[] grownChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, grownLabels, 0, insertAt);
+            System.arraycopy(children, 0, grownChildren, 0, insertAt);
+            grownLabels[insertAt] = label;
+            grownChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, grownLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, grownChildren, insertAt + 1, children.length - insertAt);
+            labels = grownLabels;
+            children = grownChildren;
+            trie.estimatedBytes += NODE_BYTES;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] shrunkLabels = new char[labels.length - 1];
+            Node[] shrunkChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, shrunkLabels, 0, index);
+            System.arraycopy(children, 0, shrunkChildren, 0, index);
+            System.arraycopy(labels, index + 1, shrunkLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, shrunkChildren, index, children.length - index - 1);
+            labels = shrunkLabels;
+            children = shrunkChildren;
+        }
+
+        boolean isEmpty() {
+            return entry == null && children.length == 0;
+        }
+
+        /**
+         * Recompute the cached suggestions from this node's own entry and its children's caches.
+         */
+        void refreshTop() {
+            List<Entry> candidates = new ArrayList<>();
+            if (entry != null) {
+                candidates.add(entry);
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_FREQUENCY);
+            top = candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())).toArray(NO_ENTRIES);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.expensemanager.infrastructure.search;
+
+import com.expensemanager.domain.event.ExpenseChangedEvent;
+import com.expensemanager.infrastructure.analytics.UserIndexStore;
+import com.expensemanager.infrastructure.config.TextSearchProperties;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Full-text search from per-user {@link InvertedTextIndex}es held in memory, for databases
+ * without native full-text search. A user's index is built on their first search and kept
+ * current from expense changes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "embedded", matchIfMissing = true)
+public class EmbeddedExpenseTextSearch extends UserIndexStore<InvertedTextIndex> implements ExpenseTextSearch {
+
+    private final ExpenseRepository expenseRepository;
+
+    public EmbeddedExpenseTextSearch(
+            ExpenseRepository expenseRepository,
+            TextSearchProperties properties,
+            MeterRegistry meterRegistry) {
+        super("text", properties.getEmbedded().getMemoryBudgetBytes(), properties.getEmbedded().getMaxStalenessMs(),
+            1, meterRegistry);
+        this.expenseRepository = expenseRepository;
+    }
+
+    @Override
+    public List<TextSearchHit> search(Long userId, String query, int limit) {
+        return findOrLoad(userId)
+            .map(index -> index.search(query, limit))
+            .orElse(List.of());
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    protected InvertedTextIndex load(Long userId) {
+        InvertedTextIndex index = new InvertedTextIndex();
+        for (Object[] row : expenseRepository.findDescriptions(userId)) {
+            index.put((Long) row[0], (String) row[1]);
+        }
+        return index;
+    }
+
+    @Override
+    protected void apply(InvertedTextIndex index, ExpenseChangedEvent event) {
+        if (event.current() == null) {
+            index.remove(event.expenseId());
+        } else {
+            index.put(event.expenseId(), event.current().description());
+        }
+    }
+
+    @Override
+    protected long estimatedBytes(InvertedTextIndex index) {
+        return index.estimatedBytes();
+    }
+
+}
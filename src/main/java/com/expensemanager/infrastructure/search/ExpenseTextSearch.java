@@ -0,0 +1,21 @@
+package com.expensemanager.infrastructure.search;
+
+import java.util.List;
+
+/**
+ * Ranked full-text search over one user's expense descriptions. Every word of the query must
+ * match the start of a word in the description.
+ */
+public interface ExpenseTextSearch {
+
+    /**
+     * Find the user's expenses whose description matches the query, best match first.
+     *
+     * @param userId the user ID
+     * @param query the search text; words are matched as prefixes, punctuation is ignored
+     * @param limit maximum number of hits
+     * @return hits with their rank and a highlighted snippet; empty if the query has no words
+     */
+    List<TextSearchHit> search(Long userId, String query, int limit);
+
+}
@@ -0,0 +1,232 @@
+package com.expensemanager.infrastructure.search;
+
+import com.expensemanager.domain.entity.Expense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index of one user's expense descriptions, from normalized word to the expenses
+ * containing it and how often.
+ * <p>
+ * Words are kept sorted, so a query word matches every indexed word it is a prefix of with one
+ * range scan. All query words must match. A hit is ranked by the sum over query words of term
+ * frequency times inverse document frequency, with prefix-only matches at half weight, divided by
+ * the square root of the description's length in words.
+ */
+public final class InvertedTextIndex {
+
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    private static final int SNIPPET_WORDS = 35;
+    private static final int SNIPPET_WORDS_BEFORE_MATCH = 5;
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int OBJECT_OVERHEAD_BYTES = 128;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long estimatedBytes = OBJECT_OVERHEAD_BYTES;
+
+    /**
+     * Split text into normalized words: lowercase, without accents or punctuation.
+     */
+    public static List<String> words(String text) {
+        String normalized = Expense.normalizeDescription(text);
+        return normalized.isEmpty() ? List.of() : Arrays.asList(normalized.split(" "));
+    }
+
+    /**
+     * Index an expense's description, replacing any previous one.
+     */
+    public void put(long expenseId, String description) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(expenseId);
+            List<String> words = words(description);
+            if (words.isEmpty()) {
+                return;
+            }
+            documents.put(expenseId, new Document(description, words.size()));
+            estimatedBytes += 64 + 2L * description.length();
+            for (String word : words) {
+                Map<Long, Integer> postingList = postings.computeIfAbsent(word, key -> {
+                    estimatedBytes += 64 + 2L * key.length();
+                    return new HashMap<>();
+                });
+                if (postingList.merge(expenseId, 1, Integer::sum) == 1) {
+                    estimatedBytes += 48;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long expenseId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(expenseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the expenses matching every word of the query, best first.
+     */
+    public List<TextSearchHit> search(String query, int limit) {
+        List<String> terms = words(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                postings.subMap(term, term + Character.MAX_VALUE).forEach((word, postingList) -> {
+                    double weight = word.equals(term) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                    postingList.forEach((expenseId, frequency) ->
+                        termScores.merge(expenseId, weight * frequency, Double::sum));
+                });
+                double inverseFrequency = Math.log(1 + (double) documents.size() / Math.max(1, termScores.size()));
+                if (scores == null) {
+                    scores = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : termScores.entrySet()) {
+                        scores.put(entry.getKey(), entry.getValue() * inverseFrequency);
+                    }
+                } else {
+                    Map<Long, Double> combined = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Double termScore = termScores.get(entry.getKey());
+                        if (termScore != null) {
+                            combined.put(entry.getKey(), entry.getValue() + termScore * inverseFrequency);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<TextSearchHit> hits = new ArrayList<>(scores.size());
+            scores.forEach((expenseId, score) -> hits.add(new TextSearchHit(expenseId,
+                score / Math.sqrt(documents.get(expenseId).words()), null)));
+            hits.sort(Comparator.comparingDouble(TextSearchHit::rank).reversed()
+                .thenComparing(Comparator.comparingLong(TextSearchHit::expenseId).reversed()));
+            return hits.subList(0, Math.min(limit, hits.size())).stream()
+                .map(hit -> new TextSearchHit(hit.expenseId(), hit.rank(),
+                    snippet(documents.get(hit.expenseId()).description(), terms)))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained heap size, used to weigh the index against the memory budget.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(long expenseId) {
+        Document document = documents.remove(expenseId);
+        if (document == null) {
+            return;
+        }
+        estimatedBytes -= 64 + 2L * document.description().length();
+        for (String word : words(document.description())) {
+            Map<Long, Integer> postingList = postings.get(word);
+            if (postingList != null && postingList.remove(expenseId) != null) {
+                estimatedBytes -= 48;
+                if (postingList.isEmpty()) {
+                    postings.remove(word);
+                    estimatedBytes -= 64 + 2L * word.length();
+                }
+            }
+        }
+    }
+
+    /**
+     * HTML-escape the description and wrap words matching a term in {@code <mark>} tags, keeping
+     * a window of words around the first match for long descriptions.
+     */
+    private static String snippet(String description, List<String> terms) {
+        List<int[]> words = new ArrayList<>();
+        int firstMatch = -1;
+        Matcher matcher = WORD.matcher(description);
+        while (matcher.find()) {
+            String word = Expense.normalizeDescription(matcher.group());
+            boolean matched = terms.stream().anyMatch(word::startsWith);
+            if (matched && firstMatch < 0) {
+                firstMatch = words.size();
+            }
+            words.add(new int[] {matcher.start(), matcher.end(), matched ? 1 : 0});
+        }
+
+        int first = 0;
+        int last = words.size();
+        if (words.size() > SNIPPET_WORDS) {
+            first = Math.max(0, Math.min(firstMatch - SNIPPET_WORDS_BEFORE_MATCH, words.size() - SNIPPET_WORDS));
+            last = first + SNIPPET_WORDS;
+        }
+        int from = first == 0 ? 0 : words.get(first)[0];
+        int to = last == words.size() ? description.length() : words.get(last - 1)[1];
+
+        StringBuilder snippet = new StringBuilder(to - from + 32);
+        if (first > 0) {
+            snippet.append("... ");
+        }
+        int position = from;
+        for (int i = first; i < last; i++) {
+            int[] word = words.get(i);
+            appendEscaped(snippet, description, position, word[0]);
+            if (word[2] == 1) {
+                snippet.append("<mark>");
+                appendEscaped(snippet, description, word[0], word[1]);
+                snippet.append("</mark>");
+            } else {
+                appendEscaped(snippet, description, word[0], word[1]);
+            }
+            position = word[1];
+        }
+        appendEscaped(snippet, description, position, to);
+        if (last < words.size()) {
+            snippet.append(" ...");
+        }
+        return snippet.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private record Document(String description, int words) {
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.expensemanager.infrastructure.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search with PostgreSQL: a generated {@code tsvector} column over the description,
+ * indexed with GIN, queried with {@code to_tsquery} and ranked with {@code ts_rank}.
+ * <p>
+ * The column and index are not mapped by the entity, so they are created here once Hibernate has
+ * updated the schema. The {@code simple} configuration is used because descriptions are mostly
+ * merchant names in any language, where stemming and stop words do more harm than good.
+ * <p>
+ * {@code ts_headline} runs on the raw description, so it sees the same text that was indexed, and
+ * marks matches with control characters stripped from the description beforehand. The headline is
+ * HTML-escaped here and the markers are then replaced with {@code <mark>} tags.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres")
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class PostgresExpenseTextSearch implements ExpenseTextSearch {
+
+    private static final String INDEX_NAME = "idx_expenses_description_tsv";
+    private static final String MARK_START = "\u0001";
+    private static final String MARK_END = "\u0002";
+
+    private static final String SEARCH_SQL = """
+        SELECT e.id,
+               ts_rank(e.description_tsv, q) AS rank,
+               ts_headline('simple', replace(replace(e.description, chr(1), ''), chr(2), ''), q,
+                   'StartSel=' || chr(1) || ', StopSel=' || chr(2) || ', MaxWords=35, MinWords=15') AS snippet
+        FROM expenses e, to_tsquery('simple', ?) q
+        WHERE e.user_id = ? AND e.description_tsv @@ q
+        ORDER BY rank DESC, e.id DESC
+        LIMIT ?
+        """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresExpenseTextSearch(
+            DataSource dataSource,
+            @Qualifier("analyticsJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add the generated column and its index if missing. Both are looked up in the catalog first:
+     * {@code ALTER TABLE} takes an exclusive lock on {@code expenses} even when the column exists,
+     * which would queue every node start behind long report queries and all expense traffic behind
+     * it. Adding the column rewrites the table once; the index is built without blocking writes.
+     */
+    @PostConstruct
+    void createIndex() {
+        // The analytics pool is read-only, so DDL goes through the primary data source
+        JdbcTemplate ddl = new JdbcTemplate(dataSource);
+        if (!hasColumn(ddl)) {
+            ddl.execute("ALTER TABLE expenses ADD COLUMN IF NOT EXISTS description_tsv tsvector "
+                + "GENERATED ALWAYS AS (to_tsvector('simple', coalesce(description, ''))) STORED");
+            log.info("Added the full-text search column to expenses");
+        }
+        Boolean indexValid = indexValid(ddl);
+        if (indexValid == null) {
+            try {
+                ddl.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX_NAME
+                    + " ON expenses USING GIN (description_tsv)");
+            } catch (DataAccessException ex) {
+                // Another node starting at the same time may be building it
+                log.warn("Could not create the full-text search index: {}", ex.getMessage());
+                return;
+            }
+        } else if (!indexValid) {
+            // Being built by another node, or left behind by an interrupted build; dropping it here
+            // could break the former
+            log.warn("Full-text search index {} is not valid yet; if it stays so, rebuild it with "
+                + "REINDEX INDEX CONCURRENTLY", INDEX_NAME);
+            return;
+        }
+        log.info("Full-text search index on expenses.description is ready");
+    }
+
+    @Override
+    public List<TextSearchHit> search(Long userId, String query, int limit) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SEARCH_SQL,
+            (rs, rowNum) -> new TextSearchHit(rs.getLong("id"), rs.getDouble("rank"), toHtml(rs.getString("snippet"))),
+            tsQuery, userId, limit);
+    }
+
+    private static boolean hasColumn(JdbcTemplate ddl) {
+        Integer columns = ddl.queryForObject("SELECT count(*) FROM information_schema.columns "
+            + "WHERE table_schema = current_schema() AND table_name = 'expenses' AND column_name = 'description_tsv'",
+            Integer.class);
+        return columns != null && columns > 0;
+    }
+
+    /**
+     * Whether the index is usable, or null when it does not exist.
+     */
+    private static Boolean indexValid(JdbcTemplate ddl) {
+        List<Boolean> valid = ddl.queryForList("SELECT i.indisvalid FROM pg_index i "
+            + "JOIN pg_class c ON c.oid = i.indexrelid "
+            + "WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace",
+            Boolean.class, INDEX_NAME);
+        return valid.isEmpty() ? null : valid.get(0);
+    }
+
+    /**
+     * Escape a headline and turn its match markers into {@code <mark>} tags.
+     */
+    private static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+            .replace(MARK_START, "<mark>")
+            .replace(MARK_END, "</mark>");
+    }
+
+    /**
+     * Every word as a prefix match, all required. Only letters and digits are kept, so user input
+     * cannot inject tsquery operators.
+     */
+    private static String toTsQuery(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .distinct()
+            .map(word -> word + ":*")
+            .collect(Collectors.joining(" & "));
+    }
+
+}
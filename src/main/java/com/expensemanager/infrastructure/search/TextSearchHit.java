@@ -0,0 +1,11 @@
+package com.expensemanager.infrastructure.search;
+
+/**
+ * One full-text search result.
+ *
+ * @param expenseId the matching expense
+ * @param rank      relevance; only comparable between hits of the same search
+ * @param snippet   HTML-escaped description excerpt with matched words in {@code <mark>} tags
+ */
+public record TextSearchHit(long expenseId, double rank, String snippet) {
+}
@@ -0,0 +1,34 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.domain.enums.Role;
+import com.expensemanager.infrastructure.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Grants access to JWT-authenticated callers whose user has the {@link Role#ADMIN} role. Tokens carry
+ * no roles, so the role is read from the database on every check, and a demoted user loses access at once.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        if (!(authentication.get().getDetails() instanceof JwtAuthDetails details)) {
+            return new AuthorizationDecision(false);
+        }
+        return new AuthorizationDecision(userRepository.findById(details.getUserId())
+            .map(user -> user.getRole() == Role.ADMIN)
+            .orElse(false));
+    }
+
+}
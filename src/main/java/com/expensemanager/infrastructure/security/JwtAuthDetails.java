@@ -2,6 +2,8 @@ package com.expensemanager.infrastructure.security;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * JWT Authentication details holder.
@@ -11,4 +13,17 @@ import lombok.Getter;
 public class JwtAuthDetails {
     private Long userId;
     private String username;
+
+    /**
+     * Get the user ID of the JWT-authenticated caller on the current thread.
+     *
+     * @return the user ID, or null if the request is not JWT-authenticated
+     */
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthDetails details) {
+            return details.getUserId();
+        }
+        return null;
+    }
 }
@@ -1,5 +1,7 @@
 package com.expensemanager.infrastructure.security;
 
+import com.expensemanager.infrastructure.observability.JwtValidationEvent;
+import com.expensemanager.infrastructure.observability.RequestTiming;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,12 +40,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long timingStart = RequestTiming.begin();
         try {
             String token = extractTokenFromRequest(request);
+            JwtValidationEvent event = new JwtValidationEvent();
+            event.begin();
             
             if (token != null && jwtTokenProvider.validateToken(token)) {
                 String username = jwtTokenProvider.getUsernameFromToken(token);
                 Long userId = jwtTokenProvider.getUserIdFromToken(token);
+                commit(event, token, userId);
                 
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(username, userId, new ArrayList<>());
@@ -51,14 +57,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("JWT token validated for user: {}", username);
+            } else {
+                commit(event, token, null);
             }
         } catch (Exception ex) {
             log.error("JWT authentication error: {}", ex.getMessage());
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.AUTH, timingStart);
         }
         
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Commit a JWT validation event if a token was presented.
+     */
+    private static void commit(JwtValidationEvent event, String token, Long userId) {
+        event.end();
+        if (token != null && event.shouldCommit()) {
+            event.valid = userId != null;
+            event.userId = userId != null ? userId : 0;
+            event.commit();
+        }
+    }
+
     /**
      * Extract JWT token from Authorization header.
      *
@@ -0,0 +1,72 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.api.exception.ErrorResponse;
+import com.expensemanager.infrastructure.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user rate limiting filter, placed right after {@link JwtAuthenticationFilter} so that the
+ * user ID from the token is available. Unauthenticated requests are not limited here.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = JwtAuthDetails.currentUserId();
+        TokenBucketRateLimiter.Decision decision =
+            userId == null ? null : rateLimiter.tryAcquire(userId, request.getServletPath());
+
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Rate limit exceeded for user: {} on {}", userId, request.getServletPath());
+        response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+            .error("Too Many Requests")
+            .message("Rate limit exceeded, retry after " + decision.retryAfterSeconds() + " seconds")
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .timestamp(LocalDateTime.now())
+            .path(request.getRequestURI())
+            .build());
+    }
+
+}
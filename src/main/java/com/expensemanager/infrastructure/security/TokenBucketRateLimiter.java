@@ -0,0 +1,123 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.infrastructure.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free per-user token bucket limiter.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next
+ * request (the GCRA formulation of a token bucket), updated with a CAS loop. Buckets live in a
+ * bounded cache per endpoint class and expire once idle.
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, EndpointClass> classes = new LinkedHashMap<>();
+    private final EndpointClass defaultClass;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        properties.getClasses().forEach((name, budget) ->
+            classes.put(name, new EndpointClass(name, budget, properties)));
+        this.defaultClass = classes.get(RateLimitProperties.DEFAULT_CLASS);
+    }
+
+    /**
+     * Try to take one token for the user from the bucket of the endpoint class matching the path.
+     *
+     * @param userId the authenticated user ID
+     * @param path the request path relative to the context path
+     * @return the decision, or null if no endpoint class applies
+     */
+    public Decision tryAcquire(Long userId, String path) {
+        return tryAcquire(userId, path, System.nanoTime());
+    }
+
+    Decision tryAcquire(Long userId, String path, long now) {
+        EndpointClass endpointClass = resolve(path);
+        if (endpointClass == null) {
+            return null;
+        }
+        // nanoTime has an arbitrary origin, so a new bucket starts full at now rather than at 0
+        AtomicLong bucket = endpointClass.buckets.get(userId, key -> new AtomicLong(now));
+        return endpointClass.tryAcquire(bucket, now);
+    }
+
+    private EndpointClass resolve(String path) {
+        for (EndpointClass endpointClass : classes.values()) {
+            for (String pattern : endpointClass.budget.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return endpointClass;
+                }
+            }
+        }
+        return defaultClass;
+    }
+
+    /**
+     * Outcome of a rate limit check.
+     *
+     * @param allowed whether the request may proceed
+     * @param limit the bucket capacity
+     * @param remaining tokens left after this request
+     * @param resetSeconds seconds until the bucket is full again
+     * @param retryAfterSeconds seconds until the next request would be allowed, 0 if allowed
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    private static final class EndpointClass {
+
+        private final RateLimitProperties.Budget budget;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Cache<Long, AtomicLong> buckets;
+
+        private EndpointClass(String name, RateLimitProperties.Budget budget, RateLimitProperties properties) {
+            if (budget.getCapacity() <= 0 || budget.getRefillPerSecond() <= 0) {
+                throw new IllegalArgumentException("Rate limit class '" + name + "' needs a positive capacity and refill rate");
+            }
+            this.budget = budget;
+            this.intervalNanos = (long) (NANOS_PER_SECOND / budget.getRefillPerSecond());
+            this.burstNanos = intervalNanos * budget.getCapacity();
+            this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleEvictionMs()))
+                .build();
+        }
+
+        private Decision tryAcquire(AtomicLong bucket, long now) {
+            while (true) {
+                long tat = bucket.get();
+                // Compared by difference, as nanoTime values may be negative or wrap
+                long newTat = (tat - now > 0 ? tat : now) + intervalNanos;
+                long backlog = newTat - now;
+                if (backlog > burstNanos) {
+                    long retryAfter = backlog - burstNanos;
+                    return new Decision(false, budget.getCapacity(), 0, toSeconds(backlog - intervalNanos), toSeconds(retryAfter));
+                }
+                if (bucket.compareAndSet(tat, newTat)) {
+                    return new Decision(true, budget.getCapacity(), (burstNanos - backlog) / intervalNanos, toSeconds(backlog), 0);
+                }
+            }
+        }
+
+        private static long toSeconds(long nanos) {
+            return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        }
+
+    }
+
+}
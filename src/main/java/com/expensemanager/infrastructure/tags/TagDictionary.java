@@ -0,0 +1,124 @@
+package com.expensemanager.infrastructure.tags;
+
+import com.expensemanager.domain.entity.UserTag;
+import com.expensemanager.infrastructure.repository.UserTagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached per-user tag dictionaries, translating between tag names and tag mask bits for reads.
+ * <p>
+ * A dictionary is loaded with one query and dropped when the user's tags change on this node, or
+ * after {@code dictionary-ttl-ms} for changes made through other nodes. Writes resolve names with
+ * {@link #load}, which always reads the database.
+ */
+@Component
+public class TagDictionary {
+
+    private final UserTagRepository userTagRepository;
+    private final Cache<Long, UserTags> dictionaries;
+
+    public TagDictionary(
+            UserTagRepository userTagRepository,
+            @Value("${app.tags.dictionary-ttl-ms}") long ttlMs) {
+        this.userTagRepository = userTagRepository;
+        this.dictionaries = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .maximumSize(100_000)
+            .build();
+    }
+
+    /**
+     * Get a user's dictionary, from the cache when possible.
+     */
+    public UserTags get(Long userId) {
+        return dictionaries.get(userId, this::load);
+    }
+
+    /**
+     * Read a user's dictionary from the database, bypassing the cache.
+     */
+    public UserTags load(Long userId) {
+        return new UserTags(userTagRepository.findByUserIdOrderByBit(userId));
+    }
+
+    /**
+     * The names of the tags set in a mask, in bit order. A bit missing from the cached dictionary
+     * means a tag was created elsewhere since it was loaded, so the dictionary is reloaded once.
+     */
+    public List<String> namesOf(Long userId, long tagMask) {
+        if (tagMask == 0) {
+            return List.of();
+        }
+        UserTags tags = get(userId);
+        if (!tags.covers(tagMask)) {
+            dictionaries.invalidate(userId);
+            tags = get(userId);
+        }
+        return tags.namesOf(tagMask);
+    }
+
+    /**
+     * Drop a user's cached dictionary once the current transaction commits, or now if there is none.
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dictionaries.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dictionaries.invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * An immutable snapshot of one user's tags.
+     */
+    public static final class UserTags {
+
+        private final String[] namesByBit = new String[UserTag.MAX_TAGS_PER_USER];
+        private final Map<String, Integer> bitsByName = new HashMap<>();
+        private long assigned;
+
+        UserTags(List<UserTag> tags) {
+            for (UserTag tag : tags) {
+                namesByBit[tag.getBit()] = tag.getName();
+                bitsByName.put(tag.getName(), tag.getBit());
+                assigned |= tag.mask();
+            }
+        }
+
+        /**
+         * The bit of a tag, or -1 if the user has no tag with this (normalized) name.
+         */
+        public int bitOf(String name) {
+            return bitsByName.getOrDefault(name, -1);
+        }
+
+        boolean covers(long tagMask) {
+            return (tagMask & ~assigned) == 0;
+        }
+
+        List<String> namesOf(long tagMask) {
+            List<String> names = new ArrayList<>(Long.bitCount(tagMask));
+            for (long bits = tagMask & assigned; bits != 0; bits &= bits - 1) {
+                names.add(namesByBit[Long.numberOfTrailingZeros(bits)]);
+            }
+            return names;
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.expensemanager.infrastructure.tags;
+
+/**
+ * A tag condition resolved to bitmasks, evaluated against an expense's tag mask with three
+ * bitwise operations and no join.
+ *
+ * @param allOf  bits that must all be set; 0 for no requirement
+ * @param anyOf  bits of which at least one must be set; 0 for no requirement
+ * @param noneOf bits that must all be clear
+ */
+public record TagFilter(long allOf, long anyOf, long noneOf) {
+
+    public static final TagFilter NONE = new TagFilter(0, 0, 0);
+
+    public boolean isEmpty() {
+        return allOf == 0 && anyOf == 0 && noneOf == 0;
+    }
+
+    public boolean matches(long tagMask) {
+        return (tagMask & allOf) == allOf
+            && (anyOf == 0 || (tagMask & anyOf) != 0)
+            && (tagMask & noneOf) == 0;
+    }
+
+}
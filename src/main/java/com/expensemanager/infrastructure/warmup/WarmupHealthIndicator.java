@@ -0,0 +1,38 @@
+package com.expensemanager.infrastructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the JIT warm-up has finished or run out of its time budget,
+ * whichever comes first. Included in the readiness group so that load balancers hold traffic back;
+ * the liveness group deliberately ignores it.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupRunner.State state = warmupRunner.getState();
+        boolean overTimeBudget = warmupRunner.isOverTimeBudget();
+        Health.Builder builder = state.isFinished() || overTimeBudget ? Health.up() : Health.outOfService();
+        builder.withDetail("state", state)
+            .withDetail("iterations", warmupRunner.getCompletedIterations())
+            .withDetail("queryIterations", warmupRunner.getCompletedQueryIterations());
+        if (state.isFinished()) {
+            builder.withDetail("elapsedMs", warmupRunner.getElapsedMs());
+        }
+        if (overTimeBudget) {
+            builder.withDetail("overTimeBudget", true);
+        }
+        if (warmupRunner.getFailure() != null) {
+            builder.withDetail("failure", warmupRunner.getFailure());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.expensemanager.infrastructure.warmup;
+
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.UserResponseDto;
+import com.expensemanager.application.mapper.EntityMapper;
+import com.expensemanager.domain.entity.Expense;
+import com.expensemanager.domain.entity.User;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.domain.enums.Role;
+import com.expensemanager.infrastructure.config.WarmupProperties;
+import com.expensemanager.infrastructure.repository.ExpenseRepository;
+import com.expensemanager.infrastructure.repository.UserRepository;
+import com.expensemanager.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Drives synthetic traffic through the request hot paths after startup so that the JIT has compiled
+ * them before the node takes real traffic. Runs in-process rather than over HTTP so that rate limits,
+ * metrics and audit logs are not polluted, and never writes to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupRunner {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        BUDGET_EXHAUSTED,
+        FAILED,
+        DISABLED;
+
+        public boolean isFinished() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    private final WarmupProperties properties;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final EntityMapper entityMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final ExpenseRepository expenseRepository;
+
+    private volatile State state = State.PENDING;
+    private volatile long startNanos;
+    private volatile int completedIterations;
+    private volatile int completedQueryIterations;
+    private volatile long elapsedMs;
+    private volatile String failure;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::run, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    public int getCompletedQueryIterations() {
+        return completedQueryIterations;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Whether the warm-up is still running after its time budget, e.g. blocked in a slow query. The
+     * budget is otherwise only checked between iterations.
+     */
+    public boolean isOverTimeBudget() {
+        return state == State.RUNNING
+            && System.nanoTime() - startNanos > properties.getTimeBudgetMs() * 1_000_000;
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        startNanos = start;
+        state = State.RUNNING;
+        long deadline = start + properties.getTimeBudgetMs() * 1_000_000;
+        try {
+            User user = userRepository.findByUsername(properties.getUsername())
+                .orElseGet(this::syntheticUser);
+            String requestJson = objectMapper.writeValueAsString(syntheticRequest());
+
+            int iterations = properties.getIterations();
+            int queryIterations = properties.getQueryIterations();
+            // Interleave queries with the CPU-bound paths so both are warm if the budget runs out
+            int queryEvery = queryIterations > 0 ? Math.max(1, iterations / queryIterations) : Integer.MAX_VALUE;
+            boolean budgetExhausted = false;
+            for (int i = 0; i < Math.max(iterations, queryIterations); i++) {
+                if (System.nanoTime() - deadline > 0) {
+                    budgetExhausted = true;
+                    break;
+                }
+                if (i < iterations) {
+                    exerciseTokens(user);
+                    exerciseMappingAndJson(user, requestJson, i);
+                    completedIterations = i + 1;
+                }
+                if (completedQueryIterations < queryIterations && (i % queryEvery == 0 || i >= iterations)) {
+                    exerciseQueries(user);
+                    completedQueryIterations++;
+                }
+            }
+            elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            state = budgetExhausted ? State.BUDGET_EXHAUSTED : State.COMPLETED;
+            log.info("Warm-up {} after {} ms ({} iterations, {} query iterations)",
+                budgetExhausted ? "stopped at its time budget" : "completed",
+                elapsedMs, completedIterations, completedQueryIterations);
+        } catch (Throwable e) {
+            // A broken warm-up must not keep the node out of rotation; it only costs latency. Errors
+            // too, such as a hot path class failing to initialize
+            elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            failure = e.toString();
+            state = State.FAILED;
+            log.warn("Warm-up failed after {} ms, reporting ready anyway: {}", elapsedMs, failure);
+        }
+    }
+
+    private void exerciseTokens(User user) {
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername());
+        if (jwtTokenProvider.validateToken(token)) {
+            jwtTokenProvider.getUserIdFromToken(token);
+            jwtTokenProvider.getUsernameFromToken(token);
+        }
+    }
+
+    private void exerciseMappingAndJson(User user, String requestJson, int iteration) throws Exception {
+        ExpenseRequestDto request = objectMapper.readValue(requestJson, ExpenseRequestDto.class);
+        validator.validate(request);
+
+        Expense expense = Expense.builder()
+            .id((long) iteration)
+            .user(user)
+            .amount(request.getAmount())
+            .category(request.getCategory())
+            .description(request.getDescription())
+            .expenseDate(request.getExpenseDate())
+            .build();
+        ExpenseResponseDto expenseDto = entityMapper.toExpenseResponseDto(expense);
+        UserResponseDto userDto = entityMapper.toUserResponseDto(user);
+        objectMapper.writeValueAsBytes(expenseDto);
+        objectMapper.writeValueAsBytes(userDto);
+        objectMapper.writeValueAsBytes(List.of(expenseDto, expenseDto));
+    }
+
+    private void exerciseQueries(User user) {
+        userRepository.findByUsername(user.getUsername());
+        expenseRepository.findByUser(user, PageRequest.of(0, 20, Sort.by("expenseDate").descending()))
+            .forEach(entityMapper::toExpenseResponseDto);
+        LocalDate today = LocalDate.now();
+        expenseRepository.findByUserAndExpenseDateBetween(user, today.minusMonths(1), today)
+            .forEach(entityMapper::toExpenseResponseDto);
+    }
+
+    private User syntheticUser() {
+        // Never persisted; an id that cannot exist keeps the queries read-only and empty
+        return User.builder()
+            .id(-1L)
+            .username(properties.getUsername())
+            .email(properties.getUsername() + "@warmup.invalid")
+            .role(Role.USER)
+            .isActive(true)
+            .build();
+    }
+
+    private ExpenseRequestDto syntheticRequest() {
+        return ExpenseRequestDto.builder()
+            .amount(new BigDecimal("42.50"))
+            .category(ExpenseCategory.FOOD)
+            .description("Warm-up lunch")
+            .expenseDate(LocalDate.now())
+            .build();
+    }
+}
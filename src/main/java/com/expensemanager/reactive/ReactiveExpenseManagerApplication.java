@@ -0,0 +1,62 @@
+package com.expensemanager.reactive;
+
+import com.expensemanager.infrastructure.idempotency.InMemoryIdempotencyStore;
+import com.expensemanager.infrastructure.security.JwtTokenProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+
+/**
+ * Entry point for the reactive deployment mode: the auth, expense and analytics APIs on WebFlux and
+ * R2DBC, against the same schema as the servlet application. Only this package is scanned, so none of
+ * the servlet filters, JPA repositories or blocking services are created.
+ *
+ * <p>Selected at build time with the {@code reactive} Maven profile, or at run time with
+ * {@code --app.mode=reactive} (or {@code APP_MODE=reactive}) on the regular jar.
+ */
+@SpringBootApplication(exclude = {
+    DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    JpaRepositoriesAutoConfiguration.class,
+    ReactiveUserDetailsServiceAutoConfiguration.class
+})
+@Import({JwtTokenProvider.class, InMemoryIdempotencyStore.class})
+public class ReactiveExpenseManagerApplication {
+
+    public static final String MODE_PROPERTY = "app.mode";
+    public static final String REACTIVE_MODE = "reactive";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveExpenseManagerApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.run(args);
+    }
+
+    /**
+     * Whether the reactive mode was requested on the command line, as a system property or through the
+     * {@code APP_MODE} environment variable.
+     *
+     * @param args the command line arguments
+     * @return true to start the reactive application
+     */
+    public static boolean isSelected(String[] args) {
+        String fromArgs = Arrays.stream(args)
+            .filter(arg -> arg.startsWith("--" + MODE_PROPERTY + "="))
+            .map(arg -> arg.substring(MODE_PROPERTY.length() + 3))
+            .reduce((first, last) -> last)
+            .orElse(null);
+        String mode = fromArgs != null ? fromArgs
+            : System.getProperty(MODE_PROPERTY, System.getenv("APP_MODE"));
+        return REACTIVE_MODE.equalsIgnoreCase(mode);
+    }
+
+}
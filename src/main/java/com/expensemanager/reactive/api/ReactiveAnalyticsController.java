@@ -0,0 +1,40 @@
+package com.expensemanager.reactive.api;
+
+import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import com.expensemanager.reactive.service.ReactiveAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST Controller for Analytics operations; same contract as {@code AnalyticsController}.
+ * Base path: /api/v1/analytics
+ */
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAnalyticsController {
+
+    private final ReactiveAnalyticsService analyticsService;
+
+    /**
+     * Get category summary for authenticated user.
+     *
+     * @param authentication Spring Security authentication object
+     * @return category summary with totals
+     */
+    @GetMapping("/category-summary")
+    public Mono<ResponseEntity<CategorySummaryDto>> getCategorySummary(Authentication authentication) {
+        Long userId = ((JwtAuthDetails) authentication.getDetails()).getUserId();
+        log.debug("User ID extracted from JWT: {}", userId);
+        return analyticsService.getCategorySummary(userId).map(ResponseEntity::ok);
+    }
+
+}
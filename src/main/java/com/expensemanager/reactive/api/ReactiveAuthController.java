@@ -0,0 +1,50 @@
+package com.expensemanager.reactive.api;
+
+import com.expensemanager.application.dto.AuthRequestDto;
+import com.expensemanager.application.dto.AuthResponseDto;
+import com.expensemanager.reactive.service.ReactiveAuthService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST Controller for Authentication operations; same contract as {@code AuthController}.
+ * Base path: /api/v1/auth
+ */
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    /**
+     * Register a new user account.
+     *
+     * @param authRequestDto the authentication request with username, email, and password
+     * @return authentication response with JWT token and user details
+     */
+    @PostMapping("/register")
+    public Mono<ResponseEntity<AuthResponseDto>> register(@Valid @RequestBody AuthRequestDto authRequestDto) {
+        return authService.register(authRequestDto)
+            .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * Login user with username and password.
+     *
+     * @param authRequestDto the authentication request with username and password
+     * @return authentication response with JWT token and user details
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity<AuthResponseDto>> login(@Valid @RequestBody AuthRequestDto authRequestDto) {
+        return authService.login(authRequestDto).map(ResponseEntity::ok);
+    }
+
+}
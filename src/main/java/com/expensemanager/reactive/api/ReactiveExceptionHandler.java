@@ -0,0 +1,108 @@
+package com.expensemanager.reactive.api;
+
+import com.expensemanager.api.exception.DuplicateResourceException;
+import com.expensemanager.api.exception.ErrorResponse;
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@code GlobalExceptionHandler}, producing the same {@link ErrorResponse} bodies.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handle ResourceNotFoundException.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange) {
+        log.warn("Resource not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Handle ValidationException.
+     */
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(
+            ValidationException ex, ServerWebExchange exchange) {
+        log.warn("Validation error: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Validation Failed", ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Handle DuplicateResourceException.
+     */
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(
+            DuplicateResourceException ex, ServerWebExchange exchange) {
+        log.warn("Duplicate resource: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Handle request body validation failures.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+        log.warn("Method argument validation failed");
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+            fieldErrors.put(error.getField(), error.getDefaultMessage())
+        );
+        return error(HttpStatus.BAD_REQUEST, "Validation Failed", "One or more fields failed validation",
+            exchange, fieldErrors);
+    }
+
+    /**
+     * Handle framework errors that carry a status, e.g. unreadable bodies or type mismatches.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(
+            ResponseStatusException ex, ServerWebExchange exchange) {
+        HttpStatusCode status = ex.getStatusCode();
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        return error(status, resolved != null ? resolved.getReasonPhrase() : "Error", ex.getReason(), exchange, null);
+    }
+
+    /**
+     * Handle generic exceptions.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerWebExchange exchange) {
+        log.error("Unexpected error occurred", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred",
+            exchange, null);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatusCode status, String error, String message,
+                                                       ServerWebExchange exchange, Map<String, String> fieldErrors) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .error(error)
+            .message(message)
+            .status(status.value())
+            .timestamp(LocalDateTime.now())
+            .path(exchange.getRequest().getPath().value())
+            .fieldErrors(fieldErrors)
+            .build();
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+}
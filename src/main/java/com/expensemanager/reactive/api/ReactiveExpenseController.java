@@ -0,0 +1,168 @@
+package com.expensemanager.reactive.api;
+
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.DuplicateExpenseGroupDto;
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.idempotency.IdempotencyStore;
+import com.expensemanager.reactive.service.ReactiveExpenseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reactive REST Controller for Expense operations; same contract as {@code ExpenseController}.
+ * Base path: /api/v1/expenses
+ */
+@RestController
+@RequestMapping("/expenses")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveExpenseController {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final ReactiveExpenseService expenseService;
+    private final ObjectProvider<IdempotencyStore> idempotencyStore;
+
+    /**
+     * Get all expenses for a user with pagination.
+     */
+    @GetMapping
+    public Mono<Page<ExpenseResponseDto>> getAllExpenses(@RequestParam Long userId, Pageable pageable) {
+        log.debug("Fetching expenses for user: {} with pagination", userId);
+        return expenseService.getExpensesByUserId(userId, pageable);
+    }
+
+    /**
+     * Get expense by ID.
+     */
+    @GetMapping("/{id}")
+    public Mono<ExpenseResponseDto> getExpenseById(@PathVariable Long id) {
+        log.debug("Fetching expense with ID: {}", id);
+        return expenseService.getExpenseById(id);
+    }
+
+    /**
+     * Get expenses filtered by category.
+     */
+    @GetMapping("/category/{category}")
+    public Mono<Page<ExpenseResponseDto>> getExpensesByCategory(
+            @RequestParam Long userId,
+            @PathVariable ExpenseCategory category,
+            Pageable pageable) {
+        log.debug("Fetching expenses for user: {} with category: {}", userId, category);
+        return expenseService.getExpensesByCategory(userId, category, pageable);
+    }
+
+    /**
+     * Get expenses within a date range, streamed as they are read.
+     */
+    @GetMapping("/range")
+    public Flux<ExpenseResponseDto> getExpensesByDateRange(
+            @RequestParam Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.debug("Fetching expenses for user: {} between {} and {}", userId, startDate, endDate);
+        return expenseService.getExpensesByDateRange(userId, startDate, endDate);
+    }
+
+    /**
+     * Find groups of probable duplicate expenses.
+     */
+    @GetMapping("/duplicates")
+    public Mono<List<DuplicateExpenseGroupDto>> getProbableDuplicates(@RequestParam Long userId) {
+        log.debug("Finding probable duplicate expenses for user: {}", userId);
+        return expenseService.findProbableDuplicates(userId);
+    }
+
+    /**
+     * Create a new expense. Requests carrying an {@code Idempotency-Key} go through the in-memory
+     * idempotency store, which blocks while a concurrent duplicate is in flight, so they are handled on
+     * the bounded elastic scheduler.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ExpenseResponseDto>> createExpense(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "false") boolean rejectDuplicate,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody ExpenseRequestDto expenseRequestDto) {
+        log.info("Creating new expense for user: {}", userId);
+
+        if (idempotencyKey == null) {
+            return expenseService.createExpense(userId, expenseRequestDto, rejectDuplicate)
+                .map(expense -> ResponseEntity.status(HttpStatus.CREATED).body(expense));
+        }
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return Mono.error(new ValidationException(
+                "Idempotency-Key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"));
+        }
+        IdempotencyStore store = idempotencyStore.getIfAvailable();
+        if (store == null) {
+            return Mono.error(new ValidationException("Idempotency-Key requires app.idempotency.store=memory in reactive mode"));
+        }
+
+        return Mono.fromCallable(() -> store.execute(
+                "expenses:" + userId + ":" + idempotencyKey,
+                expenseRequestDto,
+                ExpenseResponseDto.class,
+                () -> expenseService.createExpense(userId, expenseRequestDto, rejectDuplicate).block()))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value()));
+    }
+
+    /**
+     * Import a batch of expenses, skipping duplicates.
+     */
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<BulkExpenseResultDto>> importExpenses(
+            @RequestParam Long userId,
+            @Valid @RequestBody BulkExpenseRequestDto bulkExpenseRequestDto) {
+        log.info("Importing {} expenses for user: {}", bulkExpenseRequestDto.getExpenses().size(), userId);
+        return expenseService.importExpenses(userId, bulkExpenseRequestDto)
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+    }
+
+    /**
+     * Update expense information.
+     */
+    @PutMapping("/{id}")
+    public Mono<ExpenseResponseDto> updateExpense(
+            @PathVariable Long id,
+            @Valid @RequestBody ExpenseRequestDto expenseRequestDto) {
+        log.info("Updating expense with ID: {}", id);
+        return expenseService.updateExpense(id, expenseRequestDto);
+    }
+
+    /**
+     * Delete expense by ID.
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteExpense(@PathVariable Long id) {
+        log.info("Deleting expense with ID: {}", id);
+        return expenseService.deleteExpense(id)
+            .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
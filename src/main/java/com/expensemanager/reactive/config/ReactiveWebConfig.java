@@ -0,0 +1,57 @@
+package com.expensemanager.reactive.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * WebFlux and R2DBC setup for the reactive mode.
+ */
+@Configuration
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    /**
+     * Resolve {@code Pageable} parameters ({@code page}, {@code size}, {@code sort}) as Spring MVC does.
+     */
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+
+    /**
+     * Run on Reactor Netty. Tomcat is on the classpath for the servlet mode and would otherwise be
+     * preferred by auto-configuration, serving the reactive stack through a servlet adapter.
+     *
+     * @return Netty server factory; port and other server settings are still applied by customizers
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Create the schema on startup. In the servlet mode Hibernate owns the schema; the reactive mode
+     * normally runs against a database it has already created, so this is only for the in-memory test
+     * database.
+     *
+     * @param connectionFactory the R2DBC connection factory
+     * @return initializer running {@code reactive/schema.sql}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.reactive.init-schema", havingValue = "true")
+    public ConnectionFactoryInitializer schemaInitializer(ConnectionFactory connectionFactory) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("reactive/schema.sql")));
+        return initializer;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.expensemanager.reactive.domain;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code expenses} table, mirroring the {@code Expense} JPA entity. There are no
+ * lifecycle callbacks, so the service sets the fingerprint and timestamps before saving.
+ */
+@Table("expenses")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpenseRow {
+
+    @Id
+    private Long id;
+
+    @Column("user_id")
+    private Long userId;
+
+    private BigDecimal amount;
+
+    private ExpenseCategory category;
+
+    private String description;
+
+    @Column("expense_date")
+    private LocalDate expenseDate;
+
+    private String fingerprint;
+
+    private boolean unusual;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,44 @@
+package com.expensemanager.reactive.domain;
+
+import com.expensemanager.domain.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code users} table, mirroring the {@code User} JPA entity.
+ */
+@Table("users")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRow {
+
+    @Id
+    private Long id;
+
+    private String username;
+
+    private String email;
+
+    private String password;
+
+    private Role role;
+
+    @Column("is_active")
+    private Boolean isActive;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+}
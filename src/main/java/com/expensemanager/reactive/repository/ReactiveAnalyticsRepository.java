@@ -0,0 +1,40 @@
+package com.expensemanager.reactive.repository;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Reactive aggregation queries, mirroring {@code AnalyticsQueryRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAnalyticsRepository {
+
+    private static final String CATEGORY_TOTALS_SQL =
+        "SELECT category, SUM(amount) AS total FROM expenses WHERE user_id = :userId GROUP BY category";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Sum a user's expenses per category in the database.
+     *
+     * @param userId the user ID
+     * @return total amount per category; categories without expenses are absent
+     */
+    public Mono<Map<ExpenseCategory, BigDecimal>> getCategoryTotals(Long userId) {
+        return databaseClient.sql(CATEGORY_TOTALS_SQL)
+            .bind("userId", userId)
+            .map((row, metadata) -> Map.entry(
+                ExpenseCategory.valueOf(row.get("category", String.class)),
+                row.get("total", BigDecimal.class)))
+            .all()
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+}
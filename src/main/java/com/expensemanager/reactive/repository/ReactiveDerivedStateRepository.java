@@ -0,0 +1,58 @@
+package com.expensemanager.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Invalidates the per-user state the servlet mode derives from expenses and persists: amount
+ * moments, amount sketches and merchant sketches. The servlet mode rebuilds each from the expenses
+ * table when its rows are missing, so deleting them keeps it correct after reactive writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveDerivedStateRepository {
+
+    private static final List<String> DERIVED_TABLES =
+        List.of("category_amount_moments", "category_amount_sketches", "monthly_merchant_sketches");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Lock the user's row, as the servlet mode does before its expense and derived-state writes.
+     * Must run in the write transaction before the expenses are written: the foreign key check of
+     * an expense insert takes a key-share lock on the same row, and upgrading it afterwards
+     * deadlocks with a concurrent write for the same user.
+     *
+     * @param userId the user ID
+     * @return completion signal
+     */
+    public Mono<Void> lockUser(Long userId) {
+        return databaseClient.sql("SELECT id FROM users WHERE id = :userId FOR UPDATE")
+            .bind("userId", userId)
+            .fetch()
+            .rowsUpdated()
+            .then();
+    }
+
+    /**
+     * Delete the user's derived rows. Must run in the transaction that writes the expenses, after
+     * {@link #lockUser}.
+     *
+     * @param userId the user ID
+     * @return completion signal
+     */
+    public Mono<Void> invalidate(Long userId) {
+        return Flux.fromIterable(DERIVED_TABLES)
+            .concatMap(table -> databaseClient.sql("DELETE FROM " + table + " WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated())
+            .then();
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.expensemanager.reactive.repository;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.reactive.domain.ExpenseRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Reactive repository for expenses, mirroring the queries of {@code ExpenseRepository}.
+ */
+@Repository
+public interface ReactiveExpenseRepository extends R2dbcRepository<ExpenseRow, Long> {
+
+    /**
+     * Find a page of expenses for a user.
+     *
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return the expenses of the requested page
+     */
+    Flux<ExpenseRow> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Count the expenses of a user.
+     *
+     * @param userId the user ID
+     * @return the total number of expenses
+     */
+    Mono<Long> countByUserId(Long userId);
+
+    /**
+     * Find a page of expenses for a user in a category.
+     *
+     * @param userId the user ID
+     * @param category the expense category
+     * @param pageable pagination information
+     * @return the expenses of the requested page
+     */
+    Flux<ExpenseRow> findByUserIdAndCategory(Long userId, ExpenseCategory category, Pageable pageable);
+
+    /**
+     * Count the expenses of a user in a category.
+     *
+     * @param userId the user ID
+     * @param category the expense category
+     * @return the total number of matching expenses
+     */
+    Mono<Long> countByUserIdAndCategory(Long userId, ExpenseCategory category);
+
+    /**
+     * Find expenses for a user within a date range.
+     *
+     * @param userId the user ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return expenses in the date range
+     */
+    Flux<ExpenseRow> findByUserIdAndExpenseDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Check whether a user already has an expense with the given fingerprint.
+     *
+     * @param userId the user ID
+     * @param fingerprint the duplicate-detection fingerprint
+     * @return true if a matching expense exists
+     */
+    Mono<Boolean> existsByUserIdAndFingerprint(Long userId, String fingerprint);
+
+    /**
+     * Find which of the given fingerprints already exist for a user.
+     *
+     * @param userId the user ID
+     * @param fingerprints candidate fingerprints
+     * @return the fingerprint of every stored expense that has one of them, repeated per expense
+     */
+    @Query("SELECT fingerprint FROM expenses WHERE user_id = :userId AND fingerprint IN (:fingerprints)")
+    Flux<String> findExistingFingerprints(Long userId, Collection<String> fingerprints);
+
+    /**
+     * Find fingerprints shared by more than one of a user's expenses.
+     *
+     * @param userId the user ID
+     * @return fingerprints with at least two expenses
+     */
+    @Query("SELECT fingerprint FROM expenses WHERE user_id = :userId AND fingerprint IS NOT NULL "
+        + "GROUP BY fingerprint HAVING COUNT(*) > 1")
+    Flux<String> findDuplicateFingerprints(Long userId);
+
+    /**
+     * Find a user's expenses with any of the given fingerprints, grouped by fingerprint.
+     *
+     * @param userId the user ID
+     * @param fingerprints the fingerprints to load
+     * @return matching expenses ordered by fingerprint, then ID
+     */
+    Flux<ExpenseRow> findByUserIdAndFingerprintInOrderByFingerprintAscIdAsc(Long userId, Collection<String> fingerprints);
+
+}
@@ -0,0 +1,38 @@
+package com.expensemanager.reactive.repository;
+
+import com.expensemanager.reactive.domain.UserRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for users.
+ */
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<UserRow, Long> {
+
+    /**
+     * Find user by username.
+     *
+     * @param username the username
+     * @return the user, or empty
+     */
+    Mono<UserRow> findByUsername(String username);
+
+    /**
+     * Check if username exists.
+     *
+     * @param username the username
+     * @return true if exists
+     */
+    Mono<Boolean> existsByUsername(String username);
+
+    /**
+     * Check if email exists.
+     *
+     * @param email the email
+     * @return true if exists
+     */
+    Mono<Boolean> existsByEmail(String email);
+
+}
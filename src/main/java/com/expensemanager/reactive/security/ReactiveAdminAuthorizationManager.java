@@ -0,0 +1,33 @@
+package com.expensemanager.reactive.security;
+
+import com.expensemanager.domain.enums.Role;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import com.expensemanager.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code AdminAuthorizationManager}: grants access to JWT-authenticated
+ * callers whose user has the {@link Role#ADMIN} role, read from the database on every check.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveAdminAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+        return authentication
+            .filter(auth -> auth.getDetails() instanceof JwtAuthDetails)
+            .flatMap(auth -> userRepository.findById(((JwtAuthDetails) auth.getDetails()).getUserId()))
+            .map(user -> new AuthorizationDecision(user.getRole() == Role.ADMIN))
+            .defaultIfEmpty(new AuthorizationDecision(false));
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.expensemanager.reactive.security;
+
+import com.expensemanager.infrastructure.observability.JwtValidationEvent;
+import com.expensemanager.infrastructure.security.JwtAuthDetails;
+import com.expensemanager.infrastructure.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+
+/**
+ * Reactive counterpart of {@code JwtAuthenticationFilter}: validates the bearer token and exposes the
+ * authentication through the Reactor context instead of a thread-local. Token validation is a short
+ * HMAC computation, so it runs on the event loop.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = extractToken(exchange);
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
+        UsernamePasswordAuthenticationToken authentication = null;
+        try {
+            if (jwtTokenProvider.validateToken(token)) {
+                String username = jwtTokenProvider.getUsernameFromToken(token);
+                Long userId = jwtTokenProvider.getUserIdFromToken(token);
+                authentication = new UsernamePasswordAuthenticationToken(username, userId, new ArrayList<>());
+                authentication.setDetails(new JwtAuthDetails(userId, username));
+                log.debug("JWT token validated for user: {}", username);
+            }
+        } catch (Exception ex) {
+            log.error("JWT authentication error: {}", ex.getMessage());
+        }
+        commit(event, authentication);
+
+        if (authentication == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private static void commit(JwtValidationEvent event, UsernamePasswordAuthenticationToken authentication) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.valid = authentication != null;
+            event.userId = authentication != null ? (Long) authentication.getCredentials() : 0;
+            event.commit();
+        }
+    }
+
+    private static String extractToken(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.expensemanager.reactive.service;
+
+import com.expensemanager.application.dto.CategorySummaryDto;
+import com.expensemanager.reactive.repository.ReactiveAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of the category summary in {@code AnalyticsServiceImpl}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAnalyticsService {
+
+    private final ReactiveAnalyticsRepository analyticsRepository;
+
+    /**
+     * Get expense totals grouped by category.
+     *
+     * @param userId the user ID
+     * @return category totals and grand total
+     */
+    public Mono<CategorySummaryDto> getCategorySummary(Long userId) {
+        log.debug("Generating category summary for user: {}", userId);
+
+        return analyticsRepository.getCategoryTotals(userId)
+            .map(results -> {
+                Map<String, BigDecimal> categoryTotals = new HashMap<>();
+                BigDecimal grandTotal = BigDecimal.ZERO;
+                for (var result : results.entrySet()) {
+                    categoryTotals.put(result.getKey().name(), result.getValue());
+                    grandTotal = grandTotal.add(result.getValue());
+                }
+                return CategorySummaryDto.builder()
+                    .categoryTotals(categoryTotals)
+                    .grandTotal(grandTotal)
+                    .build();
+            });
+    }
+
+}
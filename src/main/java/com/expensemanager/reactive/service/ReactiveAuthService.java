@@ -0,0 +1,109 @@
+package com.expensemanager.reactive.service;
+
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.AuthRequestDto;
+import com.expensemanager.application.dto.AuthResponseDto;
+import com.expensemanager.domain.enums.Role;
+import com.expensemanager.infrastructure.security.JwtTokenProvider;
+import com.expensemanager.reactive.domain.UserRow;
+import com.expensemanager.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of {@code AuthServiceImpl}. BCrypt hashing takes tens of milliseconds of CPU,
+ * so it runs on the bounded elastic scheduler rather than on the event loop.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${app.jwt.expiration}")
+    private Long jwtExpiration;
+
+    /**
+     * Register a new user account.
+     *
+     * @param authRequestDto the registration request
+     * @return authentication response with JWT token
+     */
+    @Transactional
+    public Mono<AuthResponseDto> register(AuthRequestDto authRequestDto) {
+        log.info("Registering new user with username: {}", authRequestDto.getUsername());
+
+        return userRepository.existsByUsername(authRequestDto.getUsername())
+            .flatMap(usernameTaken -> usernameTaken
+                ? Mono.error(new ValidationException("Username already exists"))
+                : userRepository.existsByEmail(authRequestDto.getEmail()))
+            .flatMap(emailTaken -> emailTaken
+                ? Mono.error(new ValidationException("Email already exists"))
+                : Mono.fromCallable(() -> passwordEncoder.encode(authRequestDto.getPassword()))
+                    .subscribeOn(Schedulers.boundedElastic()))
+            .flatMap(passwordHash -> {
+                LocalDateTime now = LocalDateTime.now();
+                return userRepository.save(UserRow.builder()
+                    .username(authRequestDto.getUsername())
+                    .email(authRequestDto.getEmail())
+                    .password(passwordHash)
+                    .role(Role.USER)
+                    .isActive(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            })
+            .doOnNext(user -> log.info("User registered successfully with ID: {}", user.getId()))
+            .map(this::toAuthResponse);
+    }
+
+    /**
+     * Login user with username and password.
+     *
+     * @param authRequestDto the login request
+     * @return authentication response with JWT token
+     */
+    public Mono<AuthResponseDto> login(AuthRequestDto authRequestDto) {
+        log.info("Login attempt for user: {}", authRequestDto.getUsername());
+
+        return userRepository.findByUsername(authRequestDto.getUsername())
+            .switchIfEmpty(Mono.error(new ValidationException("Invalid username or password")))
+            .flatMap(user -> Mono.fromCallable(() -> passwordEncoder.matches(authRequestDto.getPassword(), user.getPassword()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(matches -> {
+                    if (!matches) {
+                        return Mono.error(new ValidationException("Invalid username or password"));
+                    }
+                    if (!Boolean.TRUE.equals(user.getIsActive())) {
+                        return Mono.error(new ValidationException("User account is inactive"));
+                    }
+                    return Mono.just(user);
+                }))
+            .doOnNext(user -> log.info("User logged in successfully: {}", user.getId()))
+            .map(this::toAuthResponse);
+    }
+
+    private AuthResponseDto toAuthResponse(UserRow user) {
+        return AuthResponseDto.builder()
+            .userId(user.getId())
+            .username(user.getUsername())
+            .email(user.getEmail())
+            .role(user.getRole())
+            .accessToken(jwtTokenProvider.generateToken(user.getId(), user.getUsername()))
+            .tokenType("Bearer")
+            .expiresIn(jwtExpiration)
+            .build();
+    }
+
+}
@@ -0,0 +1,330 @@
+package com.expensemanager.reactive.service;
+
+import com.expensemanager.api.exception.DuplicateResourceException;
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.api.exception.ValidationException;
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.DuplicateExpenseGroupDto;
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.domain.entity.Expense;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.reactive.domain.ExpenseRow;
+import com.expensemanager.reactive.domain.UserRow;
+import com.expensemanager.reactive.repository.ReactiveDerivedStateRepository;
+import com.expensemanager.reactive.repository.ReactiveExpenseRepository;
+import com.expensemanager.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@code ExpenseServiceImpl}, with the same validation and duplicate detection.
+ * <p>
+ * Tags, unusual-amount flags and the in-memory indexes are servlet-only. Requests carrying tags are
+ * refused rather than silently dropped, and every write deletes the user's persisted derived state
+ * (amount moments, amount and merchant sketches), which the servlet mode rebuilds from the expenses.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveExpenseService {
+
+    private final ReactiveExpenseRepository expenseRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveDerivedStateRepository derivedStateRepository;
+
+    /**
+     * Create a new expense.
+     *
+     * @param userId the user ID
+     * @param expenseRequestDto expense details
+     * @param rejectDuplicate whether to refuse the expense if an identical one exists
+     * @return the created expense
+     */
+    @Transactional
+    public Mono<ExpenseResponseDto> createExpense(Long userId, ExpenseRequestDto expenseRequestDto, boolean rejectDuplicate) {
+        log.info("Creating new expense for user: {}", userId);
+
+        if (expenseRequestDto.getExpenseDate().isAfter(LocalDate.now())) {
+            return Mono.error(new ValidationException("Expense date cannot be in the future"));
+        }
+        if (hasTags(expenseRequestDto)) {
+            return Mono.error(tagsNotSupported());
+        }
+        String fingerprint = fingerprintOf(userId, expenseRequestDto);
+
+        return findUser(userId)
+            .flatMap(user -> derivedStateRepository.lockUser(userId).thenReturn(user))
+            .flatMap(user -> rejectDuplicate
+                ? expenseRepository.existsByUserIdAndFingerprint(userId, fingerprint)
+                : Mono.just(false))
+            .flatMap(duplicate -> duplicate
+                ? Mono.error(new DuplicateResourceException("An identical expense already exists for this user"))
+                : expenseRepository.save(toExpense(userId, expenseRequestDto)))
+            .flatMap(saved -> derivedStateRepository.invalidate(userId).thenReturn(saved))
+            .doOnNext(saved -> log.info("Expense created successfully with ID: {}", saved.getId()))
+            .map(this::toDto);
+    }
+
+    /**
+     * Import a batch of expenses, skipping duplicates.
+     *
+     * @param userId the user ID
+     * @param bulkExpenseRequestDto the expenses to import
+     * @return created expenses and skipped duplicate count
+     */
+    @Transactional
+    public Mono<BulkExpenseResultDto> importExpenses(Long userId, BulkExpenseRequestDto bulkExpenseRequestDto) {
+        List<ExpenseRequestDto> rows = bulkExpenseRequestDto.getExpenses();
+        log.info("Importing {} expenses for user: {}", rows.size(), userId);
+
+        List<String> fingerprints = new ArrayList<>(rows.size());
+        for (ExpenseRequestDto row : rows) {
+            if (row.getExpenseDate().isAfter(LocalDate.now())) {
+                return Mono.error(new ValidationException("Expense date cannot be in the future"));
+            }
+            if (hasTags(row)) {
+                return Mono.error(tagsNotSupported());
+            }
+            fingerprints.add(fingerprintOf(userId, row));
+        }
+
+        return findUser(userId)
+            .flatMap(user -> derivedStateRepository.lockUser(userId).thenReturn(user))
+            .flatMap(user -> expenseRepository.findExistingFingerprints(userId, new HashSet<>(fingerprints))
+                .collect(HashMap<String, Integer>::new,
+                    (unmatched, fingerprint) -> unmatched.merge(fingerprint, 1, Integer::sum)))
+            .flatMapMany(unmatched -> {
+                // Each stored expense absorbs one matching row, as in the servlet mode
+                List<ExpenseRow> toSave = new ArrayList<>(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    String fingerprint = fingerprints.get(i);
+                    if (unmatched.getOrDefault(fingerprint, 0) > 0) {
+                        unmatched.merge(fingerprint, -1, Integer::sum);
+                    } else {
+                        toSave.add(toExpense(userId, rows.get(i)));
+                    }
+                }
+                return toSave.isEmpty()
+                    ? Flux.<ExpenseRow>empty()
+                    : expenseRepository.saveAll(toSave).collectList()
+                        .flatMapMany(saved -> derivedStateRepository.invalidate(userId).thenMany(Flux.fromIterable(saved)));
+            })
+            .map(this::toDto)
+            .collectList()
+            .map(created -> {
+                int skipped = rows.size() - created.size();
+                log.info("Imported {} expenses for user: {}, skipped {} duplicates", created.size(), userId, skipped);
+                return BulkExpenseResultDto.builder()
+                    .created(created)
+                    .skippedDuplicates(skipped)
+                    .build();
+            });
+    }
+
+    /**
+     * Find groups of probable duplicate expenses.
+     *
+     * @param userId the user ID
+     * @return groups of expenses sharing the same fingerprint
+     */
+    public Mono<List<DuplicateExpenseGroupDto>> findProbableDuplicates(Long userId) {
+        log.debug("Finding probable duplicate expenses for user: {}", userId);
+
+        return findUser(userId)
+            .flatMap(user -> expenseRepository.findDuplicateFingerprints(userId).collectList())
+            .flatMap(fingerprints -> fingerprints.isEmpty()
+                ? Mono.just(List.<DuplicateExpenseGroupDto>of())
+                : expenseRepository.findByUserIdAndFingerprintInOrderByFingerprintAscIdAsc(userId, fingerprints)
+                    .collect(LinkedHashMap<String, List<ExpenseResponseDto>>::new, (groups, expense) ->
+                        groups.computeIfAbsent(expense.getFingerprint(), key -> new ArrayList<>()).add(toDto(expense)))
+                    .map(groups -> groups.entrySet().stream()
+                        .map(entry -> DuplicateExpenseGroupDto.builder()
+                            .fingerprint(entry.getKey())
+                            .expenses(entry.getValue())
+                            .build())
+                        .toList()));
+    }
+
+    /**
+     * Get expense by ID.
+     *
+     * @param id the expense ID
+     * @return the expense
+     */
+    public Mono<ExpenseResponseDto> getExpenseById(Long id) {
+        log.debug("Fetching expense with ID: {}", id);
+        return findExpense(id).map(this::toDto);
+    }
+
+    /**
+     * Get a page of a user's expenses.
+     *
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return the requested page
+     */
+    public Mono<Page<ExpenseResponseDto>> getExpensesByUserId(Long userId, Pageable pageable) {
+        log.debug("Fetching expenses for user: {} with pagination: {}", userId, pageable);
+        return findUser(userId)
+            .flatMap(user -> toPage(expenseRepository.findByUserId(userId, pageable),
+                expenseRepository.countByUserId(userId), pageable));
+    }
+
+    /**
+     * Get a page of a user's expenses in a category.
+     *
+     * @param userId the user ID
+     * @param category the expense category
+     * @param pageable pagination information
+     * @return the requested page
+     */
+    public Mono<Page<ExpenseResponseDto>> getExpensesByCategory(Long userId, ExpenseCategory category, Pageable pageable) {
+        log.debug("Fetching expenses for user: {} with category: {} and pagination: {}", userId, category, pageable);
+        return findUser(userId)
+            .flatMap(user -> toPage(expenseRepository.findByUserIdAndCategory(userId, category, pageable),
+                expenseRepository.countByUserIdAndCategory(userId, category), pageable));
+    }
+
+    /**
+     * Get a user's expenses within a date range.
+     *
+     * @param userId the user ID
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return expenses in the date range
+     */
+    public Flux<ExpenseResponseDto> getExpensesByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Fetching expenses for user: {} between dates: {} and {}", userId, startDate, endDate);
+        return findUser(userId)
+            .flatMapMany(user -> startDate.isAfter(endDate)
+                ? Flux.error(new ValidationException("Start date must be before end date"))
+                : expenseRepository.findByUserIdAndExpenseDateBetween(userId, startDate, endDate))
+            .map(this::toDto);
+    }
+
+    /**
+     * Update an expense.
+     *
+     * @param id the expense ID
+     * @param expenseRequestDto updated expense details
+     * @return the updated expense
+     */
+    @Transactional
+    public Mono<ExpenseResponseDto> updateExpense(Long id, ExpenseRequestDto expenseRequestDto) {
+        log.info("Updating expense with ID: {}", id);
+
+        return findExpense(id)
+            .flatMap(expense -> {
+                if (expenseRequestDto.getExpenseDate().isAfter(LocalDate.now())) {
+                    return Mono.error(new ValidationException("Expense date cannot be in the future"));
+                }
+                // An empty set would clear the tags, which cannot be done here either
+                if (expenseRequestDto.getTags() != null) {
+                    return Mono.error(tagsNotSupported());
+                }
+                expense.setAmount(expenseRequestDto.getAmount());
+                expense.setCategory(expenseRequestDto.getCategory());
+                expense.setDescription(expenseRequestDto.getDescription());
+                expense.setExpenseDate(expenseRequestDto.getExpenseDate());
+                expense.setFingerprint(fingerprintOf(expense.getUserId(), expenseRequestDto));
+                expense.setUpdatedAt(LocalDateTime.now());
+                return derivedStateRepository.lockUser(expense.getUserId())
+                    .then(expenseRepository.save(expense))
+                    .flatMap(saved -> derivedStateRepository.invalidate(saved.getUserId()).thenReturn(saved));
+            })
+            .doOnNext(updated -> log.info("Expense updated successfully with ID: {}", updated.getId()))
+            .map(this::toDto);
+    }
+
+    /**
+     * Delete an expense.
+     *
+     * @param id the expense ID
+     * @return completion signal
+     */
+    @Transactional
+    public Mono<Void> deleteExpense(Long id) {
+        log.info("Deleting expense with ID: {}", id);
+        return findExpense(id)
+            .flatMap(expense -> derivedStateRepository.lockUser(expense.getUserId())
+                .then(expenseRepository.delete(expense))
+                .then(derivedStateRepository.invalidate(expense.getUserId())))
+            .doOnSuccess(ignored -> log.info("Expense deleted successfully with ID: {}", id));
+    }
+
+    private Mono<UserRow> findUser(Long userId) {
+        return userRepository.findById(userId)
+            .switchIfEmpty(Mono.error(new ResourceNotFoundException("User not found with ID: " + userId)));
+    }
+
+    private Mono<ExpenseRow> findExpense(Long id) {
+        return expenseRepository.findById(id)
+            .switchIfEmpty(Mono.error(new ResourceNotFoundException("Expense not found with ID: " + id)));
+    }
+
+    private Mono<Page<ExpenseResponseDto>> toPage(Flux<ExpenseRow> content, Mono<Long> total, Pageable pageable) {
+        return content.map(this::toDto)
+            .collectList()
+            .zipWith(total, (rows, count) -> new PageImpl<>(rows, pageable, count));
+    }
+
+    private ExpenseRow toExpense(Long userId, ExpenseRequestDto expenseRequestDto) {
+        LocalDateTime now = LocalDateTime.now();
+        return ExpenseRow.builder()
+            .userId(userId)
+            .amount(expenseRequestDto.getAmount())
+            .category(expenseRequestDto.getCategory())
+            .description(expenseRequestDto.getDescription())
+            .expenseDate(expenseRequestDto.getExpenseDate())
+            .fingerprint(fingerprintOf(userId, expenseRequestDto))
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    private ExpenseResponseDto toDto(ExpenseRow expense) {
+        return ExpenseResponseDto.builder()
+            .id(expense.getId())
+            .userId(expense.getUserId())
+            .amount(expense.getAmount())
+            .category(expense.getCategory())
+            .description(expense.getDescription())
+            .expenseDate(expense.getExpenseDate())
+            .unusual(expense.isUnusual())
+            .createdAt(expense.getCreatedAt())
+            .updatedAt(expense.getUpdatedAt())
+            .build();
+    }
+
+    private static boolean hasTags(ExpenseRequestDto expenseRequestDto) {
+        return expenseRequestDto.getTags() != null && !expenseRequestDto.getTags().isEmpty();
+    }
+
+    private static ValidationException tagsNotSupported() {
+        return new ValidationException("Tags are not supported in reactive mode");
+    }
+
+    private String fingerprintOf(Long userId, ExpenseRequestDto expenseRequestDto) {
+        return Expense.fingerprintOf(userId, expenseRequestDto.getExpenseDate(),
+            expenseRequestDto.getAmount(), expenseRequestDto.getDescription());
+    }
+
+}
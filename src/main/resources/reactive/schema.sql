@@ -0,0 +1,67 @@
+-- Schema for the reactive mode on a fresh database; matches what Hibernate generates for the JPA entities.
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS expenses (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    amount NUMERIC(19, 2) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    expense_date DATE NOT NULL,
+    fingerprint VARCHAR(64),
+    unusual BOOLEAN DEFAULT FALSE NOT NULL,
+    tag_mask BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_id ON expenses (user_id);
+CREATE INDEX IF NOT EXISTS idx_expense_date ON expenses (expense_date);
+CREATE INDEX IF NOT EXISTS idx_category ON expenses (category);
+CREATE INDEX IF NOT EXISTS idx_user_fingerprint ON expenses (user_id, fingerprint);
+CREATE INDEX IF NOT EXISTS idx_user_unusual ON expenses (user_id, unusual);
+CREATE INDEX IF NOT EXISTS idx_user_date_id ON expenses (user_id, expense_date, id);
+
+-- Derived per-user state of the servlet mode; reactive writes delete a user's rows so that it rebuilds them
+CREATE TABLE IF NOT EXISTS category_amount_moments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    observations BIGINT NOT NULL,
+    mean DOUBLE PRECISION NOT NULL,
+    variance DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_moments_user_category UNIQUE (user_id, category)
+);
+
+CREATE TABLE IF NOT EXISTS category_amount_sketches (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    expense_count BIGINT NOT NULL,
+    sketch BYTEA NOT NULL,
+    rebuilt_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_sketch_user_category UNIQUE (user_id, category)
+);
+
+CREATE TABLE IF NOT EXISTS monthly_merchant_sketches (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    expense_count BIGINT NOT NULL,
+    sketch BYTEA NOT NULL,
+    rebuilt_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_merchant_sketch_user_month UNIQUE (user_id, month_start)
+);
@@ -0,0 +1,137 @@
+package com.expensemanager.api.controller;
+
+import com.expensemanager.api.exception.ResourceNotFoundException;
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.config.QueryBudgetProperties;
+import com.expensemanager.infrastructure.observability.QueryBudgetResponseBodyAdvice;
+import com.expensemanager.infrastructure.observability.QueryCountRegistry;
+import com.expensemanager.infrastructure.security.JwtTokenProvider;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exact statement counts of expense endpoints, read from {@link QueryCountRegistry} after MockMvc
+ * requests, in FAIL mode so that a request over its {@code application.yml} budget fails. The
+ * delete budget is lowered to 0 to check that FAIL mode also applies to responses without a body,
+ * and that the failed request's write is still committed.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+    "app.jwt.secret=query-count-test-secret-long-enough-for-hs512-query-count-test-secret",
+    "app.query-budget.mode=fail",
+    "app.query-budget.expose-header=true",
+    "app.query-budget.endpoints.[ExpenseController#deleteExpense]=0"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExpenseControllerQueryCountTest {
+
+    private static final int EXPENSES = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCountRegistry registry;
+
+    @Autowired
+    private QueryBudgetProperties properties;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long userId;
+    private String authorization;
+    private final List<Long> expenseIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        String username = "query-count-" + System.nanoTime();
+        userId = new ExpenseSeeder(dataSource).createUser(username);
+        authorization = "Bearer " + jwtTokenProvider.generateToken(userId, username);
+        for (int i = 0; i < EXPENSES; i++) {
+            expenseIds.add(expenseService.createExpense(userId, ExpenseRequestDto.builder()
+                .amount(BigDecimal.valueOf(10 + i))
+                .category(ExpenseCategory.values()[i % ExpenseCategory.values().length])
+                .description("Expense " + i)
+                .expenseDate(LocalDate.of(2026, 1, 1).plusDays(i))
+                .build(), false).getId());
+        }
+    }
+
+    @BeforeEach
+    void resetCounts() {
+        registry.reset();
+    }
+
+    @Test
+    void getAllExpensesRunsAFixedNumberOfStatementsWhateverThePageSize() throws Exception {
+        mockMvc.perform(get("/expenses").param("userId", String.valueOf(userId)).param("size", "5")
+                .header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isOk());
+        Integer smallPage = registry.lastCount("ExpenseController#getAllExpenses");
+
+        mockMvc.perform(get("/expenses").param("userId", String.valueOf(userId)).param("size", "20")
+                .header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isOk())
+            .andExpect(header().string(QueryBudgetResponseBodyAdvice.QUERY_COUNT_HEADER, "3"));
+
+        // The user, the page and the count; no statement per expense
+        assertThat(smallPage).isEqualTo(3);
+        assertThat(registry.lastCount("ExpenseController#getAllExpenses")).isEqualTo(3)
+            .isLessThanOrEqualTo(properties.budgetFor("ExpenseController#getAllExpenses"));
+    }
+
+    @Test
+    void getExpenseByIdRunsOneStatement() throws Exception {
+        mockMvc.perform(get("/expenses/{id}", expenseIds.get(0)).header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isOk());
+
+        assertThat(registry.lastCount("ExpenseController#getExpenseById")).isEqualTo(1)
+            .isLessThanOrEqualTo(properties.budgetFor("ExpenseController#getExpenseById"));
+    }
+
+    @Test
+    void failModeAppliesToResponsesWithoutABody() throws Exception {
+        Long expenseId = expenseIds.get(expenseIds.size() - 1);
+        mockMvc.perform(delete("/expenses/{id}", expenseId)
+                .header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isInternalServerError());
+
+        assertThat(registry.lastCount("ExpenseController#deleteExpense")).isPositive();
+        // The service transaction committed before the budget was checked, so the delete is kept
+        assertThatThrownBy(() -> expenseService.getExpenseById(expenseId))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+}
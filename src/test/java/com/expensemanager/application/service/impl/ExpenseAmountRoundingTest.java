@@ -0,0 +1,102 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.service.AnalyticsService;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.application.service.MerchantAnalyticsService;
+import com.expensemanager.application.service.StatisticsService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Amounts with more than two decimals are accepted and rounded half up, as the database column
+ * does, by every derived structure updated on the write path.
+ */
+@IntegrationTest
+class ExpenseAmountRoundingTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private MerchantAnalyticsService merchantAnalyticsService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void createAndUpdateRoundAmountsWithThreeDecimals() {
+        long userId = new ExpenseSeeder(dataSource).createUser("rounding-" + System.nanoTime());
+        expenseService.createExpense(userId, request("1.00"), false);
+        // Build the in-memory indexes and sketches first, so the write path has to update them
+        analyticsService.getRangeTotal(userId, DAY, DAY);
+        analyticsService.getCategorySummary(userId, DAY, DAY, new TagFilterDto());
+        statisticsService.getStatistics(userId, 10);
+        merchantAnalyticsService.getTopMerchants(userId, 10, null, null);
+
+        ExpenseResponseDto created = expenseService.createExpense(userId, request("12.345"), false);
+        assertThat(created.getId()).isNotNull();
+        assertTotals(userId, new BigDecimal("13.35"));
+
+        expenseService.updateExpense(created.getId(), request("20.005"));
+        assertTotals(userId, new BigDecimal("21.01"));
+        assertThat(expenseService.getExpenseById(created.getId()).getAmount()).isEqualByComparingTo("20.01");
+    }
+
+    @Test
+    void importMatchesAnExpenseCreatedWithThreeDecimals() {
+        long userId = new ExpenseSeeder(dataSource).createUser("rounding-import-" + System.nanoTime());
+        expenseService.createExpense(userId, request("12.345"), false);
+
+        for (String amount : List.of("12.35", "12.349")) {
+            BulkExpenseResultDto result = expenseService.importExpenses(userId,
+                new BulkExpenseRequestDto(List.of(request(amount))));
+
+            assertThat(result.getCreated()).as(amount).isEmpty();
+            assertThat(result.getSkippedDuplicates()).as(amount).isEqualTo(1);
+        }
+        assertThat(expenseService.findProbableDuplicates(userId)).isEmpty();
+    }
+
+    private void assertTotals(long userId, BigDecimal total) {
+        assertThat(analyticsService.getRangeTotal(userId, DAY, DAY).getTotal()).isEqualByComparingTo(total);
+        assertThat(analyticsService.getCategorySummary(userId, DAY, DAY, new TagFilterDto()).getGrandTotal())
+            .isEqualByComparingTo(total);
+        assertThat(statisticsService.getStatistics(userId, 10).getOverall().getTotal()).isEqualByComparingTo(total);
+        assertThat(merchantAnalyticsService.getTopMerchants(userId, 10, null, null).getBySpend())
+            .singleElement()
+            .satisfies(merchant -> assertThat(merchant.getTotal()).isEqualByComparingTo(total));
+    }
+
+    private static ExpenseRequestDto request(String amount) {
+        return ExpenseRequestDto.builder()
+            .amount(new BigDecimal(amount))
+            .category(ExpenseCategory.FOOD)
+            .description("Corner bakery")
+            .expenseDate(DAY)
+            .build();
+    }
+
+}
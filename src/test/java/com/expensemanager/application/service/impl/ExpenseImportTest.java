@@ -0,0 +1,67 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.BulkExpenseRequestDto;
+import com.expensemanager.application.dto.BulkExpenseResultDto;
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Identical rows in one import are separate expenses; only rows matching already stored expenses,
+ * one row per stored expense, are skipped as duplicates.
+ */
+@IntegrationTest
+class ExpenseImportTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 9);
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void identicalRowsAreCountedAgainstStoredExpenses() {
+        long userId = new ExpenseSeeder(dataSource).createUser("import-" + System.nanoTime());
+
+        BulkExpenseResultDto first = importCoffees(userId, 2);
+        assertThat(first.getCreated()).hasSize(2);
+        assertThat(first.getSkippedDuplicates()).isZero();
+
+        // Re-importing the same file adds nothing
+        BulkExpenseResultDto again = importCoffees(userId, 2);
+        assertThat(again.getCreated()).isEmpty();
+        assertThat(again.getSkippedDuplicates()).isEqualTo(2);
+
+        // A later export with one more coffee that day adds just that one
+        BulkExpenseResultDto more = importCoffees(userId, 3);
+        assertThat(more.getCreated()).hasSize(1);
+        assertThat(more.getSkippedDuplicates()).isEqualTo(2);
+
+        assertThat(expenseService.findProbableDuplicates(userId)).singleElement()
+            .satisfies(group -> assertThat(group.getExpenses()).hasSize(3));
+    }
+
+    private BulkExpenseResultDto importCoffees(long userId, int rows) {
+        ExpenseRequestDto coffee = ExpenseRequestDto.builder()
+            .amount(new BigDecimal("3.50"))
+            .category(ExpenseCategory.FOOD)
+            .description("Coffee")
+            .expenseDate(DAY)
+            .build();
+        return expenseService.importExpenses(userId, new BulkExpenseRequestDto(Collections.nCopies(rows, coffee)));
+    }
+
+}
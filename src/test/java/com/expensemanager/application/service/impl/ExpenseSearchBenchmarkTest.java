@@ -0,0 +1,135 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.ExpenseSearchCriteria;
+import com.expensemanager.application.dto.ExpenseSearchResultDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import com.expensemanager.support.LatencyStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.expensemanager.support.ExpenseSeeder.SEARCH_FIRST_DAY;
+import static com.expensemanager.support.ExpenseSeeder.SEARCH_TAGS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@link ExpenseService#searchExpenses} over one user with 100k seeded expenses: the
+ * first page and pages reached by following cursors, per filter combination and sort.
+ */
+@Tag("benchmark")
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class ExpenseSearchBenchmarkTest {
+
+    private static final int EXPENSES = 100_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int PAGES_PER_RUN = 20;
+    private static final int WARMUP_RUNS = 3;
+    private static final int RUNS = 10;
+    private static final List<String> DESCRIPTIONS =
+        List.of("Coffee shop", "Grocery store", "Coffee beans", "Train ticket", "Electricity bill", "Cinema");
+    // Far above the expected few milliseconds on H2; the database is in memory
+    private static final long MAX_P99_NANOS = 500_000_000;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long userId;
+
+    @BeforeAll
+    void seed() {
+        ExpenseSeeder seeder = new ExpenseSeeder(dataSource);
+        userId = seeder.createUser("search-benchmark-" + System.nanoTime());
+        seeder.createTags(userId, SEARCH_TAGS);
+
+        Random random = new Random(42);
+        List<ExpenseSeeder.Row> rows = new ArrayList<>(EXPENSES);
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        for (int i = 0; i < EXPENSES; i++) {
+            rows.add(new ExpenseSeeder.Row(
+                BigDecimal.valueOf(100 + 50L * random.nextInt(400), 2),
+                categories[random.nextInt(categories.length)].name(),
+                DESCRIPTIONS.get(random.nextInt(DESCRIPTIONS.size())) + " " + random.nextInt(1_000),
+                SEARCH_FIRST_DAY.plusDays(random.nextInt(3 * 365)),
+                random.nextInt(1 << SEARCH_TAGS.size())));
+        }
+        seeder.insertExpenses(userId, rows);
+    }
+
+    @Test
+    void searchPagesStayFastOnALargeDataset() {
+        Map<String, Supplier<ExpenseSearchCriteria.ExpenseSearchCriteriaBuilder>> scenarios = new LinkedHashMap<>();
+        scenarios.put("no filters", ExpenseSearchCriteria::builder);
+        scenarios.put("date range", () -> ExpenseSearchCriteria.builder()
+            .startDate(SEARCH_FIRST_DAY.plusDays(100)).endDate(SEARCH_FIRST_DAY.plusDays(400)));
+        scenarios.put("categories + amount", () -> ExpenseSearchCriteria.builder()
+            .categories(EnumSet.of(ExpenseCategory.FOOD, ExpenseCategory.UTILITIES))
+            .minAmount(new BigDecimal("20.00")).maxAmount(new BigDecimal("120.00")));
+        scenarios.put("text", () -> ExpenseSearchCriteria.builder().text("coffee"));
+        scenarios.put("tags", () -> ExpenseSearchCriteria.builder()
+            .tags(TagFilterDto.builder().allOf(Set.of("work")).noneOf(Set.of("refund")).build()));
+        scenarios.put("all filters", () -> ExpenseSearchCriteria.builder()
+            .startDate(SEARCH_FIRST_DAY.plusDays(100)).endDate(SEARCH_FIRST_DAY.plusDays(800))
+            .categories(EnumSet.of(ExpenseCategory.FOOD, ExpenseCategory.UTILITIES))
+            .minAmount(new BigDecimal("5.00")).maxAmount(new BigDecimal("150.00"))
+            .text("coffee")
+            .tags(TagFilterDto.builder().anyOf(Set.of("work", "team")).build()));
+
+        scenarios.forEach((name, criteria) -> {
+            for (ExpenseSearchCriteria.SortField sort : ExpenseSearchCriteria.SortField.values()) {
+                for (boolean descending : new boolean[] {true, false}) {
+                    ExpenseSearchCriteria search = criteria.get().size(PAGE_SIZE).sort(sort).descending(descending).build();
+                    for (int run = 0; run < WARMUP_RUNS; run++) {
+                        pageThrough(search, new LatencyStats(PAGES_PER_RUN), new LatencyStats(PAGES_PER_RUN));
+                    }
+                    LatencyStats firstPages = new LatencyStats(RUNS);
+                    LatencyStats laterPages = new LatencyStats(RUNS * PAGES_PER_RUN);
+                    for (int run = 0; run < RUNS; run++) {
+                        pageThrough(search, firstPages, laterPages);
+                    }
+                    log.info("search, {} by {} {}: first page {}; cursor pages {}", name, sort,
+                        descending ? "desc" : "asc", firstPages.summary(), laterPages.summary());
+                    assertThat(firstPages.percentile(99)).isLessThan(MAX_P99_NANOS);
+                    assertThat(laterPages.percentile(99)).isLessThan(MAX_P99_NANOS);
+                }
+            }
+        });
+    }
+
+    private void pageThrough(ExpenseSearchCriteria criteria, LatencyStats firstPage, LatencyStats laterPages) {
+        criteria.setCursor(null);
+        for (int page = 0; page < PAGES_PER_RUN; page++) {
+            long before = System.nanoTime();
+            ExpenseSearchResultDto result = expenseService.searchExpenses(userId, criteria);
+            (page == 0 ? firstPage : laterPages).record(System.nanoTime() - before);
+            if (result.getNextCursor() == null) {
+                return;
+            }
+            criteria.setCursor(result.getNextCursor());
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.ExpenseResponseDto;
+import com.expensemanager.application.dto.ExpenseSearchCriteria;
+import com.expensemanager.application.dto.ExpenseSearchResultDto;
+import com.expensemanager.application.dto.TagFilterDto;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.application.service.TagService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.expensemanager.support.ExpenseSeeder.SEARCH_FIRST_DAY;
+import static com.expensemanager.support.ExpenseSeeder.SEARCH_TAGS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages through {@link ExpenseService#searchExpenses} with cursors, for every combination of the
+ * filters and every sort, over a seeded dataset with many equal dates and amounts, and compares
+ * the concatenated pages with the same search done in memory.
+ */
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExpenseSearchTest {
+
+    private static final int EXPENSES = 1_200;
+    private static final int PAGE_SIZE = 50;
+    private static final List<String> DESCRIPTIONS =
+        Arrays.asList("Coffee shop", "Grocery store", "COFFEE beans", "Train ticket", null);
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long userId;
+    private final List<Row> rows = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        ExpenseSeeder seeder = new ExpenseSeeder(dataSource);
+        userId = seeder.createUser("search-" + System.nanoTime());
+        seeder.createTags(userId, SEARCH_TAGS);
+
+        Random random = new Random(7);
+        List<ExpenseSeeder.Row> seeded = new ArrayList<>(EXPENSES);
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        for (int i = 0; i < EXPENSES; i++) {
+            // Few distinct dates and amounts, so most sort values are shared by many expenses
+            seeded.add(new ExpenseSeeder.Row(
+                BigDecimal.valueOf(500 + 250L * random.nextInt(12), 2),
+                categories[random.nextInt(categories.length)].name(),
+                DESCRIPTIONS.get(random.nextInt(DESCRIPTIONS.size())),
+                SEARCH_FIRST_DAY.plusDays(random.nextInt(30)),
+                random.nextInt(1 << SEARCH_TAGS.size())));
+        }
+        seeder.insertExpenses(userId, seeded);
+
+        new JdbcTemplate(dataSource).query(
+            "SELECT id, amount, category, description, expense_date, tag_mask FROM expenses WHERE user_id = ?",
+            rs -> {
+                rows.add(new Row(rs.getLong(1), rs.getBigDecimal(2), ExpenseCategory.valueOf(rs.getString(3)),
+                    rs.getString(4), rs.getDate(5).toLocalDate(), rs.getLong(6)));
+            },
+            userId);
+        assertThat(rows).hasSize(EXPENSES);
+    }
+
+    @Test
+    void cursorPagesMatchInMemorySearchForEveryFilterCombination() {
+        long work = tagService.maskOf(userId, Set.of("work"));
+        long travelOrTeam = tagService.maskOf(userId, Set.of("travel", "team"));
+        long refund = tagService.maskOf(userId, Set.of("refund"));
+        Set<ExpenseCategory> categories = EnumSet.of(ExpenseCategory.FOOD, ExpenseCategory.TRANSPORTATION,
+            ExpenseCategory.UTILITIES);
+        BigDecimal minAmount = new BigDecimal("10.00");
+        BigDecimal maxAmount = new BigDecimal("25.00");
+
+        for (int filters = 0; filters < 1 << 6; filters++) {
+            ExpenseSearchCriteria.ExpenseSearchCriteriaBuilder criteria = ExpenseSearchCriteria.builder().size(PAGE_SIZE);
+            Predicate<Row> matches = row -> true;
+            if ((filters & 1) != 0) {
+                criteria.startDate(SEARCH_FIRST_DAY.plusDays(5)).endDate(SEARCH_FIRST_DAY.plusDays(20));
+                matches = matches.and(row -> !row.expenseDate().isBefore(SEARCH_FIRST_DAY.plusDays(5))
+                    && !row.expenseDate().isAfter(SEARCH_FIRST_DAY.plusDays(20)));
+            }
+            if ((filters & 2) != 0) {
+                criteria.categories(categories);
+                matches = matches.and(row -> categories.contains(row.category()));
+            }
+            if ((filters & 4) != 0) {
+                criteria.minAmount(minAmount);
+                matches = matches.and(row -> row.amount().compareTo(minAmount) >= 0);
+            }
+            if ((filters & 8) != 0) {
+                criteria.maxAmount(maxAmount);
+                matches = matches.and(row -> row.amount().compareTo(maxAmount) <= 0);
+            }
+            if ((filters & 16) != 0) {
+                criteria.text("coffee");
+                matches = matches.and(row -> row.description() != null
+                    && row.description().toLowerCase(Locale.ROOT).contains("coffee"));
+            }
+            if ((filters & 32) != 0) {
+                criteria.tags(TagFilterDto.builder()
+                    .allOf(Set.of("work"))
+                    .anyOf(Set.of("travel", "team"))
+                    .noneOf(Set.of("refund"))
+                    .build());
+                matches = matches.and(row -> (row.tagMask() & work) == work
+                    && (row.tagMask() & travelOrTeam) != 0 && (row.tagMask() & refund) == 0);
+            }
+
+            for (ExpenseSearchCriteria.SortField sort : ExpenseSearchCriteria.SortField.values()) {
+                for (boolean descending : new boolean[] {true, false}) {
+                    ExpenseSearchCriteria search = criteria.sort(sort).descending(descending).cursor(null).build();
+                    assertThat(pageThrough(search))
+                        .as("filters %s, sort %s, descending %s", Integer.toBinaryString(filters), sort, descending)
+                        .containsExactlyElementsOf(expected(matches, sort, descending));
+                }
+            }
+        }
+    }
+
+    private List<Long> pageThrough(ExpenseSearchCriteria criteria) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            criteria.setCursor(cursor);
+            ExpenseSearchResultDto page = expenseService.searchExpenses(userId, criteria);
+            assertThat(page.getExpenses()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            page.getExpenses().stream().map(ExpenseResponseDto::getId).forEach(ids::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> expected(Predicate<Row> matches, ExpenseSearchCriteria.SortField sort, boolean descending) {
+        Comparator<Row> order = sort == ExpenseSearchCriteria.SortField.AMOUNT
+            ? Comparator.comparing(Row::amount)
+            : Comparator.comparing(Row::expenseDate);
+        order = order.thenComparing(Row::id);
+        return rows.stream()
+            .filter(matches)
+            .sorted(descending ? order.reversed() : order)
+            .map(Row::id)
+            .toList();
+    }
+
+    private record Row(long id, BigDecimal amount, ExpenseCategory category, String description,
+                       LocalDate expenseDate, long tagMask) {
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.ExpenseRequestDto;
+import com.expensemanager.application.dto.ReportJobDto;
+import com.expensemanager.application.dto.ReportRequestDto;
+import com.expensemanager.application.service.ExpenseService;
+import com.expensemanager.application.service.ReportJobService;
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.domain.enums.ReportJobStatus;
+import com.expensemanager.domain.enums.ReportType;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A finished report is reused for an identical request only while the expenses in its date range
+ * are unchanged.
+ */
+@IntegrationTest
+class ReportJobReuseTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 3, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void expenseWritesInTheRangeStopReuse() throws Exception {
+        long userId = new ExpenseSeeder(dataSource).createUser("report-reuse-" + System.nanoTime());
+        Long coffee = create(userId, "Coffee", FIRST_DAY);
+
+        ReportJobDto first = submitAndAwait(userId);
+        assertThat(submitAndAwait(userId).getId()).isEqualTo(first.getId());
+
+        // Outside the range, so the report is unchanged
+        create(userId, "Rent", LAST_DAY.plusDays(1));
+        assertThat(submitAndAwait(userId).getId()).isEqualTo(first.getId());
+
+        create(userId, "Train", LAST_DAY);
+        ReportJobDto afterCreate = submitAndAwait(userId);
+        assertThat(afterCreate.getId()).isNotEqualTo(first.getId());
+        assertThat(csvOf(userId, afterCreate)).contains("Coffee", "Train").doesNotContain("Rent");
+
+        expenseService.deleteExpense(coffee);
+        ReportJobDto afterDelete = submitAndAwait(userId);
+        assertThat(afterDelete.getId()).isNotEqualTo(afterCreate.getId());
+        assertThat(csvOf(userId, afterDelete)).contains("Train").doesNotContain("Coffee");
+    }
+
+    private Long create(long userId, String description, LocalDate day) {
+        return expenseService.createExpense(userId, ExpenseRequestDto.builder()
+            .amount(new BigDecimal("3.50"))
+            .category(ExpenseCategory.FOOD)
+            .description(description)
+            .expenseDate(day)
+            .build(), false).getId();
+    }
+
+    private ReportJobDto submitAndAwait(long userId) throws Exception {
+        ReportJobDto job = reportJobService.submitReport(userId, ReportRequestDto.builder()
+            .type(ReportType.EXPENSE_EXPORT)
+            .startDate(FIRST_DAY)
+            .endDate(LAST_DAY)
+            .build());
+        ReportJobDto done = reportJobService.awaitReport(userId, job.getId(), 10_000).get();
+        assertThat(done.getStatus()).isEqualTo(ReportJobStatus.SUCCEEDED);
+        return done;
+    }
+
+    private String csvOf(long userId, ReportJobDto job) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportJobService.writeReportResult(job.getId(), reportJobService.getReportResult(userId, job.getId()), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+}
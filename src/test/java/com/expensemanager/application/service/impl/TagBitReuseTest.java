@@ -0,0 +1,56 @@
+package com.expensemanager.application.service.impl;
+
+import com.expensemanager.application.dto.TagDto;
+import com.expensemanager.application.dto.TagRequestDto;
+import com.expensemanager.application.service.TagService;
+import com.expensemanager.infrastructure.repository.UserTagRepository;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A deleted tag's bit is not given to a new tag until other nodes' snapshots and dictionaries,
+ * which may still map it to the deleted tag, have expired.
+ */
+@IntegrationTest
+class TagBitReuseTest {
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private UserTagRepository userTagRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void freedBitIsReusedOnlyAfterTheStalenessWindows() {
+        long userId = new ExpenseSeeder(dataSource).createUser("tag-bits-" + System.nanoTime());
+        TagDto work = tagService.createTag(userId, TagRequestDto.builder().name("work").build());
+        assertThat(bitOf(work)).isZero();
+
+        tagService.deleteTag(userId, work.getId());
+        TagDto travel = tagService.createTag(userId, TagRequestDto.builder().name("travel").build());
+        assertThat(bitOf(travel)).isEqualTo(1);
+
+        // Well past max-staleness-ms and dictionary-ttl-ms
+        new JdbcTemplate(dataSource).update("UPDATE freed_tag_bits SET freed_at = ? WHERE user_id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusDays(1)), userId);
+        TagDto team = tagService.createTag(userId, TagRequestDto.builder().name("team").build());
+        assertThat(bitOf(team)).isZero();
+    }
+
+    private int bitOf(TagDto tag) {
+        return userTagRepository.findById(tag.getId()).orElseThrow().getBit();
+    }
+
+}
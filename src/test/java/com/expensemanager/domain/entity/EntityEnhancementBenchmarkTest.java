@@ -0,0 +1,238 @@
+package com.expensemanager.domain.entity;
+
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.LatencyStats;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flush time and heap of one transaction holding 10k managed {@link Expense}s, with the entities as
+ * compiled and with Hibernate's build-time bytecode enhancement applied (inline dirty tracking and
+ * lazy attributes, without association management). The enhanced classes are produced here with
+ * the same enhancer the Maven plugin runs. Both variants start from the entities as compiled, which
+ * the benchmark profile writes to {@code target/unenhanced-classes} before the build enhances
+ * {@code target/classes} in place.
+ */
+@Tag("benchmark")
+@Slf4j
+class EntityEnhancementBenchmarkTest {
+
+    private static final int EXPENSES = 10_000;
+    private static final int WARMUP_FLUSHES = 100;
+    private static final int FLUSHES = 300;
+    private static final int BULK_ROUNDS = 5;
+    private static final String ENTITY_PACKAGE = Expense.class.getPackageName() + ".";
+    private static final Path UNENHANCED_CLASSES = unenhancedClasses();
+
+    @Test
+    void compareFlushTimeAndHeapWithAndWithoutEnhancement() throws Exception {
+        assertThat(UNENHANCED_CLASSES).as("entities compiled by the benchmark profile").isDirectory();
+        // Once each first, so that neither variant runs on colder code than the other
+        run(false);
+        run(true);
+        Result plain = run(false);
+        Result enhanced = run(true);
+
+        log.info("{} managed expenses, flush after editing one: plain {} / enhanced {}",
+            EXPENSES, plain.singleEdit().summary(), enhanced.singleEdit().summary());
+        log.info("{} managed expenses, flush after editing all: plain {} / enhanced {}",
+            EXPENSES, plain.bulkEdit().summary(), enhanced.bulkEdit().summary());
+        log.info("Heap held by the loaded persistence context: plain {} KB / enhanced {} KB",
+            plain.heapBytes() / 1024, enhanced.heapBytes() / 1024);
+        assertThat(plain.singleEdit().count()).isEqualTo(FLUSHES);
+        assertThat(enhanced.singleEdit().count()).isEqualTo(FLUSHES);
+    }
+
+    private Result run(boolean enhance) throws Exception {
+        EntityClassLoader loader = new EntityClassLoader(getClass().getClassLoader(), enhance);
+        Class<?> expenseClass = loader.loadClass(Expense.class.getName());
+        Class<?> userClass = loader.loadClass(User.class.getName());
+        assertThat(ManagedEntity.class.isAssignableFrom(expenseClass)).isEqualTo(enhance);
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:enhancement-" + enhance + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Method setDescription = expenseClass.getMethod("setDescription", String.class);
+
+        try (SessionFactory sessionFactory = sessionFactory(loader, dataSource, expenseClass, userClass)) {
+            ExpenseSeeder seeder = new ExpenseSeeder(dataSource);
+            long userId = seeder.createUser("enhancement");
+            List<ExpenseSeeder.Row> rows = new ArrayList<>(EXPENSES);
+            for (int i = 0; i < EXPENSES; i++) {
+                rows.add(new ExpenseSeeder.Row(BigDecimal.valueOf(100 + i % 900, 2), "FOOD",
+                    "Expense " + i, LocalDate.of(2026, 1, 1).plusDays(i % 365), 0));
+            }
+            seeder.insertExpenses(userId, rows);
+
+            // Load once beforehand, so that the database's caches are filled before measuring
+            try (Session session = sessionFactory.openSession()) {
+                assertThat(session.createQuery("from Expense", expenseClass).list()).hasSize(EXPENSES);
+            }
+
+            LatencyStats singleEdit = new LatencyStats(FLUSHES);
+            long heapBytes;
+            try (Session session = sessionFactory.openSession()) {
+                session.beginTransaction();
+                long before = usedHeap();
+                List<?> expenses = session.createQuery("from Expense", expenseClass).list();
+                heapBytes = usedHeap() - before;
+
+                for (int i = 0; i < WARMUP_FLUSHES + FLUSHES; i++) {
+                    setDescription.invoke(expenses.get(i % EXPENSES), "Edited " + i);
+                    long start = System.nanoTime();
+                    session.flush();
+                    if (i >= WARMUP_FLUSHES) {
+                        singleEdit.record(System.nanoTime() - start);
+                    }
+                }
+                session.getTransaction().commit();
+            }
+
+            LatencyStats bulkEdit = new LatencyStats(BULK_ROUNDS);
+            for (int round = 0; round < BULK_ROUNDS; round++) {
+                try (Session session = sessionFactory.openSession()) {
+                    session.beginTransaction();
+                    List<?> expenses = session.createQuery("from Expense", expenseClass).list();
+                    for (Object expense : expenses) {
+                        setDescription.invoke(expense, "Round " + round);
+                    }
+                    long start = System.nanoTime();
+                    session.flush();
+                    bulkEdit.record(System.nanoTime() - start);
+                    session.getTransaction().commit();
+                }
+            }
+            Integer edited = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM expenses WHERE description = ?", Integer.class, "Round " + (BULK_ROUNDS - 1));
+            assertThat(edited).isEqualTo(EXPENSES);
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+            return new Result(singleEdit, bulkEdit, heapBytes);
+        }
+    }
+
+    private static SessionFactory sessionFactory(ClassLoader loader, JdbcDataSource dataSource, Class<?>... entities) {
+        BootstrapServiceRegistry bootstrap = new BootstrapServiceRegistryBuilder().applyClassLoader(loader).build();
+        // Native bootstrap reads no jakarta.persistence data source setting, so the provider is given as is
+        DatasourceConnectionProviderImpl connections = new DatasourceConnectionProviderImpl();
+        connections.setDataSource(dataSource);
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder(bootstrap)
+            .applySetting(AvailableSettings.CONNECTION_PROVIDER, connections)
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+            .applySetting(AvailableSettings.JDBC_TIME_ZONE, "UTC")
+            .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+        MetadataSources sources = new MetadataSources(registry.build());
+        for (Class<?> entity : entities) {
+            sources.addAnnotatedClass(entity);
+        }
+        return sources.buildMetadata().buildSessionFactory();
+    }
+
+    private static Path unenhancedClasses() {
+        try {
+            Path testClasses = Path.of(EntityEnhancementBenchmarkTest.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+            return testClasses.resolveSibling("unenhanced-classes");
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private record Result(LatencyStats singleEdit, LatencyStats bulkEdit, long heapBytes) {
+    }
+
+    /**
+     * Defines the entity classes itself, enhanced or as compiled, so that both variants can be
+     * mapped in one JVM; everything else comes from the parent.
+     */
+    private static final class EntityClassLoader extends ClassLoader {
+
+        private final Enhancer enhancer;
+
+        EntityClassLoader(ClassLoader parent, boolean enhance) {
+            super(parent);
+            this.enhancer = enhance ? new BytecodeProviderImpl().getEnhancer(new DefaultEnhancementContext() {
+                @Override
+                public ClassLoader getLoadingClassLoader() {
+                    return parent;
+                }
+
+                @Override
+                public boolean doBiDirectionalAssociationManagement(UnloadedField field) {
+                    return false;
+                }
+            }) : null;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(ENTITY_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = read(name);
+                    byte[] enhanced = enhancer == null ? null : enhancer.enhance(name, bytes);
+                    if (enhanced != null) {
+                        bytes = enhanced;
+                    }
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] read(String name) throws ClassNotFoundException {
+            Path file = UNENHANCED_CLASSES.resolve(name.replace('.', '/') + ".class");
+            if (!Files.isRegularFile(file)) {
+                throw new ClassNotFoundException(name);
+            }
+            try {
+                return Files.readAllBytes(file);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+}
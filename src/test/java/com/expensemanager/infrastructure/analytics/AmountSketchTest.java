@@ -0,0 +1,153 @@
+package com.expensemanager.infrastructure.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class AmountSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+
+    @Test
+    void quantilesStayWithinRelativeAccuracyAcrossMagnitudes() {
+        Random random = new Random(42);
+        AmountSketch sketch = new AmountSketch();
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            // From 1 minor unit to about 10^9, evenly spread over the orders of magnitude
+            values[i] = Math.max(1, Math.round(Math.pow(10, random.nextDouble() * 9)));
+            sketch.add(values[i], 1);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            long exact = values[(int) Math.floor(q * (values.length - 1))];
+            // Estimates are whole minor units, so small values may also be off by rounding
+            assertThat((double) sketch.quantile(q)).as("quantile %s", q)
+                .isCloseTo(exact, offset(exact * AmountSketch.RELATIVE_ACCURACY + 1));
+        }
+        assertThat(sketch.count()).isEqualTo(values.length);
+        assertThat(sketch.total()).isEqualTo(Arrays.stream(values).sum());
+    }
+
+    @Test
+    void removingEveryValueLeavesAnEmptySketch() {
+        Random random = new Random(7);
+        AmountSketch sketch = new AmountSketch();
+        List<Long> values = randomValues(random, 2_000);
+        values.forEach(value -> sketch.add(value, 1));
+        values.forEach(value -> sketch.add(value, -1));
+
+        assertThat(sketch.count()).isZero();
+        assertThat(sketch.total()).isZero();
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.histogram(10)).isEmpty();
+        assertThat(sketch.encode()).isEqualTo(new AmountSketch().encode());
+    }
+
+    @Test
+    void mergeMatchesAddingEverythingToOneSketch() {
+        Random random = new Random(11);
+        AmountSketch all = new AmountSketch();
+        AmountSketch first = new AmountSketch();
+        AmountSketch second = new AmountSketch();
+        // Disjoint ranges, so the merge has to grow the bucket array on both sides
+        for (long value : randomValues(random, 1_000)) {
+            first.add(value * 1_000, 1);
+            all.add(value * 1_000, 1);
+        }
+        for (long value : randomValues(random, 1_000)) {
+            second.add(value % 100, 1);
+            all.add(value % 100, 1);
+        }
+
+        first.merge(second);
+
+        assertThat(first.encode()).isEqualTo(all.encode());
+        for (double q : QUANTILES) {
+            assertThat(first.quantile(q)).isEqualTo(all.quantile(q));
+        }
+    }
+
+    @Test
+    void negativeDeltaMergesLikeRemovals() {
+        Random random = new Random(13);
+        List<Long> values = randomValues(random, 1_000);
+        AmountSketch base = new AmountSketch();
+        AmountSketch remaining = new AmountSketch();
+        AmountSketch delta = new AmountSketch();
+        for (int i = 0; i < values.size(); i++) {
+            base.add(values.get(i), 1);
+            if (i % 3 == 0) {
+                delta.add(values.get(i), -1);
+            } else {
+                remaining.add(values.get(i), 1);
+            }
+        }
+        // A delta travels encoded, with its negative counts
+        base.merge(AmountSketch.decode(delta.encode()));
+
+        assertThat(base.encode()).isEqualTo(remaining.encode());
+    }
+
+    @Test
+    void decodeOfEncodeIsTheSameSketch() {
+        Random random = new Random(17);
+        AmountSketch sketch = new AmountSketch();
+        randomValues(random, 3_000).forEach(value -> sketch.add(value, 1 + random.nextInt(3)));
+        sketch.add(0, 2);
+
+        AmountSketch decoded = AmountSketch.decode(sketch.encode());
+
+        assertThat(decoded.encode()).isEqualTo(sketch.encode());
+        assertThat(decoded.count()).isEqualTo(sketch.count());
+        assertThat(decoded.total()).isEqualTo(sketch.total());
+        assertThat(decoded.histogram(20)).isEqualTo(sketch.histogram(20));
+        for (double q : QUANTILES) {
+            assertThat(decoded.quantile(q)).isEqualTo(sketch.quantile(q));
+        }
+        assertThat(AmountSketch.decode(null).count()).isZero();
+    }
+
+    @Test
+    void histogramBinsAreOrderedAndHoldEveryValue() {
+        Random random = new Random(19);
+        AmountSketch sketch = new AmountSketch();
+        List<Long> values = randomValues(random, 5_000);
+        values.forEach(value -> sketch.add(value, 1));
+        sketch.add(0, 4);
+
+        for (int bins : new int[] {1, 7, 50}) {
+            List<AmountSketch.Bin> histogram = sketch.histogram(bins);
+            assertThat(histogram.get(0)).isEqualTo(new AmountSketch.Bin(0, 0, 4));
+            // One bin for the zeros, and at most the requested number for the rest
+            assertThat(histogram).hasSizeLessThanOrEqualTo(bins + 1);
+            assertThat(histogram.stream().mapToLong(AmountSketch.Bin::count).sum()).isEqualTo(sketch.count());
+            for (int i = 1; i < histogram.size(); i++) {
+                assertThat(histogram.get(i).lowerBound()).isLessThanOrEqualTo(histogram.get(i).upperBound());
+                assertThat(histogram.get(i).lowerBound()).isGreaterThan(histogram.get(i - 1).upperBound());
+            }
+            for (AmountSketch.Bin bin : histogram) {
+                long inBin = values.stream()
+                    .filter(value -> value >= bin.lowerBound() && value <= bin.upperBound())
+                    .count();
+                assertThat(bin.count()).as("bin %s", bin).isEqualTo(bin.lowerBound() == 0 ? 4 : inBin);
+            }
+        }
+    }
+
+    private static List<Long> randomValues(Random random, int size) {
+        List<Long> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(1 + (long) Math.pow(10, random.nextDouble() * 7));
+        }
+        return values;
+    }
+
+}
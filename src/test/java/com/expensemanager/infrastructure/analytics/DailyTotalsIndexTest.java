@@ -0,0 +1,88 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyTotalsIndexTest {
+
+    private static final int CATEGORIES = ExpenseCategory.values().length;
+    private static final int WINDOW_DAYS = 365;
+
+    @Test
+    void expenseInYearOneStaysSparse() {
+        int today = ExpenseColumns.epochDay(LocalDate.of(2026, 10, 18));
+        int yearOne = ExpenseColumns.epochDay(LocalDate.of(1, 1, 1));
+        DailyTotalsIndex index = new DailyTotalsIndex(today - 30, today, WINDOW_DAYS);
+        long before = index.estimatedBytes();
+
+        index.add(yearOne, 2, 1_500);
+        index.add(today, 2, 250);
+
+        assertThat(index.estimatedBytes() - before).isLessThan(4_096);
+        assertThat(index.total(Integer.MIN_VALUE, Integer.MAX_VALUE, 2)).isEqualTo(1_750);
+        assertThat(index.total(yearOne, yearOne, -1)).isEqualTo(1_500);
+        assertThat(index.total(yearOne + 1, today, -1)).isEqualTo(250);
+    }
+
+    @Test
+    void windowIsBoundedWhenLoadedFromFarBack() {
+        int today = ExpenseColumns.epochDay(LocalDate.of(2026, 10, 18));
+        DailyTotalsIndex index = new DailyTotalsIndex(ExpenseColumns.epochDay(LocalDate.of(1, 1, 1)), today, WINDOW_DAYS);
+
+        assertThat(index.estimatedBytes()).isLessThan(2L * CATEGORIES * (WINDOW_DAYS + 100) * Long.BYTES);
+    }
+
+    @Test
+    void matchesBruteForceAcrossWindowMovesAndSparseDays() {
+        Random random = new Random(42);
+        int start = ExpenseColumns.epochDay(LocalDate.of(2020, 1, 1));
+        DailyTotalsIndex index = new DailyTotalsIndex(start, start + 100, WINDOW_DAYS);
+        TreeMap<Integer, long[]> expected = new TreeMap<>();
+        int latest = start + 100;
+
+        for (int i = 0; i < 5_000; i++) {
+            // Mostly recent days, drifting forward so the window spills into the sparse days,
+            // with some far back-dated ones
+            int day = random.nextInt(10) == 0
+                ? start - random.nextInt(5_000)
+                : latest - random.nextInt(200);
+            if (random.nextInt(20) == 0) {
+                latest += random.nextInt(30);
+            }
+            int category = random.nextInt(CATEGORIES);
+            long amount = random.nextInt(10_000) - 2_000;
+            index.add(day, category, amount);
+            expected.computeIfAbsent(day, d -> new long[CATEGORIES])[category] += amount;
+
+            if (i % 50 == 0) {
+                int from = start - random.nextInt(6_000);
+                int to = from + random.nextInt(8_000);
+                int queried = random.nextInt(CATEGORIES + 1) - 1;
+                assertThat(index.total(from, to, queried)).isEqualTo(bruteForce(expected, from, to, queried));
+                assertThat(index.categoryTotals(from, to)[CATEGORIES - 1])
+                    .isEqualTo(bruteForce(expected, from, to, CATEGORIES - 1));
+            }
+        }
+        assertThat(index.total(Integer.MIN_VALUE, Integer.MAX_VALUE, -1))
+            .isEqualTo(bruteForce(expected, Integer.MIN_VALUE, Integer.MAX_VALUE, -1));
+    }
+
+    private static long bruteForce(TreeMap<Integer, long[]> totals, int from, int to, int category) {
+        long sum = 0;
+        for (long[] day : totals.subMap(from, true, to, true).values()) {
+            for (int c = 0; c < CATEGORIES; c++) {
+                if (category < 0 || c == category) {
+                    sum += day[c];
+                }
+            }
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.expensemanager.infrastructure.analytics;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.infrastructure.tags.TagFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseColumnsTest {
+
+    private static final int CATEGORIES = ExpenseCategory.values().length;
+    private static final int DAYS = 60;
+
+    private record Row(long id, long amount, int day, byte category, long tagMask) {
+    }
+
+    @Test
+    void topIdsReturnsEveryRowWhenLimitExceedsRows() {
+        ExpenseColumns columns = new ExpenseColumns(0);
+        columns.append(1, 300, 10, (byte) 0, 0);
+        columns.append(2, 100, 10, (byte) 1, 0);
+        columns.append(3, 200, 11, (byte) 0, 0);
+
+        assertThat(columns.topIds(10, 0, 20, -1)).containsExactly(1, 3, 2);
+        assertThat(columns.topIds(10, 0, 20, 0)).containsExactly(1, 3);
+        assertThat(columns.topIds(10, 11, 11, -1)).containsExactly(3);
+        assertThat(columns.topIds(10, 12, 20, -1)).isEmpty();
+        assertThat(columns.topIds(0, 0, 20, -1)).isEmpty();
+    }
+
+    @Test
+    void removeFallsBackToFullScanWhenDayHintIsWrong() {
+        ExpenseColumns columns = new ExpenseColumns(0);
+        columns.append(1, 300, 10, (byte) 0, 0);
+        columns.append(2, 100, 12, (byte) 0, 0);
+
+        assertThat(columns.remove(2, 10)).isTrue();
+        assertThat(columns.remove(2, 12)).isFalse();
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(columns.total(0, 20, -1)).isEqualTo(300);
+    }
+
+    @Test
+    void matchesBruteForceAcrossUpsertsRemovesAndDayMoves() {
+        Random random = new Random(42);
+        ExpenseColumns columns = new ExpenseColumns(0);
+        Map<Long, Row> expected = new HashMap<>();
+
+        // Initial load in (day, id) order, as the store does
+        List<Row> initial = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            initial.add(randomRow(random, id));
+        }
+        initial.sort(Comparator.comparingInt(Row::day).thenComparingLong(Row::id));
+        for (Row row : initial) {
+            columns.append(row.id(), row.amount(), row.day(), row.category(), row.tagMask());
+            expected.put(row.id(), row);
+        }
+
+        long nextId = 201;
+        for (int i = 0; i < 5_000; i++) {
+            int action = random.nextInt(10);
+            if (action < 4 || expected.isEmpty()) {
+                // New row, sometimes with an ID below existing ones on the same day
+                Row row = randomRow(random, random.nextInt(4) == 0 ? -nextId : nextId);
+                nextId++;
+                columns.upsert(row.id(), row.amount(), row.day(), row.category(), row.tagMask());
+                expected.put(row.id(), row);
+            } else if (action < 8) {
+                // Edit of an existing row, moving it to another day half of the time
+                Row old = anyRow(random, expected);
+                Row row = random.nextBoolean()
+                    ? randomRow(random, old.id())
+                    : new Row(old.id(), random.nextInt(50_000), old.day(), old.category(), random.nextInt(16));
+                columns.upsert(row.id(), row.amount(), row.day(), row.category(), row.tagMask());
+                expected.put(row.id(), row);
+            } else {
+                // Removal, with the current day or, like a stale event, a wrong one
+                Row old = anyRow(random, expected);
+                int hint = random.nextBoolean() ? old.day() : random.nextInt(DAYS);
+                assertThat(columns.remove(old.id(), hint)).isTrue();
+                expected.remove(old.id());
+            }
+
+            if (i % 25 == 0) {
+                assertMatches(columns, expected, random);
+            }
+        }
+        assertThat(columns.size()).isEqualTo(expected.size());
+        assertMatches(columns, expected, random);
+    }
+
+    private static void assertMatches(ExpenseColumns columns, Map<Long, Row> expected, Random random) {
+        int from = random.nextInt(DAYS + 10) - 5;
+        int to = from + random.nextInt(DAYS);
+        int category = random.nextInt(CATEGORIES + 1) - 1;
+        TagFilter tags = new TagFilter(random.nextInt(4), random.nextInt(16), random.nextInt(4) << 2);
+        List<Row> inRange = expected.values().stream()
+            .filter(row -> row.day() >= from && row.day() <= to)
+            .toList();
+
+        assertThat(columns.total(from, to, category)).isEqualTo(inRange.stream()
+            .filter(row -> category < 0 || row.category() == category)
+            .mapToLong(Row::amount)
+            .sum());
+        assertThat(columns.categoryTotals(from, to)).containsExactly(categoryTotals(inRange, TagFilter.NONE));
+        assertThat(columns.categoryTotals(from, to, tags)).containsExactly(categoryTotals(inRange, tags));
+
+        int limit = 1 + random.nextInt(random.nextBoolean() ? 10 : inRange.size() + 10);
+        List<Row> candidates = inRange.stream()
+            .filter(row -> category < 0 || row.category() == category)
+            .toList();
+        long[] top = columns.topIds(limit, from, to, category);
+        // Ties may come back in any order, so compare the amounts and check the IDs qualify
+        assertThat(top).doesNotHaveDuplicates();
+        for (long id : top) {
+            assertThat(candidates).contains(expected.get(id));
+        }
+        assertThat(Arrays.stream(top).map(id -> expected.get(id).amount()).toArray())
+            .containsExactly(candidates.stream()
+                .mapToLong(Row::amount)
+                .boxed()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .mapToLong(Long::longValue)
+                .toArray());
+    }
+
+    private static long[] categoryTotals(List<Row> rows, TagFilter tags) {
+        long[] totals = new long[CATEGORIES];
+        for (Row row : rows) {
+            if (tags.matches(row.tagMask())) {
+                totals[row.category()] += row.amount();
+            }
+        }
+        return totals;
+    }
+
+    private static Row randomRow(Random random, long id) {
+        // Few distinct amounts and days, so ties and shared days are common
+        return new Row(id, random.nextInt(500) * 100L, random.nextInt(DAYS),
+            (byte) random.nextInt(CATEGORIES), random.nextInt(16));
+    }
+
+    private static Row anyRow(Random random, Map<Long, Row> rows) {
+        return rows.values().stream().skip(random.nextInt(rows.size())).findFirst().orElseThrow();
+    }
+
+}
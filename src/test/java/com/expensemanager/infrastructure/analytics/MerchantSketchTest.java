@@ -0,0 +1,121 @@
+package com.expensemanager.infrastructure.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantSketchTest {
+
+    private static final int CAPACITY = 20;
+    private static final int MERCHANTS = 500;
+
+    @Test
+    void decodeOfEncodeKeepsRankingsAndCount() {
+        MerchantSketch sketch = new MerchantSketch(CAPACITY);
+        fill(sketch, new Exact(), new Random(1), 5_000);
+        sketch.add(null, 1_000, 3);
+
+        MerchantSketch decoded = MerchantSketch.decode(sketch.encode());
+
+        assertThat(decoded.capacity()).isEqualTo(CAPACITY);
+        assertThat(decoded.count()).isEqualTo(5_003);
+        assertThat(decoded.topByFrequency(CAPACITY)).isEqualTo(sketch.topByFrequency(CAPACITY));
+        assertThat(decoded.topBySpend(CAPACITY)).isEqualTo(sketch.topBySpend(CAPACITY));
+    }
+
+    @Test
+    void fullSketchNeverUnderstatesAndKeepsHeavyHitters() {
+        MerchantSketch sketch = new MerchantSketch(CAPACITY);
+        Exact exact = new Exact();
+        fill(sketch, exact, new Random(2), 20_000);
+
+        assertThat(sketch.topByFrequency(CAPACITY)).hasSize(CAPACITY);
+        assertGuarantees(sketch, exact);
+    }
+
+    @Test
+    void mergingTwoFullSketchesKeepsTheGuarantees() {
+        MerchantSketch first = new MerchantSketch(CAPACITY);
+        MerchantSketch second = new MerchantSketch(CAPACITY);
+        Exact exact = new Exact();
+        fill(first, exact, new Random(3), 10_000);
+        // A different popularity order, so the two summaries track different merchants
+        fill(second, exact, new Random(4), 10_000, rank -> MERCHANTS - 1 - rank);
+        assertThat(first.topByFrequency(CAPACITY)).hasSize(CAPACITY);
+        assertThat(second.topByFrequency(CAPACITY)).hasSize(CAPACITY);
+
+        first.merge(second);
+
+        assertThat(first.count()).isEqualTo(20_000);
+        assertThat(first.topByFrequency(Integer.MAX_VALUE)).hasSizeLessThanOrEqualTo(CAPACITY);
+        assertGuarantees(first, exact);
+    }
+
+    private static void assertGuarantees(MerchantSketch sketch, Exact exact) {
+        List<MerchantSketch.Merchant> byFrequency = sketch.topByFrequency(CAPACITY);
+        List<MerchantSketch.Merchant> bySpend = sketch.topBySpend(CAPACITY);
+        for (MerchantSketch.Merchant merchant : byFrequency) {
+            long count = exact.counts.get(merchant.name());
+            assertThat(merchant.count()).as(merchant.name()).isGreaterThanOrEqualTo(count);
+            if (merchant.exact()) {
+                assertThat(merchant.count()).as(merchant.name()).isEqualTo(count);
+            }
+        }
+        for (MerchantSketch.Merchant merchant : bySpend) {
+            long total = exact.totals.get(merchant.name());
+            assertThat(merchant.total()).as(merchant.name()).isGreaterThanOrEqualTo(total);
+            if (merchant.exact()) {
+                assertThat(merchant.total()).as(merchant.name()).isEqualTo(total);
+            }
+        }
+
+        Map<String, MerchantSketch.Merchant> frequent = byName(byFrequency);
+        Map<String, MerchantSketch.Merchant> spent = byName(bySpend);
+        long totalCount = exact.counts.values().stream().mapToLong(Long::longValue).sum();
+        long totalSpend = exact.totals.values().stream().mapToLong(Long::longValue).sum();
+        exact.counts.forEach((merchant, count) -> {
+            if (count * CAPACITY > totalCount) {
+                assertThat(frequent).as("frequent merchants").containsKey(merchant);
+            }
+        });
+        exact.totals.forEach((merchant, total) -> {
+            if (total * CAPACITY > totalSpend) {
+                assertThat(spent).as("merchants by spend").containsKey(merchant);
+            }
+        });
+    }
+
+    private static void fill(MerchantSketch sketch, Exact exact, Random random, int expenses) {
+        fill(sketch, exact, random, expenses, Function.identity());
+    }
+
+    private static void fill(MerchantSketch sketch, Exact exact, Random random, int expenses,
+                             Function<Integer, Integer> merchantOfRank) {
+        for (int i = 0; i < expenses; i++) {
+            // Skewed towards low ranks, with a long tail well past the capacity
+            int rank = (int) (MERCHANTS * Math.pow(random.nextDouble(), 4));
+            String merchant = "merchant " + merchantOfRank.apply(rank);
+            long minorUnits = 100 + random.nextInt(10_000);
+            sketch.add(merchant, minorUnits, 1);
+            exact.counts.merge(merchant, 1L, Long::sum);
+            exact.totals.merge(merchant, minorUnits, Long::sum);
+        }
+    }
+
+    private static Map<String, MerchantSketch.Merchant> byName(List<MerchantSketch.Merchant> merchants) {
+        return merchants.stream().collect(Collectors.toMap(MerchantSketch.Merchant::name, Function.identity()));
+    }
+
+    private static final class Exact {
+        final Map<String, Long> counts = new HashMap<>();
+        final Map<String, Long> totals = new HashMap<>();
+    }
+
+}
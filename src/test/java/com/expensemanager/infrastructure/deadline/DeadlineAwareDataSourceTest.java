@@ -0,0 +1,77 @@
+package com.expensemanager.infrastructure.deadline;
+
+import com.expensemanager.api.exception.DeadlineExceededException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineAwareDataSourceTest {
+
+    private final DeadlineAwareDataSource dataSource = new DeadlineAwareDataSource(h2());
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void statementsGetTheRemainingTimeRoundedUpToSeconds() throws Exception {
+        RequestDeadline.start(2_500);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             PreparedStatement prepared = connection.prepareStatement("SELECT 1")) {
+            assertThat(statement.getQueryTimeout()).isEqualTo(3);
+            assertThat(prepared.getQueryTimeout()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void laterTimeoutsAreClampedToTheDeadline() throws Exception {
+        RequestDeadline.start(2_500);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(60);
+            assertThat(statement.getQueryTimeout()).isEqualTo(3);
+            statement.setQueryTimeout(1);
+            assertThat(statement.getQueryTimeout()).isEqualTo(1);
+            // Zero means no timeout, which the deadline does not allow
+            statement.setQueryTimeout(0);
+            assertThat(statement.getQueryTimeout()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void connectionsAreUntouchedWithoutADeadline() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(statement.getQueryTimeout()).isZero();
+            statement.setQueryTimeout(60);
+            assertThat(statement.getQueryTimeout()).isEqualTo(60);
+        }
+    }
+
+    @Test
+    void nothingIsSentOnceTheDeadlineHasPassed() throws Exception {
+        RequestDeadline.start(20);
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(40);
+            assertThatThrownBy(() -> connection.prepareStatement("SELECT 1"))
+                .isInstanceOf(DeadlineExceededException.class);
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(DeadlineExceededException.class);
+        }
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:deadline-test");
+        return h2;
+    }
+
+}
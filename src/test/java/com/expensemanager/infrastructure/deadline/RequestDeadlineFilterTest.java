@@ -0,0 +1,62 @@
+package com.expensemanager.infrastructure.deadline;
+
+import com.expensemanager.infrastructure.config.DeadlineProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RequestDeadlineFilterTest {
+
+    @Test
+    void budgetComesFromHeaderThenEndpointThenDefault() throws Exception {
+        RequestDeadlineFilter filter = new RequestDeadlineFilter(properties());
+
+        assertThat(budgetOf(filter, "/expenses", "2000")).isCloseTo(2_000, within(100L));
+        assertThat(budgetOf(filter, "/analytics/summary", null)).isCloseTo(5_000, within(100L));
+        assertThat(budgetOf(filter, "/expenses", null)).isCloseTo(10_000, within(100L));
+        // An unusable header falls back to the configuration
+        assertThat(budgetOf(filter, "/analytics/summary", "soon")).isCloseTo(5_000, within(100L));
+        assertThat(budgetOf(filter, "/expenses", "0")).isCloseTo(10_000, within(100L));
+        assertThat(RequestDeadline.isActive()).isFalse();
+    }
+
+    @Test
+    void everyBudgetIsCappedAtTheMaximum() throws Exception {
+        DeadlineProperties properties = properties();
+        properties.setMaxMs(3_000);
+        RequestDeadlineFilter filter = new RequestDeadlineFilter(properties);
+
+        assertThat(budgetOf(filter, "/expenses", "600000")).isCloseTo(3_000, within(100L));
+        assertThat(budgetOf(filter, "/analytics/summary", null)).isCloseTo(3_000, within(100L));
+        assertThat(budgetOf(filter, "/expenses", null)).isCloseTo(3_000, within(100L));
+    }
+
+    private static DeadlineProperties properties() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultMs(10_000);
+        properties.getEndpoints().put("/analytics/**", 5_000L);
+        return properties;
+    }
+
+    /**
+     * Run a request through the filter and return the budget the rest of the chain saw.
+     */
+    private static long budgetOf(RequestDeadlineFilter filter, String path, String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (header != null) {
+            request.addHeader("X-Request-Timeout", header);
+        }
+        AtomicLong remaining = new AtomicLong();
+        FilterChain chain = (req, res) -> remaining.set(RequestDeadline.remainingMillis());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return remaining.get();
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.expensemanager.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(new ObjectMapper(), 60_000, 100, 1_000);
+
+    @Test
+    void replaysTheStoredResponse() {
+        Map<String, String> request = Map.of("amount", "10");
+        assertThat(store.execute("key", request, String.class, () -> "first"))
+            .isEqualTo(new IdempotentResult<>("first", false));
+        assertThat(store.execute("key", request, String.class, () -> "second"))
+            .isEqualTo(new IdempotentResult<>("first", true));
+    }
+
+    @Test
+    void releasesTheKeyWhenTheActionThrowsAnError() {
+        Map<String, String> request = Map.of("amount", "10");
+        assertThatThrownBy(() -> store.execute("key", request, String.class, () -> {
+            throw new StackOverflowError("action failed");
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(store.execute("key", request, String.class, () -> "retried"))
+            .isEqualTo(new IdempotentResult<>("retried", false));
+    }
+
+}
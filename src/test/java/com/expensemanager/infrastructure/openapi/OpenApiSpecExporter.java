@@ -0,0 +1,99 @@
+package com.expensemanager.infrastructure.openapi;
+
+import com.expensemanager.ExpenseManagerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build-time generator for the static OpenAPI spec. Boots the application on a random port against the
+ * in-memory test database, fetches the spec springdoc builds, and writes {@code openapi.json} plus a
+ * gzip-precompressed copy to the given directory. Run by the Maven build in the prepare-package phase,
+ * on the test classpath, so that it is not packaged into the application jar.
+ */
+@Slf4j
+public final class OpenApiSpecExporter {
+
+    private static final String SPEC_FILE = "openapi.json";
+
+    private OpenApiSpecExporter() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: OpenApiSpecExporter <output-directory>");
+        }
+        Path outputDirectory = Path.of(args[0]);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpenseManagerApplication.class)
+            .run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--springdoc.api-docs.enabled=true",
+                "--app.warmup.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.expensemanager=WARN",
+                "--logging.level.com.expensemanager.infrastructure.openapi=INFO",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.security=WARN"
+            );
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            byte[] spec = normalize(fetch(URI.create("http://localhost:" + port + contextPath + "/v3/api-docs")),
+                contextPath);
+            write(outputDirectory, spec);
+            log.info("Wrote OpenAPI spec ({} bytes) to {}", spec.length, outputDirectory.resolve(SPEC_FILE));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static byte[] fetch(URI uri) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+            .send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    /**
+     * springdoc derives the server URL from the request; replace the build host with the context path.
+     */
+    private static byte[] normalize(byte[] spec, String contextPath) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = (ObjectNode) objectMapper.readTree(spec);
+        root.putArray("servers").addObject()
+            .put("url", contextPath.isEmpty() ? "/" : contextPath)
+            .put("description", "Generated at build time");
+        return objectMapper.writeValueAsBytes(root);
+    }
+
+    private static void write(Path outputDirectory, byte[] spec) throws IOException {
+        Files.createDirectories(outputDirectory);
+        Files.write(outputDirectory.resolve(SPEC_FILE), spec);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(outputDirectory.resolve(SPEC_FILE + ".gz"))) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(spec);
+        }
+    }
+}
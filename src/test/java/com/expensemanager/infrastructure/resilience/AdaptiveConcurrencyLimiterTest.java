@@ -0,0 +1,90 @@
+package com.expensemanager.infrastructure.resilience;
+
+import com.expensemanager.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+    @Test
+    void limitGrowsWhileLatencyStaysAtItsBaseline() {
+        double initial = limiter.getLimit();
+
+        completeAtLimit(BASELINE_RTT, 100);
+
+        assertThat(limiter.getLimit()).isGreaterThan(initial);
+    }
+
+    @Test
+    void limitShrinksAsLatencyRises() {
+        completeAtLimit(BASELINE_RTT, 100);
+        double beforeQueueing = limiter.getLimit();
+
+        double previous = beforeQueueing;
+        for (int step = 1; step <= 5; step++) {
+            // Requests queue up: each step takes twice as long as the one before
+            completeAtLimit(BASELINE_RTT << step, 20);
+            assertThat(limiter.getLimit()).as("limit after step %d", step).isLessThan(previous);
+            previous = limiter.getLimit();
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(beforeQueueing / 2)
+            .isGreaterThanOrEqualTo(properties.getMinLimit());
+    }
+
+    @Test
+    void failedRequestsCutTheLimit() {
+        double initial = limiter.getLimit();
+        assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.HIGH)).isTrue();
+
+        limiter.release(BASELINE_RTT, true);
+
+        assertThat(limiter.getLimit()).isLessThan(initial);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void lowPriorityRequestsOnlyGetTheirShare() {
+        int limit = (int) limiter.getLimit();
+        int lowShare = (int) (limit * properties.getLowPriorityShare());
+        for (int i = 0; i < lowShare; i++) {
+            assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.LOW)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.LOW)).isFalse();
+        for (int i = lowShare; i < limit; i++) {
+            assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.HIGH)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.HIGH)).isFalse();
+
+        assertThat(limiter.getInFlight()).isEqualTo(limit);
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("priority", "low").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("priority", "high").counter().count())
+            .isEqualTo(1);
+    }
+
+    /**
+     * Complete requests with the given latency while keeping the limiter full, so that each sample
+     * counts as a signal about the current limit.
+     */
+    private void completeAtLimit(long rttNanos, int completions) {
+        for (int i = 0; i < completions; i++) {
+            while (limiter.getInFlight() < (int) limiter.getLimit()) {
+                limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.HIGH);
+            }
+            limiter.release(rttNanos, false);
+        }
+    }
+
+}
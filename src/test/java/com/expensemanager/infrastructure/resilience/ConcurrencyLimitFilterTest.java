@@ -0,0 +1,47 @@
+package com.expensemanager.infrastructure.resilience;
+
+import com.expensemanager.infrastructure.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void shedsLowPriorityPathsFirst() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setLowPriorityPaths(List.of("/api/reports/**"));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, properties,
+            JsonMapper.builder().findAndAddModules().build());
+        // Use up the low-priority share
+        while (limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.LOW)) {
+            // keep acquiring
+        }
+        int inFlight = limiter.getInFlight();
+
+        MockHttpServletResponse report = perform(filter, "/api/reports");
+        MockHttpServletResponse expenses = perform(filter, "/api/expenses");
+
+        assertThat(report.getStatus()).isEqualTo(503);
+        assertThat(report.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(expenses.getStatus()).isEqualTo(200);
+        assertThat(limiter.getInFlight()).isEqualTo(inFlight);
+    }
+
+    private static MockHttpServletResponse perform(ConcurrencyLimitFilter filter, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+}
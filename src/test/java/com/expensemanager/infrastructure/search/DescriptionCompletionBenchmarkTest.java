@@ -0,0 +1,124 @@
+package com.expensemanager.infrastructure.search;
+
+import com.expensemanager.domain.enums.ExpenseCategory;
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import com.expensemanager.support.LatencyStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@link DescriptionCompletionStore#suggest} for users with many distinct descriptions:
+ * on a warm trie, as every keystroke after the first sees it, and on a cold one, where the first
+ * keystroke builds the trie on the request thread.
+ */
+@Tag("benchmark")
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class DescriptionCompletionBenchmarkTest {
+
+    // Each trie takes about 2 MB, so all of them stay within the 16 MB budget of application.yml
+    private static final int USERS = 4;
+    private static final int EXPENSES_PER_USER = 20_000;
+    private static final int DISTINCT_DESCRIPTIONS = 5_000;
+    private static final int WARMUP_LOOKUPS = 100_000;
+    private static final int LOOKUPS = 200_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final List<String> WORDS = List.of("coffee", "corner", "grocery", "green", "train", "taxi",
+        "cinema", "city", "rent", "restaurant", "pharmacy", "parking", "bakery", "book", "gym", "gift");
+    // The goal is sub-millisecond; a warm lookup is expected to take microseconds
+    private static final long MAX_WARM_P99_NANOS = 1_000_000;
+
+    @Autowired
+    private DescriptionCompletionStore store;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<String> descriptions = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        Random random = new Random(42);
+        for (int i = 0; i < DISTINCT_DESCRIPTIONS; i++) {
+            descriptions.add(WORDS.get(random.nextInt(WORDS.size())) + " "
+                + WORDS.get(random.nextInt(WORDS.size())) + " " + i);
+        }
+        ExpenseSeeder seeder = new ExpenseSeeder(dataSource);
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        for (int u = 0; u < USERS; u++) {
+            long userId = seeder.createUser("autocomplete-benchmark-" + u + "-" + System.nanoTime());
+            List<ExpenseSeeder.Row> rows = new ArrayList<>(EXPENSES_PER_USER);
+            for (int i = 0; i < EXPENSES_PER_USER; i++) {
+                // Every description at least once, then skewed towards the first ones
+                int description = i < DISTINCT_DESCRIPTIONS
+                    ? i
+                    : (int) (DISTINCT_DESCRIPTIONS * Math.pow(random.nextDouble(), 3));
+                rows.add(new ExpenseSeeder.Row(
+                    BigDecimal.valueOf(100 + random.nextInt(10_000), 2),
+                    categories[random.nextInt(categories.length)].name(),
+                    descriptions.get(description),
+                    FIRST_DAY.plusDays(random.nextInt(365)),
+                    0));
+            }
+            seeder.insertExpenses(userId, rows);
+            userIds.add(userId);
+        }
+    }
+
+    @Test
+    void suggestionsStaySubMillisecondOnAWarmTrie() {
+        // The first user's build also warms up the query path, so it is left out of the cold numbers
+        store.suggest(userIds.get(0), "c", DescriptionTrie.MAX_SUGGESTIONS);
+        LatencyStats cold = new LatencyStats(USERS - 1);
+        for (Long userId : userIds.subList(1, USERS)) {
+            long before = System.nanoTime();
+            List<DescriptionTrie.Suggestion> suggestions = store.suggest(userId, "c", DescriptionTrie.MAX_SUGGESTIONS);
+            cold.record(System.nanoTime() - before);
+            assertThat(suggestions).hasSize(DescriptionTrie.MAX_SUGGESTIONS);
+        }
+        log.info("suggest, cold (builds a trie of {} descriptions, ~{} KB, from {} expenses): {}",
+            DISTINCT_DESCRIPTIONS, store.find(userIds.get(0)).orElseThrow().estimatedBytes() / 1_024,
+            EXPENSES_PER_USER, cold.summary());
+
+        Random random = new Random(7);
+        lookUp(random, WARMUP_LOOKUPS, new LatencyStats(WARMUP_LOOKUPS));
+        LatencyStats warm = new LatencyStats(LOOKUPS);
+        lookUp(random, LOOKUPS, warm);
+
+        log.info("suggest, warm, prefixes of 1 to 12 characters: {}", warm.summary());
+        assertThat(warm.percentile(99)).isLessThan(MAX_WARM_P99_NANOS);
+    }
+
+    private void lookUp(Random random, int lookups, LatencyStats stats) {
+        for (int i = 0; i < lookups; i++) {
+            Long userId = userIds.get(random.nextInt(USERS));
+            String description = descriptions.get(random.nextInt(DISTINCT_DESCRIPTIONS));
+            String prefix = description.substring(0, 1 + random.nextInt(Math.min(12, description.length())))
+                .toUpperCase(Locale.ROOT);
+            long before = System.nanoTime();
+            List<DescriptionTrie.Suggestion> suggestions = store.suggest(userId, prefix, DescriptionTrie.MAX_SUGGESTIONS);
+            stats.record(System.nanoTime() - before);
+            if (suggestions.isEmpty()) {
+                throw new AssertionError("No suggestion for " + prefix);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.expensemanager.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescriptionTrieTest {
+
+    @Test
+    void prunesDescriptionsDecrementedToZero() {
+        DescriptionTrie trie = new DescriptionTrie();
+        long empty = trie.estimatedBytes();
+        trie.add(" Coffee ", 2);
+        trie.add("Cola", 1);
+
+        // Removals keep the spelling of the last use
+        trie.add("coffee", -1);
+        assertThat(trie.suggest("cof", 10)).containsExactly(new DescriptionTrie.Suggestion("Coffee", 1));
+
+        trie.add("Coffee", -1);
+        assertThat(trie.suggest("cof", 10)).isEmpty();
+        assertThat(trie.suggest("co", 10)).containsExactly(new DescriptionTrie.Suggestion("Cola", 1));
+
+        trie.add("Cola", -5);
+        assertThat(trie.suggest("", 10)).isEmpty();
+        assertThat(trie.estimatedBytes()).isEqualTo(empty);
+    }
+
+    @Test
+    void ranksByFrequencyAndShowsTheLatestSpelling() {
+        DescriptionTrie trie = new DescriptionTrie();
+        trie.add("Rent", 1);
+        trie.add("RESTAURANT", 1);
+        trie.add("Restaurant!", 2);
+
+        assertThat(trie.suggest("re", 10)).containsExactly(
+            new DescriptionTrie.Suggestion("Restaurant!", 3),
+            new DescriptionTrie.Suggestion("Rent", 1));
+    }
+
+    @Test
+    void refillsCachedSuggestionsAfterRemovals() {
+        DescriptionTrie trie = new DescriptionTrie();
+        // More descriptions than a node caches, with counts 1 to 15
+        for (int i = 1; i <= 15; i++) {
+            trie.add("Shop " + (char) ('a' + i - 1), i);
+        }
+        assertThat(counts(trie.suggest("shop", 10))).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+
+        // The evicted descriptions come back from the children's caches
+        for (int i = 15; i > 6; i--) {
+            trie.add("Shop " + (char) ('a' + i - 1), -i);
+        }
+        trie.add("Shop c", -1);
+        assertThat(counts(trie.suggest("shop", 10))).containsExactly(6L, 5L, 4L, 2L, 2L, 1L);
+        assertThat(trie.suggest("s", 10).get(0).description()).isEqualTo("Shop f");
+        assertThat(trie.suggest("shop o", 10)).isEmpty();
+
+        trie.add("Shop a", 9);
+        assertThat(trie.suggest("", 3)).extracting(DescriptionTrie.Suggestion::description)
+            .containsExactly("Shop a", "Shop f", "Shop e");
+    }
+
+    private static List<Long> counts(List<DescriptionTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(DescriptionTrie.Suggestion::count).toList();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.expensemanager.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedTextIndexTest {
+
+    @Test
+    void matchesQueryWordsAsPrefixesAndRanksExactMatchesFirst() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.put(1, "Coffee beans");
+        index.put(2, "Cof");
+        index.put(3, "Tea");
+
+        assertThat(ids(index.search("cof", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("COFFEE", 10))).containsExactly(1L);
+        assertThat(index.search("coffees", 10)).isEmpty();
+    }
+
+    @Test
+    void requiresEveryQueryWord() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.put(1, "Coffee at the airport");
+        index.put(2, "Coffee at home");
+        index.put(3, "Airport parking");
+
+        assertThat(ids(index.search("coffee airport", 10))).containsExactly(1L);
+        assertThat(ids(index.search("air cof", 10))).containsExactly(1L);
+        assertThat(index.search("coffee parking", 10)).isEmpty();
+    }
+
+    @Test
+    void escapesSnippetsAndMarksMatchedWords() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.put(1, "Tom & Jerry's <b>Coffee</b> \"bar\"");
+
+        List<TextSearchHit> hits = index.search("cof", 10);
+
+        assertThat(hits).singleElement().extracting(TextSearchHit::snippet)
+            .isEqualTo("Tom &amp; Jerry&#39;s &lt;b&gt;<mark>Coffee</mark>&lt;/b&gt; &quot;bar&quot;");
+    }
+
+    @Test
+    void forgetsReplacedAndRemovedDescriptions() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        long empty = index.estimatedBytes();
+        index.put(1, "Coffee");
+        index.put(1, "Groceries");
+
+        assertThat(index.search("coffee", 10)).isEmpty();
+        assertThat(ids(index.search("groc", 10))).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.search("groc", 10)).isEmpty();
+        assertThat(index.estimatedBytes()).isEqualTo(empty);
+    }
+
+    private static List<Long> ids(List<TextSearchHit> hits) {
+        return hits.stream().map(TextSearchHit::expenseId).toList();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.support.ExpenseSeeder;
+import com.expensemanager.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Health stays public for probes; metrics, which include the connection pools, are for administrators only.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "app.jwt.secret=actuator-test-secret-long-enough-for-hs512-actuator-test-secret-x")
+@AutoConfigureMockMvc
+class ActuatorAccessTest {
+
+    private static final String POOL_METRIC = "/actuator/metrics/hikaricp.connections.active";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void onlyAdministratorsReadMetrics() throws Exception {
+        ExpenseSeeder seeder = new ExpenseSeeder(dataSource);
+        String user = "actuator-user-" + System.nanoTime();
+        String admin = "actuator-admin-" + System.nanoTime();
+        long userId = seeder.createUser(user);
+        long adminId = seeder.createUser(admin);
+        new JdbcTemplate(dataSource).update("UPDATE users SET role = 'ADMIN' WHERE id = ?", adminId);
+
+        mockMvc.perform(get("/actuator/health/liveness"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(POOL_METRIC))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get(POOL_METRIC).header(HttpHeaders.AUTHORIZATION, bearer(userId, user)))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get(POOL_METRIC).header(HttpHeaders.AUTHORIZATION, bearer(adminId, admin)))
+            .andExpect(status().isOk());
+    }
+
+    private String bearer(long userId, String username) {
+        return "Bearer " + jwtTokenProvider.generateToken(userId, username);
+    }
+
+}
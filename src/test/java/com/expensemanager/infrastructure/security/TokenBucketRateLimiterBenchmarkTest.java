@@ -0,0 +1,114 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.infrastructure.config.RateLimitProperties;
+import com.expensemanager.support.LatencyStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@link TokenBucketRateLimiter#tryAcquire} with many threads, against per-user buckets
+ * and against one contended bucket, configured like application.yml.
+ */
+@Tag("benchmark")
+@Slf4j
+class TokenBucketRateLimiterBenchmarkTest {
+
+    private static final int THREADS = Math.max(16, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int WARMUP_CALLS_PER_THREAD = 50_000;
+    private static final int CALLS_PER_THREAD = 100_000;
+    // Far above the expected microsecond; a request costs milliseconds
+    private static final long MAX_P99_NANOS = 100_000;
+
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getClasses().put("heavy", budget(20, 1, List.of("/expenses/range", "/analytics/**")));
+        properties.getClasses().put(RateLimitProperties.DEFAULT_CLASS, budget(120, 20, List.of()));
+        limiter = new TokenBucketRateLimiter(properties);
+    }
+
+    @Test
+    void perUserBucketsStayFastUnderConcurrency() throws InterruptedException {
+        run(thread -> 1_000L + thread, "/expenses", WARMUP_CALLS_PER_THREAD, new AtomicLong());
+        AtomicLong allowed = new AtomicLong();
+        LatencyStats stats = run(thread -> 1_000L + thread, "/expenses", CALLS_PER_THREAD, allowed);
+
+        log.info("tryAcquire, {} threads, one bucket per thread: {}", THREADS, stats.summary());
+        assertThat(stats.percentile(99)).isLessThan(MAX_P99_NANOS);
+    }
+
+    @Test
+    void sharedBucketStaysFastAndAdmitsNoMoreThanItsBudget() throws InterruptedException {
+        run(thread -> 1L, "/analytics/category-summary", WARMUP_CALLS_PER_THREAD, new AtomicLong());
+        // Fresh buckets, so that the warm-up calls do not count against the budget
+        setUp();
+        AtomicLong allowed = new AtomicLong();
+        long start = System.nanoTime();
+        LatencyStats stats = run(thread -> 1L, "/analytics/category-summary", CALLS_PER_THREAD, allowed);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("tryAcquire, {} threads, one shared bucket: {} ({} allowed in {} s)",
+            THREADS, stats.summary(), allowed.get(), String.format("%.2f", elapsedSeconds));
+        assertThat(stats.percentile(99)).isLessThan(MAX_P99_NANOS);
+        // The burst plus one token per second of refill, however the CAS races play out
+        assertThat(allowed.get()).isLessThanOrEqualTo(20 + (long) Math.ceil(elapsedSeconds) + 1);
+    }
+
+    private LatencyStats run(IntFunction<Long> userOfThread, String path, int calls, AtomicLong allowed)
+            throws InterruptedException {
+        LatencyStats total = new LatencyStats(THREADS * calls);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            Long userId = userOfThread.apply(t);
+            Thread thread = new Thread(() -> {
+                LatencyStats stats = new LatencyStats(calls);
+                long admitted = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < calls; i++) {
+                    long before = System.nanoTime();
+                    TokenBucketRateLimiter.Decision decision = limiter.tryAcquire(userId, path);
+                    stats.record(System.nanoTime() - before);
+                    if (decision.allowed()) {
+                        admitted++;
+                    }
+                }
+                allowed.addAndGet(admitted);
+                total.addAll(stats);
+            }, "limiter-benchmark-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return total;
+    }
+
+    private static RateLimitProperties.Budget budget(int capacity, double refillPerSecond, List<String> paths) {
+        RateLimitProperties.Budget budget = new RateLimitProperties.Budget();
+        budget.setCapacity(capacity);
+        budget.setRefillPerSecond(refillPerSecond);
+        budget.setPaths(new ArrayList<>(paths));
+        return budget;
+    }
+
+}
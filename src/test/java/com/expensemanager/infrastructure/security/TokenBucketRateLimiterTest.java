@@ -0,0 +1,57 @@
+package com.expensemanager.infrastructure.security;
+
+import com.expensemanager.infrastructure.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final int CAPACITY = 5;
+
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(properties());
+
+    @Test
+    void newBucketAllowsExactlyItsCapacityWhenNanoTimeIsNegative() {
+        assertBurst(-TimeUnit.DAYS.toNanos(3));
+    }
+
+    @Test
+    void newBucketAllowsExactlyItsCapacityWhenNanoTimeIsFarFromZero() {
+        assertBurst(TimeUnit.DAYS.toNanos(300));
+    }
+
+    @Test
+    void bucketRefillsAcrossTheNanoTimeWrap() {
+        long now = Long.MAX_VALUE - TimeUnit.MILLISECONDS.toNanos(500);
+        assertBurst(now);
+
+        TokenBucketRateLimiter.Decision refilled = limiter.tryAcquire(1L, "/expenses", now + TimeUnit.SECONDS.toNanos(1));
+        assertThat(refilled.allowed()).isTrue();
+    }
+
+    private void assertBurst(long now) {
+        for (int i = 0; i < CAPACITY; i++) {
+            TokenBucketRateLimiter.Decision decision = limiter.tryAcquire(1L, "/expenses", now);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(CAPACITY - 1 - i);
+        }
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire(1L, "/expenses", now);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Budget budget = new RateLimitProperties.Budget();
+        budget.setCapacity(CAPACITY);
+        budget.setRefillPerSecond(1);
+        budget.setPaths(List.of());
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getClasses().put(RateLimitProperties.DEFAULT_CLASS, budget);
+        return properties;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.expensemanager.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Inserts users and expenses straight through JDBC, for benchmarks that need more rows than the
+ * service layer writes in reasonable time. The fingerprint and unusual flag are left at their
+ * defaults and no change events are published.
+ */
+public final class ExpenseSeeder {
+
+    /**
+     * Tags of the search datasets; {@link #createTags} gives the {@code n}th of them bit {@code n}.
+     */
+    public static final List<String> SEARCH_TAGS = List.of("work", "travel", "team", "refund");
+
+    /**
+     * First expense date of the search datasets.
+     */
+    public static final LocalDate SEARCH_FIRST_DAY = LocalDate.of(2022, 1, 1);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExpenseSeeder(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Creates an active user with an unusable password and returns its id.
+     */
+    public long createUser(String username) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (username, email, password, role, is_active, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'USER', TRUE, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            statement.setString(1, username);
+            statement.setString(2, username + "@example.com");
+            statement.setString(3, "{noop}unused");
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            return statement;
+        }, keys);
+        return Objects.requireNonNull(keys.getKeys()).values().stream()
+            .map(Number.class::cast)
+            .findFirst()
+            .orElseThrow()
+            .longValue();
+    }
+
+    /**
+     * Creates tags for a user with bits in list order, so that seeded tag masks can be random bits
+     * below {@code 1 << names.size()}.
+     */
+    public void createTags(long userId, List<String> names) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(names.size());
+        for (int bit = 0; bit < names.size(); bit++) {
+            batch.add(new Object[] {userId, names.get(bit), bit, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_tags (user_id, name, bit, created_at) VALUES (?, ?, ?, ?)", batch);
+    }
+
+    /**
+     * Inserts the rows for a user in batches.
+     */
+    public void insertExpenses(long userId, List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (Row row : rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE))) {
+                batch.add(new Object[] {
+                    userId, row.amount(), row.category(), row.description(), Date.valueOf(row.expenseDate()),
+                    row.tagMask(), now, now
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO expenses (user_id, amount, category, description, expense_date, unusual, tag_mask, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?)",
+                batch);
+        }
+    }
+
+    /**
+     * One expense to insert; {@code category} is the enum name and {@code tagMask} holds bits of
+     * tags that already exist for the user.
+     */
+    public record Row(BigDecimal amount, String category, String description, LocalDate expenseDate, long tagMask) {
+    }
+
+}
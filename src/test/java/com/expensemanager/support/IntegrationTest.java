@@ -0,0 +1,28 @@
+package com.expensemanager.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A {@link SpringBootTest} on the {@code test} profile, with the warm-up off and SQL and debug
+ * logging quieted so that seeded datasets do not flood the build output. Tests that need more
+ * properties add a {@code @TestPropertySource}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = {
+    "app.warmup.enabled=false",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate=WARN",
+    "logging.level.[com.expensemanager]=INFO"
+})
+@ActiveProfiles("test")
+public @interface IntegrationTest {
+}
@@ -0,0 +1,61 @@
+package com.expensemanager.support;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of a benchmark, in nanoseconds. Not thread-safe; give each thread its own and
+ * {@link #addAll merge} them afterwards.
+ */
+public final class LatencyStats {
+
+    private long[] samples;
+    private int size;
+
+    public LatencyStats(int expectedSamples) {
+        this.samples = new long[Math.max(16, expectedSamples)];
+    }
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized void addAll(LatencyStats other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public int count() {
+        return size;
+    }
+
+    /**
+     * The sample at a percentile, e.g. {@code 99.0}; sorts the samples.
+     */
+    public long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(samples, 0, size);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return samples[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    public double mean() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += samples[i];
+        }
+        return size == 0 ? 0 : (double) total / size;
+    }
+
+    public String summary() {
+        return String.format("n=%d mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+            size, mean() / 1_000, percentile(50) / 1_000.0, percentile(99) / 1_000.0,
+            percentile(99.9) / 1_000.0, percentile(100) / 1_000.0);
+    }
+
+}